@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks: an in-memory H2
+ * database (a distinct one per factory, so that forks and parameter combinations
+ * never see each other's data) with the {@link Author}/{@link Book} model.
+ */
+public final class BenchmarkSessionFactory {
+
+	public static final int BOOKS_PER_AUTHOR = 10;
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build() {
+		return build( new HashMap<>() );
+	}
+
+	public static SessionFactoryImplementor build(Map<String, Object> settings) {
+		final Map<String, Object> allSettings = new HashMap<>();
+		allSettings.put(
+				AvailableSettings.JAKARTA_JDBC_URL,
+				"jdbc:h2:mem:bench_" + UUID.randomUUID().toString().replace( '-', '_' ) + ";DB_CLOSE_DELAY=-1"
+		);
+		allSettings.put( AvailableSettings.JAKARTA_JDBC_USER, "sa" );
+		allSettings.put( AvailableSettings.JAKARTA_JDBC_PASSWORD, "" );
+		allSettings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		allSettings.put( AvailableSettings.SHOW_SQL, false );
+		allSettings.put( AvailableSettings.GENERATE_STATISTICS, false );
+		allSettings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, false );
+		allSettings.putAll( settings );
+
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySettings( allSettings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code books} books, spread over {@code books / BOOKS_PER_AUTHOR} authors.
+	 */
+	public static void populate(SessionFactory sessionFactory, int books) {
+		final int authors = Math.max( 1, books / BOOKS_PER_AUTHOR );
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( long a = 1; a <= authors; a++ ) {
+				session.insert( author( a ) );
+			}
+			for ( long b = 1; b <= books; b++ ) {
+				session.insert( book( b, new Author( ( b % authors ) + 1, null, 0 ) ) );
+			}
+		} );
+	}
+
+	public static Author author(long id) {
+		return new Author( id, "Author #" + id, 1900 + (int) ( id % 100 ) );
+	}
+
+	public static Book book(long id, Author author) {
+		return new Book(
+				id,
+				"Title #" + id,
+				"978-" + id,
+				BigDecimal.valueOf( 1000 + id % 5000, 2 ),
+				LocalDate.of( 2000, 1, 1 ).plusDays( id % 7000 ),
+				100 + (int) ( id % 900 ),
+				author
+		);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Flush of a session holding {@link #managedEntities} managed entities, of which
+ * {@link #dirtyEntities} are modified before each flush.  Dominated by
+ * {@code DefaultFlushEntityEventListener} dirty-checking every entry of the
+ * persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlushDirtyCheckBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int managedEntities;
+
+	@Param({ "0", "1", "100" })
+	public int dirtyEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private int counter;
+
+	@Setup
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		final int round = counter++;
+		for ( int i = 0; i < dirtyEntities; i++ ) {
+			books.get( ( round * dirtyEntities + i ) % books.size() ).setTitle( "Title #" + round );
+		}
+		session.flush();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * HQL parsing (ANTLR + {@code SemanticQueryBuilder}) compared to a hit in the
+ * {@link QueryInterpretationCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HqlInterpretationBenchmark {
+
+	@Param({ "simple", "join", "projection" })
+	public String shape;
+
+	private SessionFactoryImplementor sessionFactory;
+	private HqlTranslator translator;
+	private QueryInterpretationCache interpretationCache;
+	private String hql;
+
+	@Setup
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		translator = sessionFactory.getQueryEngine().getHqlTranslator();
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		switch ( shape ) {
+			case "simple":
+				hql = "from Book b where b.id = :id";
+				break;
+			case "join":
+				hql = "select b from Book b join fetch b.author a where a.name like :name and b.pages > :pages order by b.title";
+				break;
+			case "projection":
+				hql = "select new org.hibernate.orm.benchmark.model.BookSummary(b.id, b.title, b.price) from Book b"
+						+ " where b.published between :start and :end and b.author.birthYear in (:years)";
+				break;
+			default:
+				throw new IllegalArgumentException( shape );
+		}
+		// populate the cache for the hit benchmark
+		interpretationCache.resolveHqlInterpretation( hql, Object.class, translator );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement<?> parse() {
+		return translator.translate( hql, Object.class );
+	}
+
+	@Benchmark
+	public HqlInterpretation<?> interpretationCacheHit() {
+		return interpretationCache.resolveHqlInterpretation( hql, Object.class, translator );
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Persist and flush of interleaved {@code Author}/{@code Book} inserts, with and without
+ * {@value AvailableSettings#ORDER_INSERTS}, exercising the {@code ActionQueue} insert
+ * sorting and JDBC batching.  The transaction is rolled back so every invocation
+ * starts from the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertOrderingBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean orderInserts;
+
+	@Param({ "100" })
+	public int authors;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build( Map.of(
+				AvailableSettings.ORDER_INSERTS, orderInserts,
+				AvailableSettings.STATEMENT_BATCH_SIZE, 50
+		) );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				long bookId = 1;
+				for ( long a = 1; a <= authors; a++ ) {
+					final Author author = BenchmarkSessionFactory.author( a );
+					session.persist( author );
+					for ( int b = 0; b < BenchmarkSessionFactory.BOOKS_PER_AUTHOR; b++ ) {
+						session.persist( BenchmarkSessionFactory.book( bookId++, author ) );
+					}
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.orm.benchmark.model.BookSummary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Row processing in {@code JdbcSelectExecutorStandardImpl}, i.e. {@code StandardRowReader}
+ * and the initializers ({@code EntityInitializerImpl} for the entity shapes).
+ * <p>
+ * Divide {@code gc.alloc.rate.norm} by {@link #rows} to get the allocation per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RowProcessingBenchmark {
+
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, rows );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Book> entitiesJoinFetch() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "from Book b join fetch b.author", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Book> entitiesStateless() {
+		return sessionFactory.fromStatelessSession(
+				session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select b.id, b.title, b.price, b.pages from Book b", Object[].class )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Long> singleScalar() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select b.id from Book b", Long.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<BookSummary> dto() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery(
+						"select new org.hibernate.orm.benchmark.model.BookSummary(b.id, b.title, b.price) from Book b",
+						BookSummary.class
+				).getResultList()
+		);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Second-level cache put/get of entity data through the read-write
+ * {@code AbstractReadWriteAccess} strategy, both directly on the
+ * {@link EntityDataAccess} and end-to-end through {@code Session#find}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecondLevelCacheBenchmark {
+
+	@Param({ "1000" })
+	public int entries;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityDataAccess access;
+	private Object[] keys;
+	private Object[] cacheEntries;
+	private int counter;
+
+	@Setup
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build( Map.of(
+				AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+				AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName()
+		) );
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Author.class );
+		access = persister.getCacheAccessStrategy();
+		session = (SessionImplementor) sessionFactory.openSession();
+		keys = new Object[entries];
+		cacheEntries = new Object[entries];
+		for ( int i = 0; i < entries; i++ ) {
+			final Author author = BenchmarkSessionFactory.author( i + 1 );
+			final CacheEntry entry = persister.buildCacheEntry( author, persister.getValues( author ), null, session );
+			keys[i] = access.generateCacheKey( author.getId(), persister, sessionFactory, null );
+			cacheEntries[i] = persister.getCacheEntryStructure().structure( entry );
+		}
+		sessionFactory.inStatelessTransaction( s -> {
+			for ( int i = 1; i <= entries; i++ ) {
+				s.insert( BenchmarkSessionFactory.author( i ) );
+			}
+		} );
+		sessionFactory.inTransaction( s -> {
+			// warm the cache through the regular load path
+			for ( long i = 1; i <= entries; i++ ) {
+				s.find( Author.class, i );
+			}
+		} );
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object get() {
+		return access.get( session, keys[next()] );
+	}
+
+	@Benchmark
+	public boolean evictAndPutFromLoad() {
+		final int i = next();
+		access.evict( keys[i] );
+		return access.putFromLoad( session, keys[i], cacheEntries[i], null );
+	}
+
+	@Benchmark
+	public Author findCached() {
+		final long id = next() + 1;
+		return sessionFactory.fromSession( s -> s.find( Author.class, id ) );
+	}
+
+	private int next() {
+		final int i = counter++ % entries;
+		return i < 0 ? i + entries : i;
+	}
+}
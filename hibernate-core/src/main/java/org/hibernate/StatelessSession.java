@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -98,6 +100,22 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records, as if by calling {@link #insert(Object)}
+	 * for each of the given instances, but executing the resulting SQL
+	 * statements as a JDBC batch.
+	 * <p>
+	 * If no {@linkplain #setJdbcBatchSize JDBC batch size} was specified,
+	 * the size of the batch is the number of given instances. In any case,
+	 * all statements have been executed when this method returns.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
 	/**
 	 * Update a record.
 	 * <p>
@@ -119,6 +137,20 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Update multiple records, as if by calling {@link #update(Object)}
+	 * for each of the given instances, but executing the resulting SQL
+	 * statements as a JDBC batch.
+	 *
+	 * @param entities a list of detached instances to be updated
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
 	/**
 	 * Delete a record.
 	 * <p>
@@ -140,6 +172,20 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Delete multiple records, as if by calling {@link #delete(Object)}
+	 * for each of the given instances, but executing the resulting SQL
+	 * statements as a JDBC batch.
+	 *
+	 * @param entities a list of detached instances to be deleted
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
 	/**
 	 * Use a SQL {@code merge into} statement to perform an upsert,
 	 * that is, to insert the record if it does not exist, or update
@@ -218,6 +264,24 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple records, using as few SQL queries as possible.
+	 * <p>
+	 * The returned list has the same size as the given list of ids, and
+	 * each position holds the detached instance with the id at the same
+	 * position of the given list, or {@code null} if there is no record
+	 * with that id.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return a list of detached entity instances, in the order of the given ids
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Retrieve a record, fetching associations specified by the
 	 * given {@link EntityGraph}.
@@ -84,6 +84,11 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 		return state;
 	}
 
+	@Override
+	protected Object[] getAffectedNaturalIds() {
+		return new Object[] { getPersister().getNaturalIdMapping().extractNaturalIdFromEntityState( state ) };
+	}
+
 	/**
 	 * Does this insert action need to be executed as soon as possible
 	 * (e.g., to generate an ID)?
@@ -6,6 +6,10 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
@@ -17,6 +21,15 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.getKeyableNaturalIdAttribute;
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.hasKeyableId;
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.idSpace;
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.isKeyableValue;
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.naturalIdSpace;
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.withBulkSpaces;
+
 /**
  * Base class for actions relating to insert/update/delete of an entity
  * instance.
@@ -138,6 +151,46 @@ public abstract class EntityAction
 		return persister.getPropertySpaces();
 	}
 
+	/**
+	 * The spaces affected by this action when the query cache is invalidated
+	 * {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION
+	 * by entity key}: the tables of the entity along with the key spaces of the
+	 * entity, or along with the bulk spaces of the tables when the keys of the
+	 * entity are unknown or cannot name a key space.
+	 */
+	public String[] getKeyBasedQuerySpaces() {
+		final Object id = getId();
+		if ( !hasKeyableId( persister ) || !isKeyableValue( id ) ) {
+			return withBulkSpaces( getPropertySpaces() );
+		}
+		final String[] propertySpaces = persister.getPropertySpaces();
+		final List<String> spaces = new ArrayList<>( propertySpaces.length + 3 );
+		Collections.addAll( spaces, propertySpaces );
+		spaces.add( idSpace( persister, id ) );
+		if ( getKeyableNaturalIdAttribute( persister ) != null ) {
+			final Object[] naturalIds = getAffectedNaturalIds();
+			if ( naturalIds == null ) {
+				return withBulkSpaces( getPropertySpaces() );
+			}
+			for ( Object naturalId : naturalIds ) {
+				if ( naturalId != null ) {
+					spaces.add( naturalIdSpace( persister, naturalId ) );
+				}
+			}
+		}
+		return spaces.toArray( new String[0] );
+	}
+
+	/**
+	 * The values of the natural identifier of the entity before and after this
+	 * action, or {@code null} if they are unknown.
+	 *
+	 * @see #getKeyBasedQuerySpaces()
+	 */
+	protected Object @Nullable [] getAffectedNaturalIds() {
+		return null;
+	}
+
 	@Override
 	public void beforeExecutions() {
 		throw new AssertionFailure( "beforeExecutions() called for non-collection action" );
@@ -98,6 +98,13 @@ public class EntityDeleteAction extends EntityAction {
 		return state;
 	}
 
+	@Override
+	protected Object[] getAffectedNaturalIds() {
+		return state == null
+				? null
+				: new Object[] { getPersister().getNaturalIdMapping().extractNaturalIdFromEntityState( state ) };
+	}
+
 	protected Object getNaturalIdValues() {
 		return naturalIdValues;
 	}
@@ -126,6 +126,13 @@ public class EntityUpdateAction extends EntityAction {
 		return previousState;
 	}
 
+	@Override
+	protected Object[] getAffectedNaturalIds() {
+		return previousState == null && previousNaturalIdValues == null
+				? null
+				: new Object[] { naturalIdMapping.extractNaturalIdFromEntityState( state ), previousNaturalIdValues };
+	}
+
 	protected Object getNextVersion() {
 		return nextVersion;
 	}
@@ -15,7 +15,9 @@ import org.hibernate.query.spi.QueryEngine;
 
 /**
  * Responsible for triggering {@linkplain QueryEngine#validateNamedQueries()
- * named query validation} when the {@link SessionFactory} is created.
+ * named query validation} when the {@link SessionFactory} is created, and
+ * for {@linkplain org.hibernate.query.spi.QueryInterpretationCache#warmUp
+ * warming up} the query interpretation cache.
  *
  * @implNote This was added in order to clean up the constructor of
  *           {@link org.hibernate.internal.SessionFactoryImpl}, which
@@ -38,5 +40,6 @@ class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObs
 		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
 			queryEngine.validateNamedQueries();
 		}
+		queryEngine.getInterpretationCache().warmUp( sessionFactory );
 	}
 }
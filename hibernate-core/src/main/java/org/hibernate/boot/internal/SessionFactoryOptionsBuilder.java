@@ -57,6 +57,7 @@ import org.hibernate.jpa.spi.MutableJpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
+import org.hibernate.query.QueryPlanCacheType;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.NullPrecedence;
@@ -74,11 +75,13 @@ import org.hibernate.type.format.jackson.JacksonIntegration;
 import org.hibernate.type.format.jakartajson.JakartaJsonIntegration;
 import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
+import static org.hibernate.cfg.AvailableSettings.AUTO_FETCH;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
@@ -108,8 +111,10 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_SPACE_AWARE_AUTO_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
@@ -128,10 +133,14 @@ import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_KEY_BASED_INVALIDATION;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_KEY_SPACES;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.CacheSettings.USE_BINARY_CACHE_ENTRIES;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_TYPE;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.internal.CoreLogging.messageLogger;
 import static org.hibernate.internal.log.DeprecationLogger.DEPRECATION_LOGGER;
@@ -156,6 +165,11 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private static final CoreMessageLogger log = messageLogger( SessionFactoryOptionsBuilder.class );
 
+	/**
+	 * The default batch size when {@value org.hibernate.cfg.AvailableSettings#AUTO_FETCH} is enabled
+	 */
+	private static final int AUTO_FETCH_BATCH_SIZE = 16;
+
 	private final String uuid = LocalObjectUuidHelper.generateLocalObjectUuid();
 	private final StandardServiceRegistry serviceRegistry;
 
@@ -176,6 +190,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean jtaTransactionAccessEnabled;
 	private boolean allowOutOfTransactionUpdateOperations;
 	private boolean releaseResourcesOnCloseEnabled;
+	private final boolean persistenceContextOpenAddressingEnabled;
 	private boolean allowRefreshDetachedEntity;
 
 	// (JTA) transaction handling
@@ -201,6 +216,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private final boolean adaptiveBatchFetchEnabled;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
 	private NullPrecedence defaultNullPrecedence;
@@ -238,10 +254,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheKeyBasedInvalidationEnabled;
+	private int queryCacheKeySpaces;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean binaryCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -262,6 +281,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean criteriaCopyTreeEnabled;
 	private final boolean nativeJdbcParametersIgnored;
 	private final ImmutableEntityUpdateQueryHandlingMode immutableEntityUpdateQueryHandlingMode;
+	private final QueryPlanCacheType queryPlanCacheType;
 	// These two settings cannot be modified from the builder,
 	// in order to maintain consistency.
 	// Indeed, other components (the schema tools) also make use of these settings,
@@ -274,6 +294,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private JpaCompliance jpaCompliance;
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
+	private final boolean querySpaceAwareAutoFlushEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
@@ -379,8 +400,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
-		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
-		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
+		final boolean autoFetch = getBoolean( AUTO_FETCH, configurationSettings );
+		this.defaultBatchFetchSize =
+				getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, autoFetch ? AUTO_FETCH_BATCH_SIZE : -1 );
+		this.adaptiveBatchFetchEnabled = getBoolean( ADAPTIVE_BATCH_FETCH, configurationSettings );
+		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings, autoFetch );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 
 		final Object defaultNullPrecedence = configurationSettings.get( DEFAULT_NULL_ORDERING );
@@ -466,6 +490,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 					CacheLayout.FULL
 			);
+			this.queryCacheKeyBasedInvalidationEnabled =
+					configurationService.getSetting( QUERY_CACHE_KEY_BASED_INVALIDATION, BOOLEAN, false );
+			this.queryCacheKeySpaces = getInt( QUERY_CACHE_KEY_SPACES, configurationSettings, 1024 );
+			if ( queryCacheKeySpaces < 1 ) {
+				throw new IllegalArgumentException( "Configuration property " + QUERY_CACHE_KEY_SPACES + " must be positive" );
+			}
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -481,6 +511,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.binaryCacheEntriesEnabled = configurationService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -492,10 +523,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.queryCacheLayout = CacheLayout.AUTO;
+			this.queryCacheKeyBasedInvalidationEnabled = false;
+			this.queryCacheKeySpaces = 1024;
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.binaryCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -559,6 +593,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings
 		);
 
+		this.persistenceContextOpenAddressingEnabled = getBoolean(
+				PERSISTENCE_CONTEXT_OPEN_ADDRESSING,
+				configurationSettings
+		);
+
 		Object jdbcTimeZoneValue = configurationSettings.get(
 				JDBC_TIME_ZONE
 		);
@@ -600,10 +639,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings
 		);
 
+		this.querySpaceAwareAutoFlushEnabled = getBoolean(
+				QUERY_SPACE_AWARE_AUTO_FLUSH,
+				configurationSettings
+		);
+
 		this.immutableEntityUpdateQueryHandlingMode = ImmutableEntityUpdateQueryHandlingMode.interpret(
 				configurationSettings.get( IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE )
 		);
 
+		this.queryPlanCacheType = QueryPlanCacheType.interpret(
+				configurationSettings.get( QUERY_PLAN_CACHE_TYPE )
+		);
+
 		this.defaultCatalog = getString( DEFAULT_CATALOG, configurationSettings );
 		this.defaultSchema = getString( DEFAULT_SCHEMA, configurationSettings );
 
@@ -910,6 +958,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return releaseResourcesOnCloseEnabled;
 	}
 
+	@Override
+	public boolean isPersistenceContextOpenAddressingEnabled() {
+		return persistenceContextOpenAddressingEnabled;
+	}
+
 	@Override
 	public Object getBeanManagerReference() {
 		return beanManagerReference;
@@ -1035,6 +1088,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1095,6 +1153,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheKeyBasedInvalidationEnabled() {
+		return queryCacheKeyBasedInvalidationEnabled;
+	}
+
+	@Override
+	public int getQueryCacheKeySpaces() {
+		return queryCacheKeySpaces;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1115,6 +1183,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1240,6 +1313,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.failOnPaginationOverCollectionFetchEnabled;
 	}
 
+	@Override
+	public boolean isQuerySpaceAwareAutoFlushEnabled() {
+		return this.querySpaceAwareAutoFlushEnabled;
+	}
+
 	@Override
 	public boolean inClauseParameterPaddingEnabled() {
 		return this.inClauseParameterPaddingEnabled;
@@ -1250,6 +1328,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return portableIntegerDivisionEnabled;
 	}
 
+	@Override
+	public QueryPlanCacheType getQueryPlanCacheType() {
+		return queryPlanCacheType;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -29,6 +29,7 @@ import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.QueryPlanCacheType;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy;
@@ -184,6 +185,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -244,6 +250,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isReleaseResourcesOnCloseEnabled();
 	}
 
+	@Override
+	public boolean isPersistenceContextOpenAddressingEnabled() {
+		return delegate.isPersistenceContextOpenAddressingEnabled();
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return delegate.isSecondLevelCacheEnabled();
@@ -259,6 +270,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheKeyBasedInvalidationEnabled() {
+		return delegate.isQueryCacheKeyBasedInvalidationEnabled();
+	}
+
+	@Override
+	public int getQueryCacheKeySpaces() {
+		return delegate.getQueryCacheKeySpaces();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -279,6 +300,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -408,6 +434,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isFailOnPaginationOverCollectionFetchEnabled();
 	}
 
+	@Override
+	public boolean isQuerySpaceAwareAutoFlushEnabled() {
+		return delegate.isQuerySpaceAwareAutoFlushEnabled();
+	}
+
 	@Override
 	public ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
 		return delegate.getImmutableEntityUpdateQueryHandlingMode();
@@ -433,6 +464,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isPortableIntegerDivisionEnabled();
 	}
 
+	@Override
+	public QueryPlanCacheType getQueryPlanCacheType() {
+		return delegate.getQueryPlanCacheType();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
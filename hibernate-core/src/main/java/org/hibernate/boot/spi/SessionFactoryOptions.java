@@ -30,6 +30,7 @@ import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.QueryPlanCacheType;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.hibernate.stat.Statistics;
@@ -145,6 +146,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	boolean isSubselectFetchEnabled();
@@ -170,6 +181,26 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isQueryCacheKeyBasedInvalidationEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_SPACES
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default int getQueryCacheKeySpaces() {
+		return 1024;
+	}
+
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
 	String getCacheRegionPrefix();
@@ -178,6 +209,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -221,6 +262,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isReleaseResourcesOnCloseEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isPersistenceContextOpenAddressingEnabled() {
+		return false;
+	}
+
 	TimeZone getJdbcTimeZone();
 
 	/**
@@ -248,6 +299,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isFailOnPaginationOverCollectionFetchEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_SPACE_AWARE_AUTO_FLUSH
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isQuerySpaceAwareAutoFlushEnabled() {
+		return false;
+	}
+
 	default ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
 		return ImmutableEntityUpdateQueryHandlingMode.WARNING;
 	}
@@ -287,6 +348,14 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_TYPE
+	 */
+	@Override
+	default QueryPlanCacheType getQueryPlanCacheType() {
+		return QueryPlanCacheType.STANDARD;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
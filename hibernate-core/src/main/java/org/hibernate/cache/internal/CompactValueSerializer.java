@@ -0,0 +1,433 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+/**
+ * Compact binary serialization of cached values, used by the {@link OffHeapRegionFactory}
+ * and by {@link org.hibernate.cache.spi.entry.BinaryCacheEntry}.
+ * <p>
+ * Cache entries, the disassembled state they hold, and the JDK types which most
+ * commonly make up this state, are written with a one byte tag followed by a
+ * minimal encoding of their contents.  Any other {@link Serializable} value is
+ * written using Java serialization.
+ */
+public final class CompactValueSerializer {
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BYTE_ARRAY = 11;
+	private static final byte OBJECT_ARRAY = 12;
+	private static final byte SERIALIZABLE_ARRAY = 13;
+	private static final byte UNFETCHED_PROPERTY = 14;
+	private static final byte STANDARD_CACHE_ENTRY = 15;
+	private static final byte COLLECTION_CACHE_ENTRY = 16;
+	private static final byte READ_WRITE_ITEM = 17;
+	private static final byte SERIALIZED = 18;
+
+	private CompactValueSerializer() {
+	}
+
+	/**
+	 * Serialize the given value.
+	 *
+	 * @return The serialized form, or {@code null} if the value is not serializable
+	 */
+	public static byte[] serialize(Object value) {
+		final Output output = new Output();
+		try {
+			writeValue( value, output );
+		}
+		catch (SerializationException e) {
+			return null;
+		}
+		return output.toByteArray();
+	}
+
+	public static Object deserialize(byte[] bytes) {
+		final Input input = new Input( bytes );
+		final Object value = readValue( input );
+		assert input.position == bytes.length;
+		return value;
+	}
+
+	/**
+	 * Write the given value, preceded by a tag identifying its type.
+	 *
+	 * @throws SerializationException if the value is not serializable
+	 */
+	public static void writeValue(Object value, Output output) {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED_PROPERTY );
+		}
+		else {
+			final Class<?> valueClass = value.getClass();
+			if ( valueClass == Boolean.class ) {
+				output.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( valueClass == Integer.class ) {
+				output.writeByte( INTEGER );
+				output.writeVarLong( (Integer) value );
+			}
+			else if ( valueClass == Long.class ) {
+				output.writeByte( LONG );
+				output.writeVarLong( (Long) value );
+			}
+			else if ( valueClass == Short.class ) {
+				output.writeByte( SHORT );
+				output.writeVarLong( (Short) value );
+			}
+			else if ( valueClass == Byte.class ) {
+				output.writeByte( BYTE );
+				output.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Float.class ) {
+				output.writeByte( FLOAT );
+				output.writeInt( Float.floatToIntBits( (Float) value ) );
+			}
+			else if ( valueClass == Double.class ) {
+				output.writeByte( DOUBLE );
+				output.writeLong( Double.doubleToLongBits( (Double) value ) );
+			}
+			else if ( valueClass == Character.class ) {
+				output.writeByte( CHARACTER );
+				output.writeVarLong( (Character) value );
+			}
+			else if ( valueClass == String.class ) {
+				output.writeByte( STRING );
+				output.writeString( (String) value );
+			}
+			else if ( valueClass == byte[].class ) {
+				output.writeByte( BYTE_ARRAY );
+				output.writeBytes( (byte[]) value );
+			}
+			else if ( valueClass == Object[].class ) {
+				output.writeByte( OBJECT_ARRAY );
+				writeElements( (Object[]) value, output );
+			}
+			else if ( valueClass == Serializable[].class ) {
+				output.writeByte( SERIALIZABLE_ARRAY );
+				writeElements( (Object[]) value, output );
+			}
+			else if ( valueClass == StandardCacheEntryImpl.class ) {
+				final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+				output.writeByte( STANDARD_CACHE_ENTRY );
+				output.writeString( entry.getSubclass() );
+				writeValue( entry.getVersion(), output );
+				writeElements( entry.getDisassembledState(), output );
+			}
+			else if ( valueClass == CollectionCacheEntry.class ) {
+				output.writeByte( COLLECTION_CACHE_ENTRY );
+				writeElements( ( (CollectionCacheEntry) value ).getState(), output );
+			}
+			else if ( valueClass == AbstractReadWriteAccess.Item.class ) {
+				final AbstractReadWriteAccess.Item item = (AbstractReadWriteAccess.Item) value;
+				output.writeByte( READ_WRITE_ITEM );
+				output.writeVarLong( item.getTimestamp() );
+				writeValue( item.getVersion(), output );
+				writeValue( item.getValue(), output );
+			}
+			else if ( value instanceof Serializable ) {
+				output.writeByte( SERIALIZED );
+				output.writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+			}
+			else {
+				throw new SerializationException( "Value of type " + valueClass.getName() + " is not serializable", null );
+			}
+		}
+	}
+
+	private static void writeElements(Object[] elements, Output output) {
+		output.writeVarLong( elements.length );
+		for ( Object element : elements ) {
+			writeValue( element, output );
+		}
+	}
+
+	/**
+	 * Read a value written by {@link #writeValue}
+	 */
+	public static Object readValue(Input input) {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case INTEGER:
+				return (int) input.readVarLong();
+			case LONG:
+				return input.readVarLong();
+			case SHORT:
+				return (short) input.readVarLong();
+			case BYTE:
+				return input.readByte();
+			case FLOAT:
+				return Float.intBitsToFloat( input.readInt() );
+			case DOUBLE:
+				return Double.longBitsToDouble( input.readLong() );
+			case CHARACTER:
+				return (char) input.readVarLong();
+			case STRING:
+				return input.readString();
+			case BYTE_ARRAY:
+				return input.readBytes();
+			case OBJECT_ARRAY:
+				return readElements( new Object[input.readLength()], input );
+			case SERIALIZABLE_ARRAY:
+				return readElements( new Serializable[input.readLength()], input );
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case STANDARD_CACHE_ENTRY: {
+				final String subclass = input.readString();
+				final Object version = readValue( input );
+				final Serializable[] state = readElements( new Serializable[input.readLength()], input );
+				return new StandardCacheEntryImpl( state, subclass, version );
+			}
+			case COLLECTION_CACHE_ENTRY:
+				return new CollectionCacheEntry( readElements( new Serializable[input.readLength()], input ) );
+			case READ_WRITE_ITEM: {
+				final long timestamp = input.readVarLong();
+				final Object version = readValue( input );
+				return new AbstractReadWriteAccess.Item( readValue( input ), version, timestamp );
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( input.readBytes() );
+			default:
+				throw new IllegalStateException( "Unexpected tag in serialized cache value: " + tag );
+		}
+	}
+
+	private static <T> T[] readElements(T[] elements, Input input) {
+		for ( int i = 0; i < elements.length; i++ ) {
+			//noinspection unchecked
+			elements[i] = (T) readValue( input );
+		}
+		return elements;
+	}
+
+	/**
+	 * A growable buffer for writing the binary representation of values
+	 */
+	public static final class Output {
+		private byte[] buffer = new byte[256];
+		private int position;
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+			}
+		}
+
+		public void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		public void writeInt(int value) {
+			ensureCapacity( Integer.BYTES );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		public void writeLong(long value) {
+			ensureCapacity( Long.BYTES );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		/**
+		 * Write a zig-zag encoded variable-length integer, occupying a single
+		 * byte for values between -64 and 63
+		 */
+		public void writeVarLong(long value) {
+			long zigzag = ( value << 1 ) ^ ( value >> 63 );
+			ensureCapacity( 10 );
+			while ( ( zigzag & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( zigzag & 0x7F ) | 0x80 );
+				zigzag >>>= 7;
+			}
+			buffer[position++] = (byte) zigzag;
+		}
+
+		public void writeBytes(byte[] bytes) {
+			writeVarLong( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		/**
+		 * Write a string with each of its chars encoded independently, as by
+		 * UTF-8 for chars other than surrogates, and as three bytes for each
+		 * surrogate, so that any string, even one with unpaired surrogates,
+		 * is read back unchanged
+		 */
+		public void writeString(String value) {
+			final int length = value.length();
+			int encodedLength = length;
+			for ( int i = 0; i < length; i++ ) {
+				final char c = value.charAt( i );
+				if ( c >= 0x80 ) {
+					encodedLength += c >= 0x800 ? 2 : 1;
+				}
+			}
+			writeVarLong( encodedLength );
+			ensureCapacity( encodedLength );
+			for ( int i = 0; i < length; i++ ) {
+				final char c = value.charAt( i );
+				if ( c < 0x80 ) {
+					buffer[position++] = (byte) c;
+				}
+				else if ( c < 0x800 ) {
+					buffer[position++] = (byte) ( 0xC0 | c >> 6 );
+					buffer[position++] = (byte) ( 0x80 | c & 0x3F );
+				}
+				else {
+					buffer[position++] = (byte) ( 0xE0 | c >> 12 );
+					buffer[position++] = (byte) ( 0x80 | c >> 6 & 0x3F );
+					buffer[position++] = (byte) ( 0x80 | c & 0x3F );
+				}
+			}
+		}
+
+		public byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	/**
+	 * Reads the binary representation of values written to an {@link Output}
+	 */
+	public static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		public Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		public byte readByte() {
+			return buffer[position++];
+		}
+
+		public int readInt() {
+			int value = 0;
+			for ( int i = 0; i < Integer.BYTES; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		public long readLong() {
+			long value = 0;
+			for ( int i = 0; i < Long.BYTES; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		public long readVarLong() {
+			long zigzag = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				zigzag |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( ( b & 0x80 ) != 0 );
+			return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+		}
+
+		/**
+		 * Read the length of an array or a string, which can't exceed the
+		 * number of remaining bytes, since each element takes at least one
+		 *
+		 * @throws IndexOutOfBoundsException if the input is corrupted
+		 */
+		public int readLength() {
+			final long length = readVarLong();
+			if ( length < 0 || length > buffer.length - position ) {
+				throw new IndexOutOfBoundsException( "Invalid length in serialized cache value: " + length );
+			}
+			return (int) length;
+		}
+
+		public byte[] readBytes() {
+			final int length = readLength();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		/**
+		 * Read a string written by {@link Output#writeString}
+		 *
+		 * @throws IndexOutOfBoundsException if the input is corrupted
+		 */
+		public String readString() {
+			final int end = readLength() + position;
+			final char[] chars = new char[end - position];
+			int length = 0;
+			while ( position < end ) {
+				final int b = buffer[position++] & 0xFF;
+				if ( b < 0x80 ) {
+					chars[length++] = (char) b;
+				}
+				else if ( ( b & 0xE0 ) == 0xC0 && position < end ) {
+					chars[length++] = (char) ( ( b & 0x1F ) << 6 | continuation() );
+				}
+				else if ( ( b & 0xF0 ) == 0xE0 && position + 1 < end ) {
+					chars[length++] = (char) ( ( b & 0x0F ) << 12 | continuation() << 6 | continuation() );
+				}
+				else {
+					throw new IndexOutOfBoundsException( "Invalid string in serialized cache value" );
+				}
+			}
+			return new String( chars, 0, length );
+		}
+
+		private int continuation() {
+			final int b = buffer[position++];
+			if ( ( b & 0xC0 ) != 0x80 ) {
+				throw new IndexOutOfBoundsException( "Invalid string in serialized cache value" );
+			}
+			return b & 0x3F;
+		}
+
+		/**
+		 * Whether every byte of the input was read
+		 */
+		public boolean isExhausted() {
+			return position == buffer.length;
+		}
+	}
+}
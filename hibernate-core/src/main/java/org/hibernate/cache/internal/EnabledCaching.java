@@ -34,6 +34,7 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.CacheSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -44,6 +45,8 @@ import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -70,6 +73,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final TimestampsCache timestampsCache;
 
 	private final QueryResultsCache defaultQueryResultsCache;
+	private final long loadTimeout;
+	private final long staleWhileRevalidate;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
 
@@ -84,6 +89,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 						.requireService( RegionFactory.class );
 		this.regionFactory.start( sessionFactory.getSessionFactoryOptions(), sessionFactory.getProperties() );
 
+		final Map<String, Object> properties = sessionFactory.getProperties();
+		this.loadTimeout = getLong( CacheSettings.QUERY_CACHE_LOAD_TIMEOUT, properties, 0 );
+		this.staleWhileRevalidate = getLong( CacheSettings.QUERY_CACHE_STALE_WHILE_REVALIDATE, properties, 0 );
+
 		if ( getSessionFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			final TimestampsRegion timestampsRegion = regionFactory.buildTimestampsRegion(
 					RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
@@ -101,7 +110,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					loadTimeout,
+					staleWhileRevalidate
 			);
 		}
 		else {
@@ -550,7 +561,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				loadTimeout,
+				staleWhileRevalidate
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
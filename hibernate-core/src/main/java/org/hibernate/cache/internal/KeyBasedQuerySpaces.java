@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Internal;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Names the additional spaces of the {@linkplain org.hibernate.cache.spi.TimestampsCache
+ * timestamps cache} used for
+ * {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION key based}
+ * invalidation of cached query results:
+ * <ul>
+ * <li>a <em>bulk space</em> per table, which is invalidated by every change to the
+ *     table which is not made by an action on a single entity with a known key, and
+ * <li>a fixed number of <em>key spaces</em> per entity for its identifiers, and as many
+ *     for its natural identifiers, each key being hashed into one of them, which are
+ *     invalidated by every insert, update, or delete of an entity with a key they hold.
+ * </ul>
+ * The number of key spaces, and so of timestamps, is bounded, as set by
+ * {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_SPACES}, so that a timestamps
+ * region large enough for them never evicts them.  A missing timestamp would otherwise
+ * let stale results through.
+ * A query restricted to given keys of a single entity is up-to-date when none of
+ * these spaces was invalidated since its results were cached, whatever the changes
+ * to other entities stored in the same tables.
+ * <p>
+ * Only keys with a canonical string representation are supported, that is integral
+ * numbers and UUIDs, so that the value bound to a query parameter and the value held
+ * by the entity name the same space.  Strings are not supported, since under a case
+ * insensitive or a padding collation the database may match a key which differs from
+ * the bound value.
+ */
+@Internal
+public final class KeyBasedQuerySpaces {
+
+	private KeyBasedQuerySpaces() {
+	}
+
+	/**
+	 * The bulk space of the given table
+	 */
+	public static String bulkSpace(String space) {
+		return space + "#";
+	}
+
+	/**
+	 * The given spaces along with their bulk spaces
+	 */
+	public static String[] withBulkSpaces(String[] spaces) {
+		final String[] result = new String[spaces.length * 2];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			result[i] = spaces[i];
+			result[spaces.length + i] = bulkSpace( spaces[i] );
+		}
+		return result;
+	}
+
+	/**
+	 * The bulk spaces of the given tables
+	 */
+	public static List<String> bulkSpaces(Collection<String> spaces) {
+		final List<String> result = new ArrayList<>( spaces.size() );
+		for ( String space : spaces ) {
+			result.add( bulkSpace( space ) );
+		}
+		return result;
+	}
+
+	/**
+	 * The key space of the entity with the given identifier
+	 */
+	public static String idSpace(EntityPersister persister, Object id) {
+		return persister.getRootEntityName() + "#" + bucket( persister, id );
+	}
+
+	/**
+	 * The key space of the entity with the given natural identifier
+	 */
+	public static String naturalIdSpace(EntityPersister persister, Object naturalId) {
+		return persister.getRootEntityName() + "#natural-id#" + bucket( persister, naturalId );
+	}
+
+	private static int bucket(EntityPersister persister, Object key) {
+		// hash the canonical string representation, so that a key bound to
+		// a query parameter as an Integer falls into the same space as the
+		// Long identifier of the entity
+		return Math.floorMod(
+				key.toString().hashCode(),
+				persister.getFactory().getSessionFactoryOptions().getQueryCacheKeySpaces()
+		);
+	}
+
+	/**
+	 * Does the entity have an identifier which may name a key space?
+	 */
+	public static boolean hasKeyableId(EntityPersister persister) {
+		final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+		return identifierMapping instanceof BasicEntityIdentifierMapping
+				&& isKeyableType( identifierMapping.getJavaType().getJavaTypeClass() );
+	}
+
+	/**
+	 * The single basic attribute forming the natural identifier of the entity, if it
+	 * may name a key space
+	 */
+	public static @Nullable AttributeMapping getKeyableNaturalIdAttribute(EntityPersister persister) {
+		final NaturalIdMapping naturalIdMapping = persister.getNaturalIdMapping();
+		if ( naturalIdMapping != null && naturalIdMapping.getNaturalIdAttributes().size() == 1 ) {
+			final AttributeMapping attribute = naturalIdMapping.getNaturalIdAttributes().get( 0 );
+			if ( attribute instanceof BasicValuedModelPart
+					&& isKeyableType( attribute.getJavaType().getJavaTypeClass() ) ) {
+				return attribute;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Is the given value of a type which may name a key space?
+	 */
+	public static boolean isKeyableValue(Object value) {
+		return value != null && isKeyableType( value.getClass() );
+	}
+
+	private static boolean isKeyableType(Class<?> type) {
+		return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+				|| type == long.class || type == int.class || type == short.class || type == byte.class
+				|| type == BigInteger.class || type == UUID.class;
+	}
+}
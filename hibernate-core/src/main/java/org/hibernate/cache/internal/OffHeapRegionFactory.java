@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationException;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_CACHE_MAX_SIZE;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps the data of the
+ * entity, collection, natural-id and query result regions in direct memory,
+ * outside the Java heap, so that large caches do not add to the live set of
+ * the old generation, and to the duration of garbage collection pauses.
+ * <p>
+ * The memory used by each region is bounded by
+ * {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_CACHE_MAX_SIZE}, and the
+ * entries to evict are chosen by a W-TinyLFU policy, as described by
+ * {@link OffHeapStore}.  The values are stored in the compact binary format of
+ * {@link CompactValueSerializer}.
+ * <p>
+ * The timestamps region is kept on the heap: it is small, and must never be
+ * subject to eviction.
+ *
+ * @since 6.6
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum number of bytes of direct memory used per region
+	 */
+	public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+	private long defaultMaxSize = DEFAULT_MAX_SIZE;
+	private final Map<String, Long> regionMaxSizes = new HashMap<>();
+	private final int concurrencyLevel = Runtime.getRuntime().availableProcessors() * 2;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		defaultMaxSize = parseSize( OFF_HEAP_CACHE_MAX_SIZE, configValues.get( OFF_HEAP_CACHE_MAX_SIZE ) );
+
+		final String regionSettingPrefix = OFF_HEAP_CACHE_MAX_SIZE + '.';
+		for ( Map.Entry<String, Object> entry : configValues.entrySet() ) {
+			final String settingName = entry.getKey();
+			if ( settingName.startsWith( regionSettingPrefix ) ) {
+				regionMaxSizes.put(
+						settingName.substring( regionSettingPrefix.length() ),
+						parseSize( settingName, entry.getValue() )
+				);
+			}
+		}
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		regionMaxSizes.clear();
+		defaultMaxSize = DEFAULT_MAX_SIZE;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createOffHeapStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createOffHeapStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private OffHeapStorageAccess createOffHeapStorageAccess(String regionName) {
+		final Long maxSize = regionMaxSizes.get( regionName );
+		return new OffHeapStorageAccess(
+				new OffHeapStore( maxSize == null ? defaultMaxSize : maxSize, concurrencyLevel )
+		);
+	}
+
+	/**
+	 * Parse a number of bytes, optionally followed by a {@code KB}, {@code MB}
+	 * or {@code GB} suffix
+	 */
+	private static long parseSize(String settingName, Object value) {
+		if ( value == null ) {
+			return DEFAULT_MAX_SIZE;
+		}
+		if ( value instanceof Number ) {
+			return ( (Number) value ).longValue();
+		}
+
+		final String size = value.toString().trim().toUpperCase( Locale.ROOT );
+		final long unit;
+		final String amount;
+		if ( size.endsWith( "GB" ) ) {
+			unit = 1024L * 1024 * 1024;
+			amount = size.substring( 0, size.length() - 2 );
+		}
+		else if ( size.endsWith( "MB" ) ) {
+			unit = 1024L * 1024;
+			amount = size.substring( 0, size.length() - 2 );
+		}
+		else if ( size.endsWith( "KB" ) ) {
+			unit = 1024L;
+			amount = size.substring( 0, size.length() - 2 );
+		}
+		else {
+			unit = 1L;
+			amount = size;
+		}
+
+		try {
+			return Long.parseLong( amount.trim() ) * unit;
+		}
+		catch (NumberFormatException e) {
+			throw new ConfigurationException( "Invalid size given for setting '" + settingName + "': " + value, e );
+		}
+	}
+
+	/**
+	 * Unbounded storage on the heap, since evicting the timestamp of a table
+	 * space would result in stale query results being considered up-to-date
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final ConcurrentHashMap<Object, Object> data = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return data.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			data.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+			data.clear();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess impl which serializes the cached values into an {@link OffHeapStore}.
+ * <p>
+ * {@linkplain CacheEntry#isReferenceEntry() Reference entries}, and values which
+ * cannot be serialized, are held on the heap instead.
+ *
+ * @see OffHeapRegionFactory
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final OffHeapStore store;
+
+	public OffHeapStorageAccess(OffHeapStore store) {
+		this.store = store;
+	}
+
+	public OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object value = store.get( key );
+		return value instanceof byte[]
+				? CompactValueSerializer.deserialize( (byte[]) value )
+				: value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( value instanceof CacheEntry && ( (CacheEntry) value ).isReferenceEntry() ) {
+			store.putReference( key, value );
+		}
+		else {
+			final byte[] serialized = CompactValueSerializer.serialize( value );
+			if ( serialized == null ) {
+				store.putReference( key, value );
+			}
+			else {
+				store.putSerialized( key, serialized );
+			}
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return store.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void release() {
+		store.release();
+	}
+}
@@ -0,0 +1,505 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.internal.util.collections.FrequencySketch;
+
+/**
+ * A size-bounded map whose keys are held on the heap, but whose (serialized)
+ * values are held in direct memory, outside the Java heap.
+ * <p>
+ * The store is split into segments, each guarded by its own lock.  Each segment
+ * allocates direct memory lazily, in chunks which are divided into blocks of
+ * {@value #BLOCK_SIZE} bytes, and a value occupies a chain of such blocks.  The
+ * memory of a segment is therefore never fragmented, and its capacity is simply
+ * a number of blocks.
+ * <p>
+ * Eviction follows the W-TinyLFU policy: new entries are added to a small LRU
+ * <em>window</em>, and an entry leaving the window is only admitted to the
+ * <em>main</em> LRU area if it was used more frequently than the entry which
+ * would have to be evicted to make room for it, as estimated by a
+ * {@link FrequencySketch}.  This protects popular entries from being flushed
+ * by scans over entries which are used only once.
+ */
+public class OffHeapStore {
+	/**
+	 * The size of the blocks in which direct memory is allocated to values
+	 */
+	public static final int BLOCK_SIZE = 128;
+
+	// each block begins with the index of the next block of the same value
+	private static final int BLOCK_PAYLOAD_SIZE = BLOCK_SIZE - Integer.BYTES;
+	private static final int BLOCKS_PER_CHUNK = 8 * 1024;
+	private static final int NO_BLOCK = -1;
+
+	// segments smaller than this would evict entries rather arbitrarily
+	private static final int MIN_BLOCKS_PER_SEGMENT = 1024;
+	// the share of the capacity of a segment reserved for the admission window
+	private static final int WINDOW_PERCENTAGE = 1;
+
+	private final long maxSize;
+	private final Segment[] segments;
+	private final int segmentMask;
+
+	/**
+	 * @param maxSize The maximum number of bytes of direct memory used for values
+	 * @param concurrencyLevel The number of threads expected to access the store concurrently
+	 */
+	public OffHeapStore(long maxSize, int concurrencyLevel) {
+		if ( maxSize < BLOCK_SIZE ) {
+			throw new IllegalArgumentException( "Maximum size of off-heap store must be at least " + BLOCK_SIZE + " bytes" );
+		}
+		this.maxSize = maxSize;
+
+		int segmentCount = 1;
+		while ( segmentCount < concurrencyLevel
+				&& maxSize / ( segmentCount * 2L ) >= (long) MIN_BLOCKS_PER_SEGMENT * BLOCK_SIZE ) {
+			segmentCount <<= 1;
+		}
+		final int blocksPerSegment = (int) Math.min( Integer.MAX_VALUE, maxSize / segmentCount / BLOCK_SIZE );
+
+		this.segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( blocksPerSegment );
+		}
+		this.segmentMask = segmentCount - 1;
+	}
+
+	/**
+	 * The maximum number of bytes of direct memory used for values
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Get the value associated with the given key.
+	 *
+	 * @return A copy of the serialized value as a {@code byte[]}, the value itself
+	 * if it was {@linkplain #putReference stored by reference}, or {@code null}
+	 */
+	public Object get(Object key) {
+		final int hash = hash( key );
+		return segmentFor( hash ).get( key, hash );
+	}
+
+	public boolean containsKey(Object key) {
+		final int hash = hash( key );
+		return segmentFor( hash ).containsKey( key );
+	}
+
+	/**
+	 * Associate the given serialized value with the given key.  The value might
+	 * not be admitted, or evict other entries, according to the eviction policy.
+	 */
+	public void putSerialized(Object key, byte[] value) {
+		final int hash = hash( key );
+		segmentFor( hash ).put( key, hash, value, null );
+	}
+
+	/**
+	 * Associate the given value, which cannot be serialized, with the given key.
+	 * The value is kept on the heap, but counts against the capacity of the store
+	 * as if it occupied a single block.
+	 */
+	public void putReference(Object key, Object value) {
+		final int hash = hash( key );
+		segmentFor( hash ).put( key, hash, null, value );
+	}
+
+	public void remove(Object key) {
+		final int hash = hash( key );
+		segmentFor( hash ).remove( key );
+	}
+
+	/**
+	 * Remove all entries, retaining the direct memory already allocated
+	 */
+	public void clear() {
+		for ( Segment segment : segments ) {
+			segment.clear( false );
+		}
+	}
+
+	/**
+	 * Remove all entries, and drop all references to the direct memory, so that
+	 * it may be reclaimed
+	 */
+	public void release() {
+		for ( Segment segment : segments ) {
+			segment.clear( true );
+		}
+	}
+
+	/**
+	 * The number of entries in the store
+	 */
+	public long getElementCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.getElementCount();
+		}
+		return count;
+	}
+
+	/**
+	 * The number of bytes of direct memory occupied by the values in the store
+	 */
+	public long getOffHeapSize() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += (long) segment.getUsedBlocks() * BLOCK_SIZE;
+		}
+		return size;
+	}
+
+	private Segment segmentFor(int hash) {
+		return segments[( hash >>> 16 ) & segmentMask];
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		h ^= h >>> 16;
+		h *= 0x45d9f3b;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	private static int blocksFor(int length) {
+		return Math.max( 1, ( length + BLOCK_PAYLOAD_SIZE - 1 ) / BLOCK_PAYLOAD_SIZE );
+	}
+
+	private static final class Node {
+		private final Object key;
+		private final int hash;
+		private final int weight;
+
+		private int firstBlock = NO_BLOCK;
+		private int length;
+		private Object reference;
+
+		private boolean inMain;
+		private Node previous;
+		private Node next;
+
+		private Node(Object key, int hash, int weight) {
+			this.key = key;
+			this.hash = hash;
+			this.weight = weight;
+		}
+
+		private boolean isLinked() {
+			return previous != null;
+		}
+	}
+
+	private static final class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final HashMap<Object, Node> index = new HashMap<>();
+		private final FrequencySketch sketch;
+
+		// the most recently used entries follow the sentinel, the least recently used precede it
+		private final Node window = sentinel();
+		private final Node main = sentinel();
+		private final int windowCapacity;
+		private final int mainCapacity;
+		private int windowWeight;
+		private int mainWeight;
+
+		private final int capacity;
+		private ByteBuffer[] chunks;
+		private int allocatedBlocks;
+		private int usedBlocks;
+		private int freeBlock = NO_BLOCK;
+
+		private Segment(int capacity) {
+			this.capacity = capacity;
+			this.windowCapacity = Math.max( 1, (int) ( (long) capacity * WINDOW_PERCENTAGE / 100 ) );
+			this.mainCapacity = capacity - windowCapacity;
+			this.chunks = new ByteBuffer[( capacity + BLOCKS_PER_CHUNK - 1 ) / BLOCKS_PER_CHUNK];
+			// assume that a typical value occupies a few blocks
+			this.sketch = new FrequencySketch( capacity / 4 );
+		}
+
+		private static Node sentinel() {
+			final Node sentinel = new Node( null, 0, 0 );
+			sentinel.previous = sentinel;
+			sentinel.next = sentinel;
+			return sentinel;
+		}
+
+		private Object get(Object key, int hash) {
+			lock.lock();
+			try {
+				sketch.increment( hash );
+				final Node node = index.get( key );
+				if ( node == null ) {
+					return null;
+				}
+				unlink( node );
+				linkFirst( node.inMain ? main : window, node );
+				return node.reference != null ? node.reference : read( node );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean containsKey(Object key) {
+			lock.lock();
+			try {
+				return index.containsKey( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(Object key, int hash, byte[] value, Object reference) {
+			final int weight = value == null ? 1 : blocksFor( value.length );
+			lock.lock();
+			try {
+				final Node existing = index.remove( key );
+				if ( existing != null ) {
+					discard( existing );
+				}
+
+				sketch.increment( hash );
+				if ( weight > mainCapacity ) {
+					// the value could never be admitted to the main area
+					return;
+				}
+
+				final Node node = new Node( key, hash, weight );
+				index.put( key, node );
+				linkFirst( window, node );
+				windowWeight += weight;
+				evict();
+
+				if ( node.isLinked() ) {
+					// the new entry survived eviction, and there is now room for it
+					if ( value == null ) {
+						node.reference = reference;
+					}
+					else {
+						node.firstBlock = allocate( weight );
+						node.length = value.length;
+						write( node.firstBlock, value );
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(Object key) {
+			lock.lock();
+			try {
+				final Node node = index.remove( key );
+				if ( node != null ) {
+					discard( node );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void clear(boolean releaseMemory) {
+			lock.lock();
+			try {
+				index.clear();
+				window.previous = window.next = window;
+				main.previous = main.next = main;
+				windowWeight = 0;
+				mainWeight = 0;
+				allocatedBlocks = 0;
+				usedBlocks = 0;
+				freeBlock = NO_BLOCK;
+				sketch.clear();
+				if ( releaseMemory ) {
+					chunks = new ByteBuffer[chunks.length];
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int getElementCount() {
+			lock.lock();
+			try {
+				return index.size();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int getUsedBlocks() {
+			lock.lock();
+			try {
+				return usedBlocks;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Move entries from the window to the main area, until the window is within
+		 * its capacity, evicting either the candidate or the least recently used
+		 * entries of the main area, whichever was used less frequently.
+		 */
+		private void evict() {
+			while ( windowWeight > windowCapacity ) {
+				final Node candidate = window.previous;
+				unlink( candidate );
+				windowWeight -= candidate.weight;
+				candidate.inMain = true;
+				linkFirst( main, candidate );
+				mainWeight += candidate.weight;
+
+				while ( mainWeight > mainCapacity ) {
+					final Node victim = main.previous;
+					if ( victim == candidate || sketch.frequency( candidate.hash ) <= sketch.frequency( victim.hash ) ) {
+						evict( candidate );
+						break;
+					}
+					evict( victim );
+				}
+			}
+		}
+
+		private void evict(Node node) {
+			index.remove( node.key );
+			discard( node );
+		}
+
+		private void discard(Node node) {
+			unlink( node );
+			if ( node.inMain ) {
+				mainWeight -= node.weight;
+			}
+			else {
+				windowWeight -= node.weight;
+			}
+			if ( node.firstBlock != NO_BLOCK ) {
+				free( node.firstBlock );
+				node.firstBlock = NO_BLOCK;
+			}
+			node.reference = null;
+		}
+
+		private static void linkFirst(Node sentinel, Node node) {
+			node.previous = sentinel;
+			node.next = sentinel.next;
+			sentinel.next.previous = node;
+			sentinel.next = node;
+		}
+
+		private static void unlink(Node node) {
+			node.previous.next = node.next;
+			node.next.previous = node.previous;
+			node.previous = null;
+			node.next = null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// block management
+
+		private int allocate(int numberOfBlocks) {
+			final int first = takeBlock();
+			int previous = first;
+			for ( int i = 1; i < numberOfBlocks; i++ ) {
+				final int block = takeBlock();
+				setNextBlock( previous, block );
+				previous = block;
+			}
+			setNextBlock( previous, NO_BLOCK );
+			usedBlocks += numberOfBlocks;
+			return first;
+		}
+
+		private int takeBlock() {
+			if ( freeBlock != NO_BLOCK ) {
+				final int block = freeBlock;
+				freeBlock = nextBlock( block );
+				return block;
+			}
+
+			assert allocatedBlocks < capacity;
+			final int block = allocatedBlocks++;
+			final int chunkIndex = block / BLOCKS_PER_CHUNK;
+			if ( chunks[chunkIndex] == null ) {
+				final int blocksInChunk = Math.min( BLOCKS_PER_CHUNK, capacity - chunkIndex * BLOCKS_PER_CHUNK );
+				chunks[chunkIndex] = ByteBuffer.allocateDirect( blocksInChunk * BLOCK_SIZE );
+			}
+			return block;
+		}
+
+		private void free(int firstBlock) {
+			int block = firstBlock;
+			while ( block != NO_BLOCK ) {
+				final int next = nextBlock( block );
+				setNextBlock( block, freeBlock );
+				freeBlock = block;
+				usedBlocks--;
+				block = next;
+			}
+		}
+
+		private void write(int firstBlock, byte[] value) {
+			int block = firstBlock;
+			int position = 0;
+			while ( position < value.length ) {
+				final int length = Math.min( BLOCK_PAYLOAD_SIZE, value.length - position );
+				final ByteBuffer chunk = chunkOf( block );
+				chunk.position( offsetOf( block ) + Integer.BYTES );
+				chunk.put( value, position, length );
+				position += length;
+				block = nextBlock( block );
+			}
+		}
+
+		private byte[] read(Node node) {
+			final byte[] value = new byte[node.length];
+			int block = node.firstBlock;
+			int position = 0;
+			while ( position < value.length ) {
+				final int length = Math.min( BLOCK_PAYLOAD_SIZE, value.length - position );
+				final ByteBuffer chunk = chunkOf( block );
+				chunk.position( offsetOf( block ) + Integer.BYTES );
+				chunk.get( value, position, length );
+				position += length;
+				block = nextBlock( block );
+			}
+			return value;
+		}
+
+		private int nextBlock(int block) {
+			return chunkOf( block ).getInt( offsetOf( block ) );
+		}
+
+		private void setNextBlock(int block, int next) {
+			chunkOf( block ).putInt( offsetOf( block ), next );
+		}
+
+		private ByteBuffer chunkOf(int block) {
+			return chunks[block / BLOCKS_PER_CHUNK];
+		}
+
+		private static int offsetOf(int block) {
+			return ( block % BLOCKS_PER_CHUNK ) * BLOCK_SIZE;
+		}
+	}
+}
@@ -10,15 +10,25 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -35,11 +45,33 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
 
+	private final long loadTimeout;
+	private final long staleWhileRevalidate;
+	private final long reloadExpiry;
+	// the queries being executed to repopulate the cache, if misses are coordinated
+	private final ConcurrentMap<QueryKey, Reload> reloads;
+
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
 			TimestampsCache timestampsCache) {
+		this( cacheRegion, timestampsCache, 0, 0 );
+	}
+
+	/**
+	 * @param loadTimeout see {@link org.hibernate.cfg.CacheSettings#QUERY_CACHE_LOAD_TIMEOUT}
+	 * @param staleWhileRevalidate see {@link org.hibernate.cfg.CacheSettings#QUERY_CACHE_STALE_WHILE_REVALIDATE}
+	 */
+	QueryResultsCacheImpl(
+			QueryResultsRegion cacheRegion,
+			TimestampsCache timestampsCache,
+			long loadTimeout,
+			long staleWhileRevalidate) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.loadTimeout = loadTimeout;
+		this.staleWhileRevalidate = staleWhileRevalidate;
+		this.reloadExpiry = Math.max( loadTimeout, staleWhileRevalidate );
+		this.reloads = reloadExpiry > 0 ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -60,7 +92,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				// columnar results are immutable, so need no copy
+				results instanceof ColumnarCachedResults ? results : deepCopy( results )
 		);
 
 		final EventManager eventManager = session.getEventManager();
@@ -78,6 +111,12 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 					EventManager.CacheActionDescription.QUERY_RESULT
 			);
 			session.getEventListenerManager().cachePutEnd();
+			if ( reloads != null ) {
+				final Reload reload = reloads.remove( key );
+				if ( reload != null ) {
+					reload.complete();
+				}
+			}
 		}
 
 		return true;
@@ -92,6 +131,55 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			final QueryKey key,
 			final Set<String> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, spaces, false, session );
+	}
+
+	@Override
+	public List<?> get(
+			final QueryKey key,
+			final Set<String> spaces,
+			final boolean putOnMiss,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		// No need to copy results, since consumers will never mutate
+		return get(
+				key,
+				cacheItem -> timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ),
+				putOnMiss,
+				session
+		);
+	}
+
+	@Override
+	public List<?> get(
+			final QueryKey key,
+			final String[] spaces,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		final List<?> results = get(
+				key,
+				cacheItem -> timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ),
+				false,
+				session
+		);
+		return results == null ? null : deepCopy( results );
+	}
+
+	@Override
+	public void abandonPut(QueryKey key, SharedSessionContractImplementor session) {
+		if ( reloads != null ) {
+			final Reload reload = reloads.get( key );
+			if ( reload != null
+					&& reload.sessionIdentifier.equals( session.getSessionIdentifier() )
+					&& reloads.remove( key, reload ) ) {
+				reload.complete();
+			}
+		}
+	}
+
+	private List<?> get(
+			final QueryKey key,
+			final Predicate<CacheItem> upToDate,
+			final boolean putOnMiss,
+			final SharedSessionContractImplementor session) {
 		final boolean loggerDebugEnabled = L2CACHE_LOGGER.isDebugEnabled();
 		if ( loggerDebugEnabled ) {
 			L2CACHE_LOGGER.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
@@ -102,54 +190,90 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
 			}
-			return null;
 		}
-
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		else if ( !upToDate.test( cacheItem ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
-			return null;
 		}
-
-		if ( loggerDebugEnabled ) {
-			L2CACHE_LOGGER.debug( "Returning cached query results" );
+		else {
+			if ( loggerDebugEnabled ) {
+				L2CACHE_LOGGER.debug( "Returning cached query results" );
+			}
+			return cacheItem.results;
 		}
 
-		// No need to copy results, since consumers will never mutate
-		return cacheItem.results;
+		return reloads == null ? null : coordinateReload( key, cacheItem, upToDate, putOnMiss, session );
 	}
 
-	@Override
-	public List<?> get(
-			final QueryKey key,
-			final String[] spaces,
-			final SharedSessionContractImplementor session) throws HibernateException {
-		final boolean loggerDebugEnabled = L2CACHE_LOGGER.isDebugEnabled();
-		if ( loggerDebugEnabled ) {
-			L2CACHE_LOGGER.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
+	/**
+	 * Called after a miss, to decide whether this session executes the query,
+	 * or is served the results of another session already executing it.
+	 *
+	 * @param staleItem the cached results which are not up-to-date, if any
+	 * @param putOnMiss whether this session is going to put the results, and so
+	 * may execute the query on behalf of the other sessions
+	 *
+	 * @return the results to return, or {@code null} if this session must execute the query
+	 */
+	private List<?> coordinateReload(
+			QueryKey key,
+			CacheItem staleItem,
+			Predicate<CacheItem> upToDate,
+			boolean putOnMiss,
+			SharedSessionContractImplementor session) {
+		final UUID sessionIdentifier = session.getSessionIdentifier();
+		final Reload reload = putOnMiss ? new Reload( sessionIdentifier ) : null;
+		final Reload currentReload = putOnMiss ? reloads.putIfAbsent( key, reload ) : reloads.get( key );
+		if ( currentReload == null || currentReload.sessionIdentifier.equals( sessionIdentifier ) ) {
+			// this session executes the query, and completes the reload, if any, when it puts the results
+			return null;
 		}
 
-		final CacheItem cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( loggerDebugEnabled ) {
-				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
+		final long elapsed = currentReload.elapsedMillis();
+		if ( elapsed > reloadExpiry ) {
+			// the session executing the query probably failed without abandoning the reload
+			if ( putOnMiss && reloads.replace( key, currentReload, reload ) ) {
+				currentReload.complete();
 			}
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
-			if ( loggerDebugEnabled ) {
-				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( staleItem != null && elapsed < staleWhileRevalidate && mayReturnStaleResults( session ) ) {
+			if ( L2CACHE_LOGGER.isDebugEnabled() ) {
+				L2CACHE_LOGGER.debug( "Returning stale cached query results while the query is executed by another session" );
 			}
-			return null;
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryCacheStaleHit();
+			}
+			return staleItem.results;
 		}
 
-		if ( loggerDebugEnabled ) {
-			L2CACHE_LOGGER.debug( "Returning cached query results" );
+		if ( loadTimeout > 0 && currentReload.await( loadTimeout - elapsed ) ) {
+			final CacheItem cacheItem = getCachedData( key, session );
+			if ( cacheItem != null && upToDate.test( cacheItem ) ) {
+				if ( L2CACHE_LOGGER.isDebugEnabled() ) {
+					L2CACHE_LOGGER.debug( "Returning query results cached by another session" );
+				}
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.queryCacheCoalesced();
+				}
+				return cacheItem.results;
+			}
 		}
+		return null;
+	}
 
-		return deepCopy( cacheItem.results );
+	private static boolean mayReturnStaleResults(SharedSessionContractImplementor session) {
+		// a session which wrote to the database in its current transaction must see its own changes
+		if ( session instanceof SessionImplementor ) {
+			final ActionQueue actionQueue = ( (SessionImplementor) session ).getActionQueue();
+			return !actionQueue.hasQuerySpacesToInvalidate() && !actionQueue.hasAfterTransactionActions();
+		}
+		else {
+			return false;
+		}
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
@@ -177,6 +301,37 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	/**
+	 * The execution of a query by a session, after a miss, to repopulate the cache
+	 */
+	private static class Reload {
+		private final UUID sessionIdentifier;
+		private final long startTime = System.nanoTime();
+		private final CountDownLatch completed = new CountDownLatch( 1 );
+
+		private Reload(UUID sessionIdentifier) {
+			this.sessionIdentifier = sessionIdentifier;
+		}
+
+		private long elapsedMillis() {
+			return TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+		}
+
+		private boolean await(long timeout) {
+			try {
+				return completed.await( timeout, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		private void complete() {
+			completed.countDown();
+		}
+	}
+
 	public static class CacheItem implements Serializable {
 		private final Long timestamp;
 		private final List<?> results;
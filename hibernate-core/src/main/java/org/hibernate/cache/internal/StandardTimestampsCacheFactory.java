@@ -10,6 +10,9 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.CacheSettings;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 
 /**
  * Standard Hibernate implementation of the QueryCacheFactory interface.  Returns instances of
@@ -25,6 +28,12 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		return new TimestampsCacheEnabledImpl(
+				timestampsRegion,
+				getBoolean(
+						CacheSettings.QUERY_CACHE_TRANSACTION_TIMESTAMPS,
+						cacheManager.getSessionFactory().getProperties()
+				)
+		);
 	}
 }
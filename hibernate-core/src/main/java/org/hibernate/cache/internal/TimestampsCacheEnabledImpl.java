@@ -6,7 +6,12 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -31,9 +36,18 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final boolean transactionTimestampsEnabled;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	/**
+	 * @param transactionTimestampsEnabled see {@link org.hibernate.cfg.CacheSettings#QUERY_CACHE_TRANSACTION_TIMESTAMPS}
+	 */
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean transactionTimestampsEnabled) {
 		this.timestampsRegion = timestampsRegion;
+		this.transactionTimestampsEnabled = transactionTimestampsEnabled;
 	}
 
 	@Override
@@ -56,6 +70,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
+		forgetTransactionTimestamps( spaces, session );
 		for ( String space : spaces ) {
 			if ( debugEnabled ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
@@ -96,6 +111,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
+		forgetTransactionTimestamps( spaces, session );
 		for ( String space : spaces ) {
 			if ( debugEnabled ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
@@ -130,29 +146,34 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
 
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( spaces.size() == 1 ) {
+			final String space = spaces.iterator().next();
+			return !isSpaceOutOfDate( space, getLastUpdateTimestampForSpace( space, session ), timestamp );
+		}
+		else {
+			final Map<String, Long> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
+			for ( String space : spaces ) {
+				if ( isSpaceOutOfDate( space, lastUpdates.get( space ), timestamp ) ) {
+					return false;
+				}
 			}
+			return true;
 		}
-
-		return true;
 	}
 
-	private boolean isSpaceOutOfDate(
-			String space,
-			Long timestamp,
-			SharedSessionContractImplementor session,
-			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+	private boolean isSpaceOutOfDate(String space, Long lastUpdate, Long timestamp) {
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.updateTimestampsCacheMiss();
-			}
+			return false;
 		}
 		else {
 			if ( DEBUG_ENABLED ) {
@@ -162,54 +183,121 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 						lastUpdate + ", result set timestamp: " + timestamp
 				);
 			}
+			return lastUpdate >= timestamp;
+		}
+	}
 
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.updateTimestampsCacheHit();
-			}
-
-			//noinspection RedundantIfStatement
-			if ( lastUpdate >= timestamp ) {
-				return true;
-			}
+	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+		final Map<String, Long> transactionTimestamps = getTransactionTimestamps( session );
+		if ( transactionTimestamps != null && transactionTimestamps.containsKey( space ) ) {
+			return transactionTimestamps.get( space );
 		}
 
-		return false;
+		Long ts = null;
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			ts = (Long) timestampsRegion.getFromCache( space, session );
+		}
+		finally {
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					timestampsRegion,
+					ts != null
+			);
+			session.getEventListenerManager().cacheGetEnd( ts != null );
+		}
+		countLookup( ts, session );
+		if ( transactionTimestamps != null ) {
+			transactionTimestamps.put( space, ts );
+		}
+		return ts;
 	}
 
-	@Override
-	public boolean isUpToDate(
+	/**
+	 * Get the last update timestamps of several spaces with a single
+	 * lookup in the region, for the spaces not already read in the
+	 * current transaction
+	 */
+	private Map<String, Long> getLastUpdateTimestampsForSpaces(
 			Collection<String> spaces,
-			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
+		final Map<String, Long> lastUpdates = new HashMap<>();
+		final Map<String, Long> transactionTimestamps = getTransactionTimestamps( session );
+		final List<String> spacesToRead = new ArrayList<>( spaces.size() );
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+			if ( transactionTimestamps != null && transactionTimestamps.containsKey( space ) ) {
+				lastUpdates.put( space, transactionTimestamps.get( space ) );
+			}
+			else {
+				spacesToRead.add( space );
 			}
 		}
+		if ( spacesToRead.isEmpty() ) {
+			return lastUpdates;
+		}
 
-		return true;
-	}
-
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
-		Long ts = null;
+		Map<Object, Object> values = null;
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			values = timestampsRegion.getAllFromCache( spacesToRead, session );
 		}
 		finally {
+			final boolean hit = values != null && !values.isEmpty();
 			eventManager.completeCacheGetEvent(
 					cacheGetEvent,
 					session,
 					timestampsRegion,
-					ts != null
+					hit
 			);
-			session.getEventListenerManager().cacheGetEnd( ts != null );
+			session.getEventListenerManager().cacheGetEnd( hit );
+		}
+		for ( String space : spacesToRead ) {
+			final Long ts = (Long) values.get( space );
+			countLookup( ts, session );
+			lastUpdates.put( space, ts );
+			if ( transactionTimestamps != null ) {
+				transactionTimestamps.put( space, ts );
+			}
+		}
+		return lastUpdates;
+	}
+
+	private static void countLookup(Long ts, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( ts == null ) {
+				statistics.updateTimestampsCacheMiss();
+			}
+			else {
+				statistics.updateTimestampsCacheHit();
+			}
+		}
+	}
+
+	/**
+	 * The timestamps already read in the current transaction, if they may be reused
+	 */
+	private Map<String, Long> getTransactionTimestamps(SharedSessionContractImplementor session) {
+		return transactionTimestampsEnabled && session.isTransactionInProgress()
+				? session.getCacheTransactionSynchronization().getTransactionTimestamps()
+				: null;
+	}
+
+	/**
+	 * Forget the timestamps of spaces written by the session in the current transaction
+	 */
+	private void forgetTransactionTimestamps(String[] spaces, SharedSessionContractImplementor session) {
+		final Map<String, Long> transactionTimestamps = getTransactionTimestamps( session );
+		if ( transactionTimestamps != null ) {
+			for ( String space : spaces ) {
+				transactionTimestamps.remove( space );
+			}
 		}
-		return ts;
 	}
 
 }
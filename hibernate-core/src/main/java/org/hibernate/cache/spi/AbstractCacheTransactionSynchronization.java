@@ -6,12 +6,16 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractCacheTransactionSynchronization implements CacheTransactionSynchronization {
 	private long lastTransactionCompletionTimestamp;
 	private final RegionFactory regionFactory;
+	private Map<String, Long> transactionTimestamps;
 
 	public AbstractCacheTransactionSynchronization(RegionFactory regionFactory) {
 		// prime the timestamp for any non-transactional access - until (if) we
@@ -29,6 +33,7 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 	public final void transactionJoined() {
 		// reset the timestamp
 		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
+		clearTransactionTimestamps();
 	}
 
 	@Override
@@ -40,6 +45,21 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 		// reset the timestamp for any non-transactional access after this
 		// 		point - until (if) we later join a new txn
 //		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
+		clearTransactionTimestamps();
+	}
+
+	@Override
+	public Map<String, Long> getTransactionTimestamps() {
+		if ( transactionTimestamps == null ) {
+			transactionTimestamps = new HashMap<>();
+		}
+		return transactionTimestamps;
+	}
+
+	private void clearTransactionTimestamps() {
+		if ( transactionTimestamps != null ) {
+			transactionTimestamps.clear();
+		}
 	}
 
 }
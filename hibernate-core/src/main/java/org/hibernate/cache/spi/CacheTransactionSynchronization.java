@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Map;
+
+import org.hibernate.Incubating;
+
 /**
  * Defines a context object that a {@link RegionFactory} is asked to create
  * ({@link RegionFactory#createTransactionContext}}) when a Hibernate Session
@@ -101,4 +105,21 @@ public interface CacheTransactionSynchronization {
 	default void transactionResumed() {
 		// nothing to do since it is currently not used/supported
 	}
+
+	/**
+	 * The last update timestamps of query spaces already read from the
+	 * {@link TimestampsRegion} in the current transaction, by space, where
+	 * a {@code null} value means the space had no timestamp.  The map is
+	 * cleared when the owning Session joins and completes a transaction.
+	 *
+	 * @return the mutable map, or {@code null} if not supported
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TRANSACTION_TIMESTAMPS
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default Map<String, Long> getTransactionTimestamps() {
+		return null;
+	}
 }
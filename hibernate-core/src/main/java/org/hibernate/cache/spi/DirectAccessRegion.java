@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,25 @@ public interface DirectAccessRegion extends Region {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the values of several keys at once, which implementations backed by
+	 * a remote store should do in a single round trip.
+	 *
+	 * @return the cached values by key, without the keys which are not cached
+	 *
+	 * @since 6.6
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put a value by key
 	 */
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -101,6 +102,53 @@ public interface QueryResultsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Attempt to retrieve a cached query result list, as
+	 * {@link #get(QueryKey, Set, SharedSessionContractImplementor)} does,
+	 * declaring whether the caller is going to put the results of the
+	 * query after a miss.  Only such a caller may be trusted to repopulate
+	 * the cache for the other sessions missing the same results.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param spaces The query spaces which affect the results of the
+	 *               query (used to check if cached results are stale)
+	 * @param putOnMiss Whether the caller is going to put the results of
+	 *                  the query after a miss
+	 * @param session The originating session
+	 *
+	 * @return The cached results; may be null.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see #abandonPut(QueryKey, SharedSessionContractImplementor)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default List<?> get(
+			QueryKey key,
+			Set<String> spaces,
+			boolean putOnMiss,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, spaces, session );
+	}
+
+	/**
+	 * Called when a session which missed the results of a query, and
+	 * declared it was going to put them, is not going to put them after
+	 * all, for example because the execution of the query failed.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param session The originating session
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default void abandonPut(QueryKey key, SharedSessionContractImplementor session) {
+	}
+
 	/**
 	 * Clear all items from this query result cache.
 	 *
@@ -0,0 +1,547 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.internal.CompactValueSerializer.Input;
+import org.hibernate.cache.internal.CompactValueSerializer.Output;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.SerializationException;
+import org.hibernate.type.Type;
+
+import static org.hibernate.cache.internal.CompactValueSerializer.readValue;
+import static org.hibernate.cache.internal.CompactValueSerializer.writeValue;
+
+/**
+ * Binary CacheEntry format for entities, which writes the disassembled state
+ * into a {@code byte[]}, following a layout derived from the mapping of the entity.
+ * <p>
+ * The layout assigns an encoding to each attribute, in the order of the
+ * attributes of the entity, based on its type.  Attributes of a basic type are
+ * written in a minimal, untagged, form, to-one associations in the form of the
+ * identifier of the associated entity, and embeddables as a nested layout.
+ * Values which are {@code null} are flagged by a bitmap, and values which do not
+ * fit the encoding of their attribute, for example, unfetched lazy attributes,
+ * are flagged by a second bitmap, and written with a type tag.
+ * <p>
+ * Every entry begins with the id of its layout, a 128-bit digest of the entity
+ * name and of the names and encodings of its attributes.  An entry written using
+ * a different layout, for example, by another version of the application sharing
+ * a distributed cache, is never misread: it is treated as a cache miss, as is an
+ * entry whose length does not match its layout.  Two layouts of the same entity
+ * hierarchy with the same id are rejected.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES
+ *
+ * @since 6.6
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 2;
+
+	private final EntityPersister persister;
+	private final ConcurrentHashMap<String, EntityLayout> layoutsByEntityName = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<LayoutId, EntityLayout> layoutsById = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		if ( entry.isReferenceEntry() ) {
+			return item;
+		}
+
+		final EntityLayout layout = layoutsByEntityName.computeIfAbsent( entry.getSubclass(), this::buildLayout );
+		final Output output = new Output();
+		output.writeByte( FORMAT_VERSION );
+		output.writeLong( layout.id.high );
+		output.writeLong( layout.id.low );
+		try {
+			writeValue( entry.getVersion(), output );
+			layout.state.writeElements( entry.getDisassembledState(), output );
+		}
+		catch (SerializationException e) {
+			// some value is not serializable, so just cache the entry as is
+			return item;
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// an entry which could not be written in binary form
+			return structured;
+		}
+
+		final Input input = new Input( (byte[]) structured );
+		final LayoutId layoutId;
+		try {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			layoutId = new LayoutId( input.readLong(), input.readLong() );
+		}
+		catch (IndexOutOfBoundsException e) {
+			// the entry is shorter than its header
+			return null;
+		}
+		final EntityLayout layout = resolveLayout( layoutId );
+		if ( layout == null ) {
+			return null;
+		}
+
+		final Object version;
+		final Serializable[] state;
+		try {
+			version = readValue( input );
+			state = (Serializable[]) layout.state.readElements( input );
+		}
+		catch (RuntimeException e) {
+			// the entry is shorter than its layout, or is corrupted: an unknown
+			// tag, a negative length, or a value which can't be deserialized,
+			// so treat it as a cache miss
+			return null;
+		}
+		if ( !input.isExhausted() ) {
+			// the entry is longer than its layout
+			return null;
+		}
+		return new StandardCacheEntryImpl( state, layout.entityName, version );
+	}
+
+	private EntityLayout resolveLayout(LayoutId id) {
+		final EntityLayout layout = layoutsById.get( id );
+		if ( layout != null ) {
+			return layout;
+		}
+		// the entry might be for a subclass which was not yet cached by this node
+		layoutsByEntityName.computeIfAbsent( persister.getEntityName(), this::buildLayout );
+		for ( EntityMappingType subMappingType : persister.getSubMappingTypes() ) {
+			layoutsByEntityName.computeIfAbsent( subMappingType.getEntityName(), this::buildLayout );
+		}
+		return layoutsById.get( id );
+	}
+
+	private EntityLayout buildLayout(String entityName) {
+		final SessionFactoryImplementor factory = persister.getFactory();
+		final EntityPersister subclassPersister = factory.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityName );
+		final String[] names = subclassPersister.getPropertyNames();
+		final Type[] types = subclassPersister.getPropertyTypes();
+
+		final ValueEncoding[] encodings = new ValueEncoding[types.length];
+		final StringBuilder fingerprint = new StringBuilder( entityName );
+		for ( int i = 0; i < types.length; i++ ) {
+			encodings[i] = encodingFor( types[i], factory );
+			fingerprint.append( ';' ).append( names[i] ).append( ':' ).append( encodings[i].describe() );
+		}
+
+		final EntityLayout layout = new EntityLayout(
+				entityName,
+				fingerprint.toString(),
+				new CompositeEncoding( encodings, true )
+		);
+		final EntityLayout existing = layoutsById.putIfAbsent( layout.id, layout );
+		if ( existing != null && !existing.fingerprint.equals( layout.fingerprint ) ) {
+			throw new IllegalStateException(
+					"Binary cache entry layouts of entities '" + existing.entityName + "' and '" + entityName
+							+ "' have the same id"
+			);
+		}
+		return layout;
+	}
+
+	private static ValueEncoding encodingFor(Type type, SessionFactoryImplementor factory) {
+		if ( type instanceof EntityType ) {
+			// to-one associations are disassembled to the identifier of the associated entity
+			final EntityPersister associatedPersister = factory.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getEntityDescriptor( ( (EntityType) type ).getAssociatedEntityName() );
+			return encodingFor( associatedPersister.getIdentifierType(), factory );
+		}
+		else if ( type instanceof ComponentType ) {
+			final Type[] subtypes = ( (ComponentType) type ).getSubtypes();
+			final ValueEncoding[] encodings = new ValueEncoding[subtypes.length];
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				encodings[i] = encodingFor( subtypes[i], factory );
+			}
+			return new CompositeEncoding( encodings, false );
+		}
+		else if ( type instanceof BasicType ) {
+			return BasicEncoding.forJavaType( type.getReturnedClass() );
+		}
+		else {
+			return BasicEncoding.TAGGED;
+		}
+	}
+
+	private static final class EntityLayout {
+		private final String entityName;
+		private final String fingerprint;
+		private final LayoutId id;
+		private final CompositeEncoding state;
+
+		private EntityLayout(String entityName, String fingerprint, CompositeEncoding state) {
+			this.entityName = entityName;
+			this.fingerprint = fingerprint;
+			this.id = LayoutId.of( fingerprint );
+			this.state = state;
+		}
+	}
+
+	/**
+	 * The first 128 bits of the SHA-256 digest of a layout fingerprint
+	 */
+	private static final class LayoutId {
+		private final long high;
+		private final long low;
+
+		private LayoutId(long high, long low) {
+			this.high = high;
+			this.low = low;
+		}
+
+		private static LayoutId of(String fingerprint) {
+			final byte[] digest;
+			try {
+				digest = MessageDigest.getInstance( "SHA-256" ).digest( fingerprint.getBytes( StandardCharsets.UTF_8 ) );
+			}
+			catch (NoSuchAlgorithmException e) {
+				// every Java platform supports SHA-256
+				throw new IllegalStateException( e );
+			}
+			long high = 0;
+			long low = 0;
+			for ( int i = 0; i < Long.BYTES; i++ ) {
+				high = ( high << 8 ) | ( digest[i] & 0xFF );
+				low = ( low << 8 ) | ( digest[i + Long.BYTES] & 0xFF );
+			}
+			return new LayoutId( high, low );
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			if ( !( object instanceof LayoutId ) ) {
+				return false;
+			}
+			final LayoutId that = (LayoutId) object;
+			return high == that.high && low == that.low;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode( high );
+		}
+	}
+
+	private interface ValueEncoding {
+		/**
+		 * Whether the given (non-null) value can be written using this encoding
+		 */
+		boolean accepts(Object value);
+
+		void write(Object value, Output output);
+
+		Object read(Input input);
+
+		/**
+		 * A description of the encoding, which is part of the layout fingerprint
+		 */
+		String describe();
+	}
+
+	private enum BasicEncoding implements ValueEncoding {
+		BOOLEAN( Boolean.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeByte( (Boolean) value ? 1 : 0 );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readByte() != 0;
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeByte( (Byte) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readByte();
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeVarLong( (Short) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (short) input.readVarLong();
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeVarLong( (Integer) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (int) input.readVarLong();
+			}
+		},
+		LONG( Long.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeVarLong( (Long) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readVarLong();
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeVarLong( (Character) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (char) input.readVarLong();
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeInt( Float.floatToIntBits( (Float) value ) );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return Float.intBitsToFloat( input.readInt() );
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeLong( Double.doubleToLongBits( (Double) value ) );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return Double.longBitsToDouble( input.readLong() );
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			public void write(Object value, Output output) {
+				output.writeString( (String) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readString();
+			}
+		},
+		/**
+		 * Any other value, written along with a tag identifying its type
+		 */
+		TAGGED( Object.class ) {
+			@Override
+			public boolean accepts(Object value) {
+				return true;
+			}
+
+			@Override
+			public void write(Object value, Output output) {
+				writeValue( value, output );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return readValue( input );
+			}
+		};
+
+		private final Class<?> javaType;
+
+		BasicEncoding(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return value.getClass() == javaType;
+		}
+
+		@Override
+		public String describe() {
+			return name();
+		}
+
+		private static BasicEncoding forJavaType(Class<?> javaType) {
+			for ( BasicEncoding encoding : values() ) {
+				if ( encoding.javaType == javaType ) {
+					return encoding;
+				}
+			}
+			if ( javaType.isPrimitive() ) {
+				if ( javaType == boolean.class ) {
+					return BOOLEAN;
+				}
+				else if ( javaType == byte.class ) {
+					return BYTE;
+				}
+				else if ( javaType == short.class ) {
+					return SHORT;
+				}
+				else if ( javaType == int.class ) {
+					return INTEGER;
+				}
+				else if ( javaType == long.class ) {
+					return LONG;
+				}
+				else if ( javaType == char.class ) {
+					return CHARACTER;
+				}
+				else if ( javaType == float.class ) {
+					return FLOAT;
+				}
+				else if ( javaType == double.class ) {
+					return DOUBLE;
+				}
+			}
+			return TAGGED;
+		}
+	}
+
+	/**
+	 * The encoding of an array of values of known length, that is, the state of
+	 * an entity, or of an embeddable
+	 */
+	private static final class CompositeEncoding implements ValueEncoding {
+		private final ValueEncoding[] elements;
+		private final boolean serializableArray;
+
+		private CompositeEncoding(ValueEncoding[] elements, boolean serializableArray) {
+			this.elements = elements;
+			this.serializableArray = serializableArray;
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return value.getClass() == ( serializableArray ? Serializable[].class : Object[].class )
+					&& ( (Object[]) value ).length == elements.length;
+		}
+
+		@Override
+		public void write(Object value, Output output) {
+			writeElements( (Object[]) value, output );
+		}
+
+		@Override
+		public Object read(Input input) {
+			return readElements( input );
+		}
+
+		private void writeElements(Object[] values, Output output) {
+			final byte[] nulls = new byte[( elements.length + 7 ) >> 3];
+			final byte[] escapes = new byte[nulls.length];
+			for ( int i = 0; i < elements.length; i++ ) {
+				final Object value = values[i];
+				if ( value == null ) {
+					nulls[i >> 3] |= (byte) ( 1 << ( i & 7 ) );
+				}
+				else if ( !elements[i].accepts( value ) ) {
+					escapes[i >> 3] |= (byte) ( 1 << ( i & 7 ) );
+				}
+			}
+			for ( int i = 0; i < nulls.length; i++ ) {
+				output.writeByte( nulls[i] );
+				output.writeByte( escapes[i] );
+			}
+
+			for ( int i = 0; i < elements.length; i++ ) {
+				final Object value = values[i];
+				if ( value != null ) {
+					if ( isSet( escapes, i ) ) {
+						writeValue( value, output );
+					}
+					else {
+						elements[i].write( value, output );
+					}
+				}
+			}
+		}
+
+		private Object[] readElements(Input input) {
+			final byte[] nulls = new byte[( elements.length + 7 ) >> 3];
+			final byte[] escapes = new byte[nulls.length];
+			for ( int i = 0; i < nulls.length; i++ ) {
+				nulls[i] = input.readByte();
+				escapes[i] = input.readByte();
+			}
+
+			final Object[] values = serializableArray
+					? new Serializable[elements.length]
+					: new Object[elements.length];
+			for ( int i = 0; i < elements.length; i++ ) {
+				if ( !isSet( nulls, i ) ) {
+					values[i] = isSet( escapes, i )
+							? readValue( input )
+							: elements[i].read( input );
+				}
+			}
+			return values;
+		}
+
+		private static boolean isSet(byte[] bitmap, int i) {
+			return ( bitmap[i >> 3] & ( 1 << ( i & 7 ) ) ) != 0;
+		}
+
+		@Override
+		public String describe() {
+			final StringBuilder description = new StringBuilder( "(" );
+			for ( int i = 0; i < elements.length; i++ ) {
+				if ( i > 0 ) {
+					description.append( ',' );
+				}
+				description.append( elements[i].describe() );
+			}
+			return description.append( ')' ).toString();
+		}
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.cache.spi.entry;
 
 import java.io.Serializable;
 
+import org.hibernate.Internal;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -30,7 +31,14 @@ public class CollectionCacheEntry implements Serializable {
 		this.state = collection.disassemble( persister );
 	}
 
-	CollectionCacheEntry(Serializable state) {
+	/**
+	 * Reconstitutes a CollectionCacheEntry from its disassembled state, as
+	 * needed by cache providers which store entries in their own format.
+	 *
+	 * @param state The disassembled collection state
+	 */
+	@Internal
+	public CollectionCacheEntry(Serializable state) {
 		this.state = state;
 	}
 
@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.Internal;
 import org.hibernate.Interceptor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -58,7 +59,16 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Reconstitutes a StandardCacheEntryImpl from its disassembled state, as
+	 * needed by cache providers which store entries in their own format.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The name of the entity
+	 * @param version The version (if versioned)
+	 */
+	@Internal
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
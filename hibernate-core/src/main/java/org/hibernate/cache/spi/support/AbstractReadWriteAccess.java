@@ -14,6 +14,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.Internal;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -279,7 +280,8 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		@Internal
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -320,6 +322,20 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return value;
 		}
 
+		/**
+		 * The version of the wrapped value, if versioned
+		 */
+		public Object getVersion() {
+			return version;
+		}
+
+		/**
+		 * The timestamp at which the item was created
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,22 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get several items from the cache, without the keys which are not cached.
+	 *
+	 * @since 6.6
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
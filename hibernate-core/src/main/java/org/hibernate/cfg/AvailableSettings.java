@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.jpa.LegacySpecHints;
 import org.hibernate.jpa.SpecHints;
 
@@ -187,6 +188,20 @@ public interface AvailableSettings
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.discard_pc_on_close";
 
+	/**
+	 * When enabled, the persistence context keeps its entities, snapshots, and
+	 * collections, by key, in {@linkplain org.hibernate.internal.util.collections.OpenAddressingMap
+	 * open addressing tables} instead of {@link java.util.HashMap}s. This reduces the memory
+	 * used for each managed entity, which is significant for sessions holding a very
+	 * large number of entities.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_OPEN_ADDRESSING = "hibernate.persistence_context.open_addressing";
+
 	/**
 	 * When enabled, specifies that the generated identifier of an entity is unset
 	 * when the entity is {@linkplain org.hibernate.Session#remove(Object) deleted}.
@@ -35,6 +35,47 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * When enabled, specifies that batched inserts into a single table should be
+	 * coalesced into multi-row {@code insert ... values (...), (...), ...} statements,
+	 * instead of {@linkplain PreparedStatement#addBatch batching} one statement per row.
+	 * <p/>
+	 * Only applies when {@linkplain #STATEMENT_BATCH_SIZE batching} is enabled and the
+	 * Dialect {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert supports}
+	 * a values list in inserts.  The number of rows per statement is further limited by the
+	 * Dialect's {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter limit}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, a {@linkplain #STATEMENT_BATCH_SIZE batch} which is full is
+	 * {@linkplain PreparedStatement#executeBatch executed} by a background thread,
+	 * while the flushing thread goes on preparing the following statements, instead
+	 * of waiting for the database.  The flushing thread waits for the execution to
+	 * complete before it next uses the JDBC connection, so that statements are still
+	 * executed one at a time, in their usual order.
+	 * <p/>
+	 * A failure of the background execution is reported by the next operation of
+	 * the session which uses the connection, usually the end of the flush, and at
+	 * the latest by the commit or rollback of the transaction, which both wait for
+	 * the execution to complete.
+	 * <p/>
+	 * Batches are always executed by the flushing thread when JTA transactions are
+	 * used, since the connection is then bound to the thread of the transaction.
+	 * <p/>
+	 * Batches are executed using virtual threads, when available.  This setting has
+	 * no effect on {@linkplain #MULTI_ROW_INSERTS multi-row inserts}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	String PIPELINED_EXECUTION = "hibernate.jdbc.batch_pipelining";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
@@ -90,6 +90,103 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * The maximum number of milliseconds a session waits for another session
+	 * which is already executing the same cacheable query, after a miss in the
+	 * query cache, instead of executing the query itself.  Only one session at
+	 * a time executes a given query to repopulate the cache, and the other
+	 * sessions are served the results it puts in the cache.
+	 * <p>
+	 * A value of {@code 0} disables the coordination of concurrent misses.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see #QUERY_CACHE_STALE_WHILE_REVALIDATE
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_LOAD_TIMEOUT = "hibernate.cache.query_cache_load_timeout";
+
+	/**
+	 * The maximum number of milliseconds during which cached query results which
+	 * are no longer up-to-date are returned to sessions, while another session
+	 * executes the query to repopulate the cache.  The window starts when that
+	 * session misses in the cache.  Once it has elapsed, sessions wait for the
+	 * results as specified by {@value #QUERY_CACHE_LOAD_TIMEOUT}.
+	 * <p>
+	 * Applications enabling this setting must tolerate query results which do
+	 * not reflect the latest committed changes.  A session is never returned
+	 * stale results after it wrote to the database in its current transaction.
+	 *
+	 * @settingDefault {@code 0}, stale results are never returned
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_STALE_WHILE_REVALIDATE = "hibernate.cache.query_cache_stale_while_revalidate";
+
+	/**
+	 * When enabled, the last update timestamps of query spaces read from the
+	 * {@linkplain org.hibernate.cache.spi.TimestampsRegion timestamps region}
+	 * are remembered until the end of the current transaction, and reused by the
+	 * up-to-date checks of subsequent cached queries of the same session.  The
+	 * timestamps of spaces written by the session are read again.
+	 * <p>
+	 * This saves lookups in a remote cache store, but a cached query may return
+	 * results which do not reflect changes committed by other transactions after
+	 * the current transaction first checked the same query spaces.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_TRANSACTION_TIMESTAMPS = "hibernate.cache.query_cache_transaction_timestamps";
+
+	/**
+	 * When enabled, the results of a cacheable query which selects from a single
+	 * entity, restricted by {@code =} or {@code in} predicates on its identifier
+	 * or on its simple natural identifier, are only invalidated by changes to the
+	 * entities with these keys, instead of by any change to the tables of the
+	 * entity.  Other queries are invalidated by table, as usual.
+	 * <p>
+	 * A query qualifies when it has no joins, no subqueries, reads no table
+	 * besides the tables of the entity, and the keys are integral numbers or
+	 * UUIDs.  String keys are not supported, since the database may consider
+	 * distinct strings equal, depending on the collation.  Changes which are
+	 * not made by inserting, updating, or deleting single entities, such as
+	 * bulk mutation queries or collection changes, invalidate all such queries
+	 * on the affected tables.
+	 * <p>
+	 * The keys of each entity are hashed into a fixed number of key spaces, set
+	 * by {@value #QUERY_CACHE_KEY_SPACES}, and every entity change then also
+	 * writes the timestamp of the key spaces of the entity to the
+	 * {@linkplain org.hibernate.cache.spi.TimestampsRegion timestamps region},
+	 * which must be large enough to never evict these timestamps.  All
+	 * applications sharing the cache must use the same settings.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_KEY_BASED_INVALIDATION = "hibernate.cache.query_cache_key_based_invalidation";
+
+	/**
+	 * The number of key spaces per entity when {@value #QUERY_CACHE_KEY_BASED_INVALIDATION}
+	 * is enabled, bounding the number of timestamps kept in the
+	 * {@linkplain org.hibernate.cache.spi.TimestampsRegion timestamps region} for
+	 * the identifiers, and for the natural identifiers, of each entity.  Entities
+	 * whose keys fall into the same space invalidate each other's cached queries.
+	 *
+	 * @settingDefault {@code 1024}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_KEY_SPACES = "hibernate.cache.query_cache_key_spaces";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -161,6 +258,23 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of binary second-level cache entries for entities. The state
+	 * of the entity is written to a compact {@code byte[]}, following a layout derived
+	 * from the mapping of the entity.  This reduces the size of cache entries, and the
+	 * cost of serializing them, particularly for caches which store entries remotely.
+	 * <p>
+	 * Ignored if {@linkplain #USE_STRUCTURED_CACHE structured cache entries} are enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.BinaryCacheEntry
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -218,6 +332,21 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * The maximum amount of off-heap memory, in bytes, used by each region of the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory}.  The value may be
+	 * given with a {@code KB}, {@code MB} or {@code GB} suffix.
+	 * <p>
+	 * The limit for a particular region may be specified by appending the region
+	 * name to the setting name, for example,
+	 * {@code hibernate.cache.offheap.max_size.com.acme.Book=512MB}.
+	 *
+	 * @settingDefault {@code 64MB}
+	 *
+	 * @since 6.6
+	 */
+	String OFF_HEAP_CACHE_MAX_SIZE = "hibernate.cache.offheap.max_size";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -33,6 +34,23 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the number of instances of an entity which are batch fetched
+	 * together is adjusted to the number of fetched instances which are actually
+	 * used, that is, whose proxies are initialized within the session.  The
+	 * {@linkplain BatchSize#size() configured batch size} becomes the maximum
+	 * batch size.
+	 * <p>
+	 * The batch size currently used for an entity is reported by
+	 * {@link org.hibernate.stat.EntityStatistics#getBatchFetchSize()}.
+	 *
+	 * @settingDefault {@code false} - the configured batch size is always used
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -49,6 +67,26 @@ public interface FetchSettings {
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
 
+	/**
+	 * When enabled, lazy associations which are accessed while iterating the
+	 * results of a query are fetched for all the entities returned by the query
+	 * at once, instead of one by one, even when the association is not mapped
+	 * for batch or subselect fetching.  This is achieved by enabling
+	 * {@linkplain #USE_SUBSELECT_FETCH subselect fetching} of collections, and
+	 * {@linkplain #DEFAULT_BATCH_FETCH_SIZE batch fetching} of entities and
+	 * collections with a default batch size of 16, unless these settings are
+	 * explicitly specified.
+	 * <p>
+	 * The number of fetches which are avoided is reported by
+	 * {@link org.hibernate.stat.Statistics#getAvoidedFetchCount()}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String AUTO_FETCH = "hibernate.auto_fetch";
+
 	/**
 	 * Specifies the {@link org.hibernate.loader.BatchFetchStyle} to use,
 	 * either the name of a {code BatchFetchStyle} instance, or an instance
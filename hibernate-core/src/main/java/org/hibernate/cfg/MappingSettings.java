@@ -125,6 +125,22 @@ public interface MappingSettings {
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
 
+	/**
+	 * The number of values left in the current pool of the
+	 * {@linkplain StandardOptimizerDescriptor#POOLED_LO_PREFETCH pooled-lo-prefetch}
+	 * optimizer when the next pool is obtained from the database. A value of {@code 0}
+	 * disables prefetching. May also be specified as a parameter of an individual
+	 * generator.
+	 *
+	 * @settingDefault Half the increment size
+	 *
+	 * @see org.hibernate.id.enhanced.PooledLoPrefetchOptimizer
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String POOLED_OPTIMIZER_PREFETCH_THRESHOLD = "hibernate.id.optimizer.pooled.prefetch_threshold";
+
 	/**
 	 * Determines if the identifier value stored in the database table backing a
 	 * {@linkplain jakarta.persistence.TableGenerator table generator} is the last
@@ -449,6 +465,23 @@ public interface MappingSettings {
 	 */
 	String XML_MAPPING_ENABLED = "hibernate.xml_mapping_enabled";
 
+	/**
+	 * When enabled, the {@linkplain org.hibernate.persister.entity.EntityPersister entity
+	 * persisters} and {@linkplain org.hibernate.persister.collection.CollectionPersister
+	 * collection persisters} are instantiated concurrently, using one thread per available
+	 * processor, when the {@link SessionFactory} is created.
+	 *
+	 * @apiNote This is a performance optimization appropriate for domain models with a
+	 * large number of entities.  Custom persisters must be thread-safe during their
+	 * construction when this setting is enabled.
+	 *
+	 * @settingDefault {@code false} - persisters are instantiated sequentially
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_CREATION = "hibernate.mapping.parallel_persister_creation";
+
 	/**
 	 * Specifies the {@link CollectionClassification} to use for a plural attribute
 	 * typed as {@link java.util.List} with no explicit list index details
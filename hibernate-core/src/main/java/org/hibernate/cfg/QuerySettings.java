@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
@@ -160,6 +161,29 @@ public interface QuerySettings {
 	 */
 	String FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH = "hibernate.query.fail_on_pagination_over_collection_fetch";
 
+	/**
+	 * When enabled, an {@linkplain org.hibernate.FlushMode#AUTO automatic flush} before
+	 * execution of a query only inspects the state of the persistence context when some
+	 * entity or collection held by the session might affect one of the tables queried.
+	 * When no managed entity or collection maps to one of these tables, the dirty check
+	 * of the whole persistence context is skipped, and all changes remain pending until
+	 * the next flush.
+	 * <p>
+	 * An entity is considered to affect the queried tables if it maps to one of them,
+	 * if one of its collections does, or if it has a custom
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener} which might change other
+	 * entities.
+	 *
+	 * @settingDefault {@code false} - the whole persistence context is flushed to
+	 * executions before checking whether the queried tables are affected
+	 *
+	 * @see SessionFactoryOptions#isQuerySpaceAwareAutoFlushEnabled()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_SPACE_AWARE_AUTO_FLUSH = "hibernate.query.space_aware_auto_flush";
+
 	/**
 	 * This setting defines how {@link org.hibernate.annotations.Immutable} entities
 	 * are handled when executing a bulk update query. Valid options are enumerated
@@ -233,6 +257,44 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies the implementation of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache},
+	 * as defined by {@link org.hibernate.query.QueryPlanCacheType}:
+	 * <ul>
+	 *     <li>{@link org.hibernate.query.QueryPlanCacheType#STANDARD "standard"} (the default)
+	 *     bounds the number of entries, and evicts them according to the LIRS policy, or
+	 *     <li>{@link org.hibernate.query.QueryPlanCacheType#WEIGHTED "weighted"} never blocks
+	 *     lookups, bounds the estimated size of the entries, and evicts the entries which are
+	 *     least frequently used.
+	 * </ul>
+	 * <p>
+	 * For the {@code weighted} cache, the size given by {@value #QUERY_PLAN_CACHE_MAX_SIZE}
+	 * is measured in units of 512 characters of query string.
+	 *
+	 * @see org.hibernate.query.spi.QueryEngineOptions#getQueryPlanCacheType()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_TYPE = "hibernate.query.plan_cache_type";
+
+	/**
+	 * The path of a file used to warm up the {@code weighted}
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * <p>
+	 * When the {@code SessionFactory} is closed, the HQL queries which were used most
+	 * frequently are written to this file.  When a {@code SessionFactory} is created, and
+	 * the file exists, these queries are interpreted before the first session is opened,
+	 * avoiding a spike in latency after the application is restarted.
+	 * <p>
+	 * Ignored unless {@value #QUERY_PLAN_CACHE_TYPE} is {@code weighted}.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_SNAPSHOT = "hibernate.query.plan_cache_snapshot";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -4015,6 +4015,22 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return getInExpressionCountLimit();
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of rows
+	 * in the {@code values} list of a multi-row {@code insert} statement.  If the
+	 * database defines no such limit, simply return zero or a number smaller than
+	 * zero.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 6.6
+	 */
+	public int getMultiRowInsertRowCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
@@ -4108,6 +4124,23 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC {@linkplain java.sql.Statement#setFetchSize fetch size} to use for
+	 * a query whose results are consumed as a stream with the hint
+	 * {@link org.hibernate.jpa.HibernateHints#HINT_STREAMING_WINDOW}, when no
+	 * explicit fetch size was specified.
+	 * <p>
+	 * The value should make the JDBC driver fetch rows incrementally, instead of
+	 * materializing the whole result set in memory.
+	 *
+	 * @return the fetch size
+	 *
+	 * @since 6.6
+	 */
+	public int getStreamingFetchSize() {
+		return 1000;
+	}
+
 	/**
 	 * Does this dialect support {@code offset} in subqueries?
 	 * <p>
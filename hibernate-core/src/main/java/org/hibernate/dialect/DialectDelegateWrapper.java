@@ -1168,6 +1168,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.getParameterCountLimit();
 	}
 
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		return wrapped.getMultiRowInsertRowCountLimit();
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return wrapped.forceLobAsLastValue();
@@ -1203,6 +1208,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.defaultScrollMode();
 	}
 
+	@Override
+	public int getStreamingFetchSize() {
+		return wrapped.getStreamingFetchSize();
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return wrapped.supportsOffsetInSubquery();
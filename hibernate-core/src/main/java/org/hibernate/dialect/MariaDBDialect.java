@@ -276,4 +276,11 @@ public class MariaDBDialect extends MySQLDialect {
 
 		return super.buildIdentifierHelper( builder, dbMetaData );
 	}
+
+	@Override
+	public int getStreamingFetchSize() {
+		// unlike MySQL Connector/J, the MariaDB driver streams
+		// the result set for any positive fetch size
+		return 1000;
+	}
 }
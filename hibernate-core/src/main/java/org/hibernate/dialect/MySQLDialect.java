@@ -1571,4 +1571,17 @@ public class MySQLDialect extends Dialect {
 	public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * MySQL Connector/J only streams the result set row by row when the fetch
+	 * size is {@link Integer#MIN_VALUE}.  While the rows are streamed, no other
+	 * statement can be executed on the same connection, so the streamed results
+	 * must not trigger any lazy or subselect fetching before the stream is closed.
+	 */
+	@Override
+	public int getStreamingFetchSize() {
+		return Integer.MIN_VALUE;
+	}
 }
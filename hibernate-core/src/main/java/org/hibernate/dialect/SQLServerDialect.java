@@ -675,6 +675,12 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		// the limit of a table value constructor
+		return 1000;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return SQLServerIdentityColumnSupport.INSTANCE;
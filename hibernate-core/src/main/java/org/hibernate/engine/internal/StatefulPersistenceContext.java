@@ -58,6 +58,7 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -114,7 +115,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -122,7 +123,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -131,7 +132,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -177,11 +178,22 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = keyedMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	/**
+	 * A map for entities, snapshots, or collections by key
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING
+	 */
+	private <K, V> Map<K, V> keyedMapOfSize(int size) {
+		return session.getFactory().getSessionFactoryOptions().isPersistenceContextOpenAddressingEnabled()
+				? new OpenAddressingMap<>( size )
+				: CollectionHelper.mapOfSize( size );
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -242,6 +254,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			IdentityMap.onEachKey( collectionEntries, k -> k.unsetSession( session ) );
 		}
 
+		if ( batchFetchQueue != null ) {
+			batchFetchQueue.completeAdaptiveBatchLoads();
+		}
+
 		arrayHolders = null;
 		entitiesByKey = null;
 		entitiesByUniqueKey = null;
@@ -315,7 +331,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = keyedMapOfSize( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -1941,7 +1957,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = rtn.keyedMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1952,7 +1968,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.keyedMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -1982,7 +1998,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = rtn.keyedMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -2157,7 +2173,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = keyedMapOfSize( INIT_COLL_SIZE );
 		}
 		return collectionsByKey.put( collectionKey, persistentCollection );
 	}
@@ -7,6 +7,9 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -14,9 +17,12 @@ import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.transaction.spi.TransactionCoordinator;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,8 +34,9 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final ExecutorService pipelineExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,20 +45,58 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether full batches are executed in the background
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s%s)",
+					globalBatchSize,
+					pipelined ? ", pipelined" : ""
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipelineExecutor = pipelined ? createPipelineExecutor() : null;
+	}
+
+	private static ExecutorService createPipelineExecutor() {
+		try {
+			// a batch execution mostly waits for the database, which suits virtual threads
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			// virtual threads are not available before JDK 21
+			final AtomicInteger threadCount = new AtomicInteger();
+			return Executors.newCachedThreadPool( runnable -> {
+				final Thread thread = new Thread( runnable, "hibernate-batch-" + threadCount.incrementAndGet() );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
 	}
 
 	public int getJdbcBatchSize() {
 		return globalBatchSize;
 	}
 
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			pipelineExecutor.shutdown();
+		}
+	}
+
 	@Override
 	public Batch buildBatch(
 			BatchKey key,
@@ -63,7 +108,20 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( statementGroup instanceof PreparedStatementGroupMultiRowInsert
+				&& ( (PreparedStatementGroupMultiRowInsert) statementGroup ).isCoalescingRows() ) {
+			return new MultiRowInsertBatch( key, (PreparedStatementGroupMultiRowInsert) statementGroup, jdbcCoordinator );
+		}
+
+		return new BatchImpl(
+				key,
+				statementGroup,
+				batchSize,
+				jdbcCoordinator,
+				// with JTA, the connection is bound to the thread of the transaction
+				pipelineExecutor == null || isJta( jdbcCoordinator ) ? null : pipelineExecutor
+		);
 	}
 
 
@@ -145,4 +203,10 @@ public class BatchBuilderImpl implements BatchBuilder {
 				jdbcCoordinator
 		);
 	}
+
+	private static boolean isJta(JdbcCoordinator jdbcCoordinator) {
+		final TransactionCoordinator transactionCoordinator =
+				jdbcCoordinator.getJdbcSessionOwner().getTransactionCoordinator();
+		return transactionCoordinator != null && transactionCoordinator.getTransactionCoordinatorBuilder().isJta();
+	}
 }
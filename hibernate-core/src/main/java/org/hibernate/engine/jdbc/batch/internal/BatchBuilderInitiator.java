@@ -44,7 +44,8 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.PIPELINED_EXECUTION, configurationValues )
 			);
 		}
 
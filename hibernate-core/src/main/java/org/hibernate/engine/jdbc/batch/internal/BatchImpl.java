@@ -9,6 +9,9 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -22,6 +25,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
@@ -48,6 +52,10 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	// executes full batches in the background, if pipelining is enabled
+	private final Executor pipelineExecutor;
+	private CompletableFuture<Void> pendingExecution;
+
 	private int batchPosition;
 	private boolean batchExecuted;
 
@@ -56,6 +64,21 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * @param pipelineExecutor executes full batches in the background, or
+	 * {@code null} if they should be executed by the calling thread
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor pipelineExecutor) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -72,6 +95,7 @@ public class BatchImpl implements Batch {
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
 		this.batchSizeToUse = batchSizeToUse;
+		this.pipelineExecutor = pipelineExecutor;
 
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
@@ -108,6 +132,9 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		// the statements are busy until the previous execution completes
+		awaitPendingExecution();
+
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				if ( inclusionChecker != null && !inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
@@ -150,7 +177,12 @@ public class BatchImpl implements Batch {
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			if ( pipelineExecutor == null ) {
+				performExecution();
+			}
+			else {
+				performExecutionInBackground();
+			}
 			batchPosition = 0;
 			batchExecuted = true;
 		}
@@ -228,6 +260,7 @@ public class BatchImpl implements Batch {
 		}
 
 		try {
+			awaitPendingExecution();
 			if ( batchPosition == 0 ) {
 				if( !batchExecuted) {
 					if ( BATCH_LOGGER.isDebugEnabled() ) {
@@ -257,62 +290,112 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		try {
+			executeStatements( batchPosition );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	/**
+	 * Hand the execution of the batch over to the {@linkplain #pipelineExecutor
+	 * pipeline executor}.  The statements of the batch, and the connection, are
+	 * not used by the calling thread until {@link #awaitPendingExecution()}.
+	 */
+	private void performExecutionInBackground() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch in background (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final int batchCount = batchPosition;
+		pendingExecution = CompletableFuture.runAsync( () -> executeStatements( batchCount ), pipelineExecutor );
+	}
+
+	@Override
+	public void awaitPendingExecution() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				final RuntimeException cause = e.getCause() instanceof RuntimeException
+						? (RuntimeException) e.getCause()
+						: new HibernateException( "Could not execute batch", e.getCause() );
+				abortBatch( cause );
+				throw cause;
+			}
+		}
+	}
+
+	private void executeStatements(int batchCount) {
 		//noinspection deprecation
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
-		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
-				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
 
-				if ( statement == null ) {
-					return;
-				}
+			if ( statement == null ) {
+				return;
+			}
 
-				try {
-					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						final EventManager eventManager = jdbcSessionOwner.getEventManager();
-						final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
-						try {
-							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
-						}
-						finally {
-							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
-							observer.jdbcExecuteBatchEnd();
-						}
-						checkRowCounts( rowCounts, statementDetails );
+			try {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts;
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+					try {
+						observer.jdbcExecuteBatchStart();
+						rowCounts = statement.executeBatch();
 					}
-					else {
-						statement.executeBatch();
+					finally {
+						eventManager.completeJdbcBatchExecutionEvent(
+								jdbcBatchExecutionEvent,
+								jdbcSessionOwner instanceof SharedSessionContractImplementor
+										? (SharedSessionContractImplementor) jdbcSessionOwner
+										: null,
+								sql
+						);
+						observer.jdbcExecuteBatchEnd();
 					}
+					checkRowCounts( rowCounts, batchCount, statementDetails );
 				}
-				catch (SQLException e) {
-					abortBatch( e );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
-					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
-				}
-				catch (RuntimeException re) {
-					abortBatch( re );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
-					throw re;
+				else {
+					statement.executeBatch();
 				}
-			} );
-		}
-		finally {
-			batchPosition = 0;
-		}
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		} );
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	private void checkRowCounts(int[] rowCounts, int batchCount, PreparedStatementDetails statementDetails)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 ) {
-			if ( numberOfRowCounts != batchPosition ) {
+		if ( batchCount != 0 ) {
+			if ( numberOfRowCounts != batchCount ) {
 				JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 						statementDetails.getMutatingTableDetails().getTableName(),
 						numberOfRowCounts,
-						batchPosition
+						batchCount
 				);
 			}
 		}
@@ -324,16 +407,22 @@ public class BatchImpl implements Batch {
 
 	@Override
 	public void release() {
-		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
-			final PreparedStatementGroup statementGroup = getStatementGroup();
-			if ( statementGroup.getNumberOfStatements() != 0 ) {
-				if ( statementGroup.hasMatching( (statementDetails) -> statementDetails.getStatement() != null ) ) {
-					BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		try {
+			// a failure of a background execution means lost writes, and must be reported
+			awaitPendingExecution();
+		}
+		finally {
+			if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+				final PreparedStatementGroup statementGroup = getStatementGroup();
+				if ( statementGroup.getNumberOfStatements() != 0 ) {
+					if ( statementGroup.hasMatching( (statementDetails) -> statementDetails.getStatement() != null ) ) {
+						BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+					}
 				}
 			}
+			releaseStatements();
+			observers.clear();
 		}
-		releaseStatements();
-		observers.clear();
 	}
 
 	@Override
@@ -0,0 +1,348 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * Batch implementation which, rather than relying on JDBC statement batching,
+ * collects the value bindings of each row and executes them as multi-row
+ * {@code insert ... values (...), (...)} statements.
+ *
+ * @see PreparedStatementGroupMultiRowInsert
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final PreparedStatementGroupMultiRowInsert statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final Binding[][] pendingRows;
+	private int numberOfPendingRows;
+	private boolean batchExecuted;
+
+	// the statement for a full set of rows, which is reused until the batch is released
+	private PreparedStatement fullStatement;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroupMultiRowInsert statementGroup,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.pendingRows = new Binding[statementGroup.getMaxRowsPerStatement()][];
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					pendingRows.length,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroupMultiRowInsert getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final TableMapping tableDetails = statementGroup.getSingleStatementDetails().getMutatingTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			if ( MODEL_MUTATION_LOGGER.isTraceEnabled() ) {
+				MODEL_MUTATION_LOGGER.tracef(
+						"Skipping addBatch for table : %s (batch-position=%s)",
+						tableDetails.getTableName(),
+						numberOfPendingRows + 1
+				);
+			}
+			return;
+		}
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert batch (%s) - `%s`",
+					numberOfPendingRows + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		// the bindings are only applied when the statement for all rows is
+		// executed, so we need to keep our own copy of them
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+		pendingRows[numberOfPendingRows++] = bindingGroup == null
+				? NO_BINDINGS
+				: bindingGroup.getBindings().toArray( NO_BINDINGS );
+		jdbcValueBindings.afterStatement( tableDetails );
+
+		if ( numberOfPendingRows == pendingRows.length ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchExecuted = true;
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( numberOfPendingRows == 0 ) {
+				if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	protected void performExecution() {
+		final int numberOfRows = numberOfPendingRows;
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					numberOfRows,
+					pendingRows.length,
+					getKey().toLoggableString()
+			);
+		}
+
+		final boolean isFullStatement = numberOfRows == pendingRows.length;
+		final String sql = statementGroup.getMultiRowSqlString( numberOfRows );
+		try {
+			final PreparedStatement statement = isFullStatement ? resolveFullStatement( sql ) : prepareStatement( sql );
+			try {
+				sqlStatementLogger.logStatement( sql );
+				bindPendingRows( statement, sql );
+				checkRowCount( executeStatement( statement, sql ), numberOfRows, sql );
+			}
+			finally {
+				numberOfPendingRows = 0;
+				if ( !isFullStatement ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute the statement for the pending rows, which is reported as the
+	 * execution of a JDBC batch, like {@link BatchImpl} does
+	 */
+	private int executeStatement(PreparedStatement statement, String sql) {
+		//noinspection deprecation
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+		final EventManager eventManager = jdbcSessionOwner.getEventManager();
+		final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+		try {
+			observer.jdbcExecuteBatchStart();
+			return statement.executeUpdate();
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		finally {
+			eventManager.completeJdbcBatchExecutionEvent(
+					jdbcBatchExecutionEvent,
+					jdbcSessionOwner instanceof SharedSessionContractImplementor
+							? (SharedSessionContractImplementor) jdbcSessionOwner
+							: null,
+					sql
+			);
+			observer.jdbcExecuteBatchEnd();
+		}
+	}
+
+	private PreparedStatement resolveFullStatement(String sql) {
+		if ( fullStatement == null ) {
+			fullStatement = prepareStatement( sql );
+		}
+		return fullStatement;
+	}
+
+	private PreparedStatement prepareStatement(String sql) {
+		final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+		return statement;
+	}
+
+	private void bindPendingRows(PreparedStatement statement, String sql) {
+		final SharedSessionContractImplementor session = statementGroup.getSession();
+		final int numberOfParametersPerRow = statementGroup.getNumberOfParametersPerRow();
+		for ( int i = 0; i < numberOfPendingRows; i++ ) {
+			final int offset = i * numberOfParametersPerRow;
+			for ( Binding binding : pendingRows[i] ) {
+				final int position = offset + binding.getPosition();
+				try {
+					binding.getValueBinder().bind( statement, binding.getValue(), position, session );
+				}
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert(
+							e,
+							String.format(
+									Locale.ROOT,
+									"Unable to bind parameter #%s - %s",
+									position,
+									binding.getValue()
+							),
+							sql
+					);
+				}
+			}
+			pendingRows[i] = null;
+		}
+	}
+
+	private void checkRowCount(int rowCount, int expectedRowCount, String sql) {
+		if ( !( statementGroup.getSingleStatementDetails().getExpectation() instanceof Expectation.RowCount ) ) {
+			return;
+		}
+
+		if ( rowCount < expectedRowCount ) {
+			throw new StaleStateException(
+					"Unexpected row count: " + rowCount + "; expected: " + expectedRowCount
+							+ "; statement executed: " + sql
+			);
+		}
+		if ( rowCount > expectedRowCount ) {
+			throw new TooManyRowsAffectedException(
+					"Unexpected row count: " + rowCount + "; expected: " + expectedRowCount,
+					expectedRowCount,
+					rowCount
+			);
+		}
+	}
+
+	protected void releaseStatements() {
+		if ( fullStatement != null ) {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( fullStatement );
+			fullStatement = null;
+		}
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	@Override
+	public void release() {
+		if ( numberOfPendingRows != 0 ) {
+			if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+				BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			}
+			for ( int i = 0; i < numberOfPendingRows; i++ ) {
+				pendingRows[i] = null;
+			}
+			numberOfPendingRows = 0;
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+}
@@ -56,6 +56,17 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Wait for the completion of any execution of this batch still in progress
+	 * in the background, before the JDBC connection is used for something else.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 *
+	 * @since 6.6
+	 */
+	default void awaitPendingExecution() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
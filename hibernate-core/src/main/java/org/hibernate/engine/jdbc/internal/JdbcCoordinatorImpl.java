@@ -41,6 +41,7 @@ import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.resource.transaction.spi.TransactionStatus;
 
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
 
@@ -203,6 +204,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
 			currentBatch.execute();
 		}
+		else {
+			// non-batched work for the same key uses the connection too
+			currentBatch.awaitPendingExecution();
+		}
 	}
 
 	@Override
@@ -212,6 +217,18 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * Wait for any execution of the current batch still in progress in the
+	 * background, before the connection is used for anything else.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	void awaitPendingBatchExecution() {
+		if ( currentBatch != null ) {
+			currentBatch.awaitPendingExecution();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -283,12 +300,17 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void afterTransaction() {
-		transactionTimeOutInstant = -1;
-		switch ( getLogicalConnection().getConnectionHandlingMode().getReleaseMode() ) {
-			case AFTER_STATEMENT:
-			case AFTER_TRANSACTION:
-			case BEFORE_TRANSACTION_COMPLETION:
-				logicalConnection.afterTransaction();
+		try {
+			awaitPendingBatchExecution();
+		}
+		finally {
+			transactionTimeOutInstant = -1;
+			switch ( getLogicalConnection().getConnectionHandlingMode().getReleaseMode() ) {
+				case AFTER_STATEMENT:
+				case AFTER_TRANSACTION:
+				case BEFORE_TRANSACTION_COMPLETION:
+					logicalConnection.afterTransaction();
+			}
 		}
 	}
 
@@ -298,6 +320,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPendingBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -442,8 +465,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
-		afterTransaction();
-		owner.afterTransactionCompletion( successful, delayed );
+		try {
+			afterTransaction();
+		}
+		finally {
+			owner.afterTransactionCompletion( successful, delayed );
+		}
 	}
 
 	@Override
@@ -451,9 +478,62 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return owner;
 	}
 
+	private transient BatchAwareJdbcResourceTransaction resourceLocalTransaction;
+
 	@Override
 	public JdbcResourceTransaction getResourceLocalTransaction() {
-		return logicalConnection.getPhysicalJdbcTransaction();
+		final JdbcResourceTransaction physicalJdbcTransaction = logicalConnection.getPhysicalJdbcTransaction();
+		if ( resourceLocalTransaction == null ) {
+			resourceLocalTransaction = new BatchAwareJdbcResourceTransaction( physicalJdbcTransaction );
+		}
+		return resourceLocalTransaction;
+	}
+
+	/**
+	 * Makes sure that no batch is still executing in the background when the
+	 * transaction completes, since the connection can't be used concurrently,
+	 * and that a failure of such an execution isn't lost.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	private class BatchAwareJdbcResourceTransaction implements JdbcResourceTransaction {
+		private final JdbcResourceTransaction delegate;
+
+		private BatchAwareJdbcResourceTransaction(JdbcResourceTransaction delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void begin() {
+			delegate.begin();
+		}
+
+		@Override
+		public void commit() {
+			awaitPendingBatchExecution();
+			delegate.commit();
+		}
+
+		@Override
+		public void rollback() {
+			RuntimeException failure = null;
+			try {
+				awaitPendingBatchExecution();
+			}
+			catch (RuntimeException e) {
+				// roll back anyway, then report the failure
+				failure = e;
+			}
+			delegate.rollback();
+			if ( failure != null ) {
+				throw failure;
+			}
+		}
+
+		@Override
+		public TransactionStatus getStatus() {
+			return delegate.getStatus();
+		}
 	}
 
 	/**
@@ -92,6 +92,8 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		}
 
 		public PreparedStatement prepareStatement() {
+			// the connection can't be used while a batch is executing in the background
+			jdbcCoordinator.awaitPendingBatchExecution();
 			try {
 				final PreparedStatement preparedStatement;
 				//noinspection deprecation
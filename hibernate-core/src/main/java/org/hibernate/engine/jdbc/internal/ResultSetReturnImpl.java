@@ -47,6 +47,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet extract(PreparedStatement statement, String sql) {
+		awaitPendingBatchExecution();
 		// IMPL NOTE : SQL logged by caller
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -73,6 +74,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
+	/**
+	 * A statement may have been prepared before a batch was handed over to the
+	 * background, so the execution of the statement must wait for it too.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	private void awaitPendingBatchExecution() {
+		if ( jdbcCoordinator instanceof JdbcCoordinatorImpl ) {
+			( (JdbcCoordinatorImpl) jdbcCoordinator ).awaitPendingBatchExecution();
+		}
+	}
+
 	private JdbcSessionContext context() {
 		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
 	}
@@ -87,6 +100,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
+		awaitPendingBatchExecution();
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -115,6 +129,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet execute(PreparedStatement statement, String sql) {
+		awaitPendingBatchExecution();
 		// sql logged by StatementPreparerImpl
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -148,6 +163,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
+		awaitPendingBatchExecution();
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -182,6 +198,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public int executeUpdate(PreparedStatement statement, String sql) {
 		assert statement != null;
+		awaitPendingBatchExecution();
 
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -205,6 +222,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
+		awaitPendingBatchExecution();
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -66,6 +66,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	
 	@Override
 	public Statement createStatement() {
+		jdbcCoordinator.awaitPendingBatchExecution();
 		try {
 			final Statement statement = connection().createStatement();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( statement, true );
@@ -167,6 +168,9 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 
 		public PreparedStatement prepareStatement() {
+			// every statement is prepared here, so this is where the
+			// connection is reclaimed from a background batch execution
+			jdbcCoordinator.awaitPendingBatchExecution();
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
@@ -21,18 +21,35 @@ public class MutationExecutorSingleBatched extends AbstractSingleMutationExecuto
 	private final SharedSessionContractImplementor session;
 
 	private final BatchKey batchKey;
+	private final boolean coalesceRows;
 
 	public MutationExecutorSingleBatched(
 			PreparableMutationOperation mutationOperation,
 			BatchKey batchKey,
 			int batchSize,
 			SharedSessionContractImplementor session) {
+		this( mutationOperation, batchKey, batchSize, false, session );
+	}
+
+	/**
+	 * @param coalesceRows Whether the batched rows should be coalesced into
+	 * multi-row inserts.
+	 *
+	 * @see PreparedStatementGroupMultiRowInsert#canCoalesceRows
+	 */
+	public MutationExecutorSingleBatched(
+			PreparableMutationOperation mutationOperation,
+			BatchKey batchKey,
+			int batchSize,
+			boolean coalesceRows,
+			SharedSessionContractImplementor session) {
 		super( mutationOperation, session );
 
 		this.batchSize = batchSize;
 		this.session = session;
 
 		this.batchKey = batchKey;
+		this.coalesceRows = coalesceRows;
 	}
 
 	@Override
@@ -47,7 +64,9 @@ public class MutationExecutorSingleBatched extends AbstractSingleMutationExecuto
 			batch = session.getJdbcCoordinator().getBatch(
 					batchKey,
 					batchSize,
-					() -> new PreparedStatementGroupSingleTable( getMutationOperation(), session )
+					() -> coalesceRows
+							? new PreparedStatementGroupMultiRowInsert( getMutationOperation(), batchSize, session )
+							: new PreparedStatementGroupSingleTable( getMutationOperation(), session )
 			);
 			assert batch != null;
 		}
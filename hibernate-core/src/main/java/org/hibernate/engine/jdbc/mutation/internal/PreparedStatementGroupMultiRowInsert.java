@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
+
+/**
+ * PreparedStatementGroup for a single-table insert whose batched rows are
+ * coalesced into multi-row {@code insert ... values (...), (...)} statements
+ * by {@link org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch}.
+ * <p>
+ * The {@linkplain #getSingleStatementDetails() single-row statement} is still
+ * exposed, so that any other {@link org.hibernate.engine.jdbc.batch.spi.Batch}
+ * implementation may simply use it for standard JDBC batching.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class PreparedStatementGroupMultiRowInsert extends PreparedStatementGroupSingleTable {
+	/**
+	 * The bind parameter limit assumed when the Dialect does not report one,
+	 * which is the limit of the PostgreSQL wire protocol
+	 */
+	private static final int DEFAULT_PARAMETER_COUNT_LIMIT = Short.MAX_VALUE;
+
+	private static final String VALUES_KEYWORD = " values ";
+
+	private final SharedSessionContractImplementor session;
+
+	private final String sqlPrefix;
+	private final String valuesTuple;
+	private final int numberOfParametersPerRow;
+	private final int maxRowsPerStatement;
+
+	public PreparedStatementGroupMultiRowInsert(
+			PreparableMutationOperation jdbcInsert,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		super( jdbcInsert, session );
+		this.session = session;
+
+		final String sql = jdbcInsert.getSqlString();
+		this.numberOfParametersPerRow = jdbcInsert.getParameterBinders().size();
+		final int valuesTupleStart = determineValuesTupleStart( sql );
+		if ( valuesTupleStart > 0 && countParameters( sql, valuesTupleStart ) == numberOfParametersPerRow ) {
+			this.sqlPrefix = sql.substring( 0, valuesTupleStart );
+			this.valuesTuple = sql.substring( valuesTupleStart );
+			this.maxRowsPerStatement = determineMaxRowsPerStatement(
+					numberOfParametersPerRow,
+					batchSize,
+					session.getJdbcServices().getDialect()
+			);
+		}
+		else {
+			// the statement has an unexpected shape, use standard JDBC batching
+			this.sqlPrefix = null;
+			this.valuesTuple = null;
+			this.maxRowsPerStatement = 1;
+		}
+	}
+
+	/**
+	 * Whether the rows of the given (batchable) operation may be coalesced into
+	 * multi-row insert statements.  This is only the case for plain inserts
+	 * generated by Hibernate, with a standard row count expectation.
+	 *
+	 * @see #isCoalescingRows()
+	 */
+	public static boolean canCoalesceRows(PreparableMutationOperation jdbcOperation, Dialect dialect) {
+		if ( jdbcOperation.getMutationType() != MutationType.INSERT
+				|| jdbcOperation.isCallable()
+				|| !dialect.supportsValuesListForInsert() ) {
+			return false;
+		}
+
+		final TableMapping.MutationDetails insertDetails = jdbcOperation.getTableDetails().getInsertDetails();
+		if ( insertDetails == null || insertDetails.getCustomSql() != null ) {
+			return false;
+		}
+
+		// the row count of the statement is the sum over all rows, so it can only
+		// be verified for the standard expectations
+		final Class<? extends Expectation> expectationClass = jdbcOperation.getExpectation().getClass();
+		return expectationClass == Expectation.RowCount.class || expectationClass == Expectation.None.class;
+	}
+
+	/**
+	 * Locate the single tuple of the {@code values} clause, which must make up
+	 * the end of the statement, e.g. no {@code returning} clause may follow.
+	 *
+	 * @return The position of the opening parenthesis of the tuple, or -1
+	 */
+	private static int determineValuesTupleStart(String sql) {
+		final int valuesPosition = sql.lastIndexOf( VALUES_KEYWORD );
+		if ( valuesPosition < 0 || sql.charAt( sql.length() - 1 ) != ')' ) {
+			return -1;
+		}
+
+		final int tupleStart = valuesPosition + VALUES_KEYWORD.length();
+		if ( sql.charAt( tupleStart ) != '(' ) {
+			return -1;
+		}
+
+		// the parenthesis opening the tuple must be closed by the last character
+		int depth = 0;
+		for ( int i = tupleStart; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+				if ( depth == 0 && i != sql.length() - 1 ) {
+					return -1;
+				}
+			}
+			else if ( c == '\'' ) {
+				// literals might contain anything, so don't even try
+				return -1;
+			}
+		}
+		return depth == 0 ? tupleStart : -1;
+	}
+
+	private static int countParameters(String sql, int valuesTupleStart) {
+		int count = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			if ( sql.charAt( i ) == '?' ) {
+				if ( i < valuesTupleStart ) {
+					// all parameters must be part of the repeated tuple
+					return -1;
+				}
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static int determineMaxRowsPerStatement(int numberOfParametersPerRow, int batchSize, Dialect dialect) {
+		final int rowCountLimit = dialect.getMultiRowInsertRowCountLimit();
+		final int maxRows = rowCountLimit > 0 ? Math.min( batchSize, rowCountLimit ) : batchSize;
+		if ( numberOfParametersPerRow == 0 ) {
+			return maxRows;
+		}
+		final int dialectLimit = dialect.getParameterCountLimit();
+		final int parameterCountLimit = dialectLimit > 0 ? dialectLimit : DEFAULT_PARAMETER_COUNT_LIMIT;
+		return Math.min( maxRows, parameterCountLimit / numberOfParametersPerRow );
+	}
+
+	/**
+	 * Whether the SQL of the insert allows coalescing multiple rows into a
+	 * single statement.  If not, the rows must be batched using standard
+	 * JDBC batching of the {@linkplain #getSingleStatementDetails() single-row
+	 * statement}.
+	 */
+	public boolean isCoalescingRows() {
+		return maxRowsPerStatement > 1;
+	}
+
+	public SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
+	/**
+	 * The number of JDBC parameters bound for each row
+	 */
+	public int getNumberOfParametersPerRow() {
+		return numberOfParametersPerRow;
+	}
+
+	/**
+	 * The maximum number of rows which may be inserted by a single statement,
+	 * limited by the batch size, and the row count and parameter limits of the
+	 * Dialect
+	 */
+	public int getMaxRowsPerStatement() {
+		return maxRowsPerStatement;
+	}
+
+	/**
+	 * The SQL for inserting the given number of rows with a single statement
+	 */
+	public String getMultiRowSqlString(int numberOfRows) {
+		assert isCoalescingRows() && numberOfRows > 0 && numberOfRows <= maxRowsPerStatement;
+		final StringBuilder sql = new StringBuilder( sqlPrefix.length() + ( valuesTuple.length() + 1 ) * numberOfRows );
+		sql.append( sqlPrefix ).append( valuesTuple );
+		for ( int i = 1; i < numberOfRows; i++ ) {
+			sql.append( ',' ).append( valuesTuple );
+		}
+		return sql.toString();
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.engine.jdbc.mutation.internal;
 
 import java.util.Map;
 
+import org.hibernate.cfg.BatchSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
@@ -29,13 +30,22 @@ import org.hibernate.sql.model.SelfExecutingUpdateOperation;
  */
 public class StandardMutationExecutorService implements MutationExecutorService {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
 
 	public StandardMutationExecutorService(Map<String, Object> configurationValues) {
-		this( ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+		this(
+				ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+				ConfigurationHelper.getBoolean( BatchSettings.MULTI_ROW_INSERTS, configurationValues )
+		);
 	}
 
 	public StandardMutationExecutorService(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	public StandardMutationExecutorService(int globalBatchSize, boolean multiRowInserts) {
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	@Override
@@ -60,7 +70,9 @@ public class StandardMutationExecutorService implements MutationExecutorService
 			final PreparableMutationOperation jdbcOperation = (PreparableMutationOperation) singleOperation;
 			final BatchKey batchKey = batchKeySupplier.getBatchKey();
 			if ( jdbcOperation.canBeBatched( batchKey, batchSizeToUse ) ) {
-				return new MutationExecutorSingleBatched( jdbcOperation, batchKey, batchSizeToUse, session );
+				final boolean coalesceRows = multiRowInserts
+						&& PreparedStatementGroupMultiRowInsert.canCoalesceRows( jdbcOperation, session.getJdbcServices().getDialect() );
+				return new MutationExecutorSingleBatched( jdbcOperation, batchKey, batchSizeToUse, coalesceRows, session );
 			}
 
 			return new MutationExecutorSingleNonBatched(
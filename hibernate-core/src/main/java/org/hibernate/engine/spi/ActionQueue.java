@@ -12,6 +12,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -31,6 +32,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -60,6 +62,7 @@ import org.hibernate.type.Type;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.cache.internal.KeyBasedQuerySpaces.withBulkSpaces;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -426,7 +429,9 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateSpaces( isQueryCacheKeyBasedInvalidationEnabled()
+					? getKeyBasedQuerySpaces( executable )
+					: executable.getPropertySpaces() );
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -664,7 +669,9 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( isQueryCacheKeyBasedInvalidationEnabled()
+						? getKeyBasedQuerySpaces( list )
+						: list.getQuerySpaces().toArray(new String[0]) );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -686,6 +693,33 @@ public class ActionQueue {
 		}
 	}
 
+	private boolean isQueryCacheKeyBasedInvalidationEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isQueryCacheKeyBasedInvalidationEnabled();
+	}
+
+	/**
+	 * The spaces to invalidate for the actions of the list, when the query cache
+	 * is invalidated by entity key.
+	 */
+	private static String[] getKeyBasedQuerySpaces(ExecutableList<?> list) {
+		final Set<String> spaces = new HashSet<>();
+		for ( Executable executable : list ) {
+			Collections.addAll( spaces, getKeyBasedQuerySpaces( executable ) );
+		}
+		return spaces.toArray( new String[0] );
+	}
+
+	/**
+	 * The spaces to invalidate for the action, when the query cache is invalidated
+	 * by entity key: the key spaces of the entity of an entity action, or else the
+	 * bulk spaces of the affected tables.
+	 */
+	private static String[] getKeyBasedQuerySpaces(Executable executable) {
+		return executable instanceof EntityAction
+				? ( (EntityAction) executable ).getKeyBasedQuerySpaces()
+				: withBulkSpaces( executable.getPropertySpaces() );
+	}
+
 	/**
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
@@ -856,6 +890,14 @@ public class ActionQueue {
 				: afterTransactionProcesses != null && afterTransactionProcesses.hasActions();
 	}
 
+	/**
+	 * Were query spaces written to by the current transaction, so that
+	 * their cached query results will be invalidated when it completes?
+	 */
+	public boolean hasQuerySpacesToInvalidate() {
+		return afterTransactionProcesses != null && afterTransactionProcesses.hasSpacesToInvalidate();
+	}
+
 	@SuppressWarnings("SimplifiableConditionalExpression")
 	public boolean hasBeforeTransactionActions() {
 		return isTransactionCoordinatorShared ? false
@@ -1051,6 +1093,10 @@ public class ActionQueue {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public boolean hasSpacesToInvalidate() {
+			return !querySpacesToInvalidate.isEmpty();
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			AfterTransactionCompletionProcess process;
 			while ( ( process = processes.poll() ) != null ) {
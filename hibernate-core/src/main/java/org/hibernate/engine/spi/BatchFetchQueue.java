@@ -11,6 +11,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -66,6 +67,13 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The last batch load by each loader with an
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive batch size},
+	 * kept until the loader batch loads again, or until the persistence context is cleared.
+	 */
+	private @Nullable Map<Object, AdaptiveBatchLoad> adaptiveBatchLoads;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -87,6 +95,52 @@ public class BatchFetchQueue {
 	}
 
 
+	// adaptive batch size support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * A batch load remembered by the queue until its usefulness can be
+	 * determined, that is, until the same loader batch loads again, or
+	 * until the persistence context is cleared.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public interface AdaptiveBatchLoad {
+		/**
+		 * Called when the batch load is forgotten by the queue.
+		 *
+		 * @param followedByBatchLoad whether the same loader batch loaded again in the same session
+		 */
+		void complete(boolean followedByBatchLoad);
+	}
+
+	/**
+	 * Remember the given batch load by the given loader, and return the
+	 * previous batch load by the same loader, if any.
+	 */
+	public @Nullable AdaptiveBatchLoad replaceAdaptiveBatchLoad(Object loader, AdaptiveBatchLoad batchLoad) {
+		if ( adaptiveBatchLoads == null ) {
+			adaptiveBatchLoads = CollectionHelper.mapOfSize( 8 );
+		}
+		return adaptiveBatchLoads.put( loader, batchLoad );
+	}
+
+	/**
+	 * Complete the remembered batch loads, since the entities they
+	 * loaded are no longer going to be used.
+	 * <p>
+	 * Called when the persistence context is cleared.
+	 */
+	public void completeAdaptiveBatchLoads() {
+		if ( adaptiveBatchLoads != null ) {
+			for ( AdaptiveBatchLoad batchLoad : adaptiveBatchLoads.values() ) {
+				batchLoad.complete( false );
+			}
+			adaptiveBatchLoads = null;
+		}
+	}
+
+
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
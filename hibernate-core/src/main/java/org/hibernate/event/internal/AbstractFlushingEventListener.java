@@ -43,6 +43,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.jboss.logging.Logger;
 
 import static org.hibernate.engine.internal.Collections.skipRemoval;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
 
 /**
  * A convenience base class for listeners whose functionality results in flushing.
@@ -252,6 +253,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// when only the default listener is registered, entries which are
+		// known to be clean don't need to be visited at all
+		final boolean skipCleanEntries = isDefaultFlushEntityListenerOnly( flushListeners );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
@@ -261,7 +266,8 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( status != Status.LOADING && status != Status.GONE
+					&& !( skipCleanEntries && isUnequivocallyClean( me.getKey(), entry ) ) ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
@@ -277,6 +283,35 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	static boolean isDefaultFlushEntityListenerOnly(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Is the given entry certainly neither dirty nor the owner of any
+	 * reachable collection? For such an entry, the
+	 * {@link DefaultFlushEntityEventListener} has nothing to do: the
+	 * dirty check would be skipped, and there are no collections to be
+	 * wrapped or searched by reachability.
+	 * <p>
+	 * This is the case for read-only entries, entities of immutable
+	 * types, and enhanced entities whose dirtiness tracker did not
+	 * record any change, as long as they don't have collections.
+	 */
+	private static boolean isUnequivocallyClean(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+			&& entry.getLoadedState() != null
+			&& !entry.getPersister().hasCollections()
+			// avoid calling a custom dirtiness strategy twice for entities which aren't enhanced
+			&& ( !entry.isModifiableEntity() || isSelfDirtinessTracker( entity ) && !entry.requiresDirtyCheck( entity ) );
+	}
+
 	/**
 	 * Reuses a FlushEntityEvent for a new purpose, if possible;
 	 * if not possible a new actual instance is returned.
@@ -0,0 +1,408 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * An {@link EventManager} notifying several event managers, for example both the
+ * JFR and the Micrometer integrations, when they are all available.
+ */
+public final class CompositeEventManager implements EventManager {
+	private final EventManager[] eventManagers;
+
+	public CompositeEventManager(Collection<EventManager> eventManagers) {
+		this.eventManagers = eventManagers.toArray( new EventManager[0] );
+	}
+
+	public List<EventManager> getEventManagers() {
+		return List.of( eventManagers );
+	}
+
+	private HibernateMonitoringEvent begin(Function<EventManager, HibernateMonitoringEvent> begin) {
+		HibernateMonitoringEvent[] events = null;
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			final HibernateMonitoringEvent event = begin.apply( eventManagers[i] );
+			if ( event != null ) {
+				if ( events == null ) {
+					events = new HibernateMonitoringEvent[eventManagers.length];
+				}
+				events[i] = event;
+			}
+		}
+		return events == null ? null : new CompositeMonitoringEvent( events );
+	}
+
+	private static HibernateMonitoringEvent event(HibernateMonitoringEvent event, int i) {
+		return event == null ? null : ( (CompositeMonitoringEvent) event ).events[i];
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return begin( EventManager::beginSessionOpenEvent );
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeSessionOpenEvent( event( sessionOpenEvent, i ), session );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return begin( EventManager::beginSessionClosedEvent );
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeSessionClosedEvent( event( sessionClosedEvent, i ), session );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent() {
+		return begin( EventManager::beginJdbcConnectionAcquisitionEvent );
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeJdbcConnectionAcquisitionEvent(
+					event( jdbcConnectionAcquisitionEvent, i ),
+					session,
+					tenantId
+			);
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionReleaseEvent() {
+		return begin( EventManager::beginJdbcConnectionReleaseEvent );
+	}
+
+	@Override
+	public void completeJdbcConnectionReleaseEvent(
+			HibernateMonitoringEvent jdbcConnectionReleaseEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeJdbcConnectionReleaseEvent(
+					event( jdbcConnectionReleaseEvent, i ),
+					session,
+					tenantId
+			);
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		return begin( EventManager::beginJdbcPreparedStatementCreationEvent );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreation,
+			String preparedStatementSql) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeJdbcPreparedStatementCreationEvent(
+					event( jdbcPreparedStatementCreation, i ),
+					preparedStatementSql
+			);
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent() {
+		return begin( EventManager::beginJdbcPreparedStatementExecutionEvent );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent,
+			String preparedStatementSql) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeJdbcPreparedStatementExecutionEvent(
+					event( jdbcPreparedStatementExecutionEvent, i ),
+					preparedStatementSql
+			);
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return begin( EventManager::beginJdbcBatchExecutionEvent );
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(HibernateMonitoringEvent jdbcBatchExecutionEvent, String statementSql) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeJdbcBatchExecutionEvent( event( jdbcBatchExecutionEvent, i ), statementSql );
+		}
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			SharedSessionContractImplementor session,
+			String statementSql) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeJdbcBatchExecutionEvent( event( jdbcBatchExecutionEvent, i ), session, statementSql );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return begin( EventManager::beginCachePutEvent );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCachePutEvent(
+					event( cachePutEvent, i ),
+					session,
+					region,
+					cacheContentChanged,
+					description
+			);
+		}
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCachePutEvent(
+					event( cachePutEvent, i ),
+					session,
+					cachedDomainDataAccess,
+					persister,
+					cacheContentChanged,
+					description
+			);
+		}
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			boolean isNatualId,
+			CacheActionDescription description) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCachePutEvent(
+					event( cachePutEvent, i ),
+					session,
+					cachedDomainDataAccess,
+					persister,
+					cacheContentChanged,
+					isNatualId,
+					description
+			);
+		}
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCachePutEvent(
+					event( cachePutEvent, i ),
+					session,
+					cachedDomainDataAccess,
+					persister,
+					cacheContentChanged,
+					description
+			);
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return begin( EventManager::beginCacheGetEvent );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCacheGetEvent( event( cacheGetEvent, i ), session, region, hit );
+		}
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			boolean hit) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCacheGetEvent(
+					event( cacheGetEvent, i ),
+					session,
+					region,
+					persister,
+					isNaturalKey,
+					hit
+			);
+		}
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			CollectionPersister persister,
+			boolean hit) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeCacheGetEvent( event( cacheGetEvent, i ), session, region, persister, hit );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return begin( EventManager::beginFlushEvent );
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeFlushEvent( event( flushEvent, i ), event );
+		}
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeFlushEvent( event( flushEvent, i ), event, autoFlush );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginPartialFlushEvent() {
+		return begin( EventManager::beginPartialFlushEvent );
+	}
+
+	@Override
+	public void completePartialFlushEvent(HibernateMonitoringEvent flushEvent, AutoFlushEvent event) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completePartialFlushEvent( event( flushEvent, i ), event );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginDirtyCalculationEvent() {
+		return begin( EventManager::beginDirtyCalculationEvent );
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeDirtyCalculationEvent(
+					event( dirtyCalculationEvent, i ),
+					session,
+					persister,
+					entry,
+					dirtyProperties
+			);
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginPrePartialFlush() {
+		return begin( EventManager::beginPrePartialFlush );
+	}
+
+	@Override
+	public void completePrePartialFlush(
+			HibernateMonitoringEvent prePartialFlush,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completePrePartialFlush( event( prePartialFlush, i ), session );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryExecutionEvent() {
+		return begin( EventManager::beginQueryExecutionEvent );
+	}
+
+	@Override
+	public void completeQueryExecutionEvent(
+			HibernateMonitoringEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String queryIdentifier,
+			int resultCount) {
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			eventManagers[i].completeQueryExecutionEvent(
+					event( queryExecutionEvent, i ),
+					session,
+					queryIdentifier,
+					resultCount
+			);
+		}
+	}
+
+	private static final class CompositeMonitoringEvent implements HibernateMonitoringEvent {
+		private final HibernateMonitoringEvent[] events;
+
+		private CompositeMonitoringEvent(HibernateMonitoringEvent[] events) {
+			this.events = events;
+		}
+	}
+}
@@ -6,21 +6,38 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
+import static java.util.Collections.addAll;
+
 /**
  * Defines the default flush event listeners used by hibernate for
  * flushing session state in response to generated auto-flush events.
@@ -31,6 +48,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	private final Map<String, Serializable[]> affectedSpacesByEntityName = new ConcurrentHashMap<>();
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -55,7 +74,12 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 					preFlush( session, persistenceContext );
 				}
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
-				flushEverythingToExecutions( event, persistenceContext, session );
+				if ( flushToExecutionsMightBeNeeded( event, source ) ) {
+					flushEverythingToExecutions( event, persistenceContext, session );
+				}
+				else {
+					LOG.trace( "Skipping flush to executions since no managed entity affects the query spaces" );
+				}
 				if ( flushIsReallyNeeded( event, source ) ) {
 					LOG.trace( "Need to execute flush" );
 					event.setFlushRequired( true );
@@ -115,6 +139,87 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * Could flushing the state of the persistence context to executions
+	 * result in an action affecting the spaces of the query? This is the
+	 * case unless {@value org.hibernate.cfg.QuerySettings#QUERY_SPACE_AWARE_AUTO_FLUSH}
+	 * is enabled and no managed entity or collection maps to a queried table.
+	 */
+	private boolean flushToExecutionsMightBeNeeded(AutoFlushEvent event, EventSource source) {
+		if ( !source.getFactory().getSessionFactoryOptions().isQuerySpaceAwareAutoFlushEnabled()
+				|| source.getHibernateFlushMode() == FlushMode.ALWAYS ) {
+			return true;
+		}
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( querySpaces.isEmpty() ) {
+			// nothing will be executed anyway
+			return false;
+		}
+		else if ( source.getActionQueue().areTablesToBeUpdated( querySpaces )
+				|| !isDefaultFlushEntityListenerOnly( source.getFactory().getFastSessionServices().eventListenerGroup_FLUSH_ENTITY ) ) {
+			return true;
+		}
+		else {
+			final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+			EntityPersister lastPersister = null;
+			for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+				final EntityPersister persister = entry.getValue().getPersister();
+				if ( persister != lastPersister ) {
+					if ( containsAny( querySpaces, affectedSpaces( persister ) ) ) {
+						return true;
+					}
+					lastPersister = persister;
+				}
+			}
+			final Map<PersistentCollection<?>, CollectionEntry> collectionEntries = persistenceContext.getCollectionEntries();
+			if ( collectionEntries != null ) {
+				for ( CollectionEntry entry : collectionEntries.values() ) {
+					final CollectionPersister persister = entry.getLoadedPersister();
+					if ( persister != null && containsAny( querySpaces, persister.getCollectionSpaces() ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * The tables which might be affected by flushing an instance of the
+	 * given entity, including the tables mapped by its collections.
+	 */
+	private Serializable[] affectedSpaces(EntityPersister persister) {
+		return affectedSpacesByEntityName.computeIfAbsent( persister.getEntityName(), name -> {
+			final Set<Serializable> spaces = new HashSet<>();
+			addAll( spaces, persister.getQuerySpaces() );
+			if ( persister.hasCollections() ) {
+				addCollectionSpaces( spaces, persister.getPropertyTypes(), persister.getFactory() );
+			}
+			return spaces.toArray( new Serializable[0] );
+		} );
+	}
+
+	private static void addCollectionSpaces(Set<Serializable> spaces, Type[] types, SessionFactoryImplementor factory) {
+		for ( Type type : types ) {
+			if ( type instanceof CollectionType ) {
+				final String role = ( (CollectionType) type ).getRole();
+				addAll( spaces, factory.getMappingMetamodel().getCollectionDescriptor( role ).getCollectionSpaces() );
+			}
+			else if ( type instanceof ComponentType ) {
+				addCollectionSpaces( spaces, ( (ComponentType) type ).getSubtypes(), factory );
+			}
+		}
+	}
+
+	private static boolean containsAny(Set<String> querySpaces, Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
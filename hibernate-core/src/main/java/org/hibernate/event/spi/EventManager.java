@@ -72,6 +72,18 @@ public interface EventManager {
 			HibernateMonitoringEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	/**
+	 * Complete the execution of a JDBC batch by the given session.
+	 *
+	 * @since 6.6
+	 */
+	default void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			SharedSessionContractImplementor session,
+			String statementSql) {
+		completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, statementSql );
+	}
+
 	HibernateMonitoringEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -162,6 +174,29 @@ public interface EventManager {
 			SharedSessionContractImplementor session
 	);
 
+	/**
+	 * @since 6.6
+	 */
+	default HibernateMonitoringEvent beginQueryExecutionEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the execution of a select query against the database, as recorded
+	 * by {@link org.hibernate.stat.Statistics#getQueryStatistics(String) query statistics}.
+	 *
+	 * @param queryIdentifier the query string, as used by query statistics
+	 * @param resultCount the number of results, or {@code -1} if unknown
+	 *
+	 * @since 6.6
+	 */
+	default void completeQueryExecutionEvent(
+			HibernateMonitoringEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String queryIdentifier,
+			int resultCount) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -12,6 +12,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -69,6 +71,11 @@ public class IncrementGenerator implements IdentifierGenerator, StandardGenerato
 
 	private IntegralDataTypeHolder previousValueHolder;
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+
 	/**
 	 * @deprecated Exposed for tests only.
 	 */
@@ -78,11 +85,17 @@ public class IncrementGenerator implements IdentifierGenerator, StandardGenerato
 	}
 
 	@Override
-	public synchronized Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		if ( sql != null ) {
-			initializePreviousValueHolder( session );
+	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+		lock.lock();
+		try {
+			if ( sql != null ) {
+				initializePreviousValueHolder( session );
+			}
+			return previousValueHolder.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
 		}
-		return previousValueHolder.makeValueThenIncrement();
 	}
 
 	@Override
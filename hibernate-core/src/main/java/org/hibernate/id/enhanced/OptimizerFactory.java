@@ -15,6 +15,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.jboss.logging.Logger;
 
 import static org.hibernate.internal.util.StringHelper.isNotEmpty;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Factory for {@link Optimizer} instances.
@@ -86,6 +87,38 @@ public class OptimizerFactory {
 		return optimizer;
 	}
 
+	/**
+	 * Builds an optimizer, and applies the optimizer settings given in the
+	 * parameters of the generator.
+	 *
+	 * @param type The optimizer type, either a shorthand name or the {@link Optimizer} class name.
+	 * @param returnClass The generated value java type
+	 * @param incrementSize The increment size.
+	 * @param explicitInitialValue The user supplied initial-value (-1 indicates the user did not specify).
+	 * @param parameters The parameters of the generator
+	 *
+	 * @return The built optimizer
+	 *
+	 * @since 6.6
+	 */
+	public static Optimizer buildOptimizer(
+			OptimizerDescriptor type,
+			Class<?> returnClass,
+			int incrementSize,
+			long explicitInitialValue,
+			Properties parameters) {
+		final Optimizer optimizer = buildOptimizer( type, returnClass, incrementSize, explicitInitialValue );
+		if ( optimizer instanceof PooledLoPrefetchOptimizer ) {
+			final PooledLoPrefetchOptimizer prefetchOptimizer = (PooledLoPrefetchOptimizer) optimizer;
+			prefetchOptimizer.setPrefetchThreshold( getInt(
+					AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD,
+					parameters,
+					prefetchOptimizer.getPrefetchThreshold()
+			) );
+		}
+		return optimizer;
+	}
+
 	/**
 	 * Determine the optimizer to use when there was not one explicitly specified.
 	 */
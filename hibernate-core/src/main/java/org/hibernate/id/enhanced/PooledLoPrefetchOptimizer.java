@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which never holds a lock, and which
+ * obtains the next pool of values before the current one is exhausted.
+ * <p>
+ * Values are handed out from the current pool by atomically incrementing a
+ * counter. The caller which receives the value at the
+ * {@linkplain #setPrefetchThreshold prefetch threshold} obtains the next pool
+ * from the database, while concurrent callers continue to use the remaining
+ * values of the current pool. When the current pool is exhausted, it is
+ * replaced by the prefetched pool. A caller only waits for the database if the
+ * current pool runs out before the next pool was obtained, and even then it
+ * obtains a pool of its own, instead of waiting for another caller.
+ * <p>
+ * The next pool is obtained using the {@link AccessCallback} of the caller,
+ * which is bound to its session, and so the database round trip happens in
+ * the thread of the caller, but never while other callers wait for it.
+ * <p>
+ * The values are held as {@code long}s, and so must be within its range.
+ * A pool may be discarded when callers race to replace an exhausted pool,
+ * which leaves a gap in the generated values.
+ *
+ * @see PooledLoOptimizer
+ * @see org.hibernate.cfg.MappingSettings#POOLED_OPTIMIZER_PREFETCH_THRESHOLD
+ */
+public class PooledLoPrefetchOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoPrefetchOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	private int prefetchThreshold;
+
+	/**
+	 * Constructs a {@code PooledLoPrefetchOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+		prefetchThreshold = ( incrementSize + 1 ) / 2;
+	}
+
+	/**
+	 * The number of values left in the current pool when the next pool
+	 * is obtained, by default half the increment size.
+	 */
+	public int getPrefetchThreshold() {
+		return prefetchThreshold;
+	}
+
+	/**
+	 * Set the number of values left in the current pool when the next pool
+	 * is obtained, a value between {@code 0}, which disables prefetching,
+	 * and the increment size.
+	 */
+	public void setPrefetchThreshold(int prefetchThreshold) {
+		if ( prefetchThreshold < 0 || prefetchThreshold > incrementSize ) {
+			throw new HibernateException(
+					"prefetch threshold must be between 0 and the increment size [" + incrementSize + "]"
+			);
+		}
+		this.prefetchThreshold = prefetchThreshold;
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState generationState = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return getIntegralDataTypeHolder( returnClass )
+				.initialize( generationState.generate( callback ) )
+				.makeValue();
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private Pool obtainPool(AccessCallback callback) {
+		final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+		final long lo = sourceValue.makeValue().longValue();
+		final long upperLimit = lo + incrementSize;
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		final long first = Math.max( lo, 1 );
+		final long prefetchValue = prefetchThreshold == 0 ? upperLimit : upperLimit - prefetchThreshold;
+		return new Pool( sourceValue, first, upperLimit, Math.max( prefetchValue, first ) );
+	}
+
+	private class GenerationState {
+		private final AtomicReference<Pool> currentPool = new AtomicReference<>();
+		private final AtomicReference<Pool> nextPool = new AtomicReference<>();
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private long generate(AccessCallback callback) {
+			while ( true ) {
+				final Pool pool = currentPool.get();
+				if ( pool != null ) {
+					final long value = pool.nextValue.getAndIncrement();
+					if ( value < pool.upperLimit ) {
+						// exactly one caller receives this value
+						if ( value == pool.prefetchValue ) {
+							prefetch( callback );
+						}
+						return value;
+					}
+				}
+				// the pool is exhausted, so replace it
+				Pool replacement = nextPool.getAndSet( null );
+				if ( replacement == null ) {
+					replacement = obtain( callback );
+				}
+				if ( !currentPool.compareAndSet( pool, replacement ) ) {
+					// another caller replaced it first, keep ours for later if there's room
+					nextPool.compareAndSet( null, replacement );
+				}
+			}
+		}
+
+		private void prefetch(AccessCallback callback) {
+			if ( nextPool.get() == null ) {
+				nextPool.compareAndSet( null, obtain( callback ) );
+			}
+		}
+
+		private Pool obtain(AccessCallback callback) {
+			final Pool pool = obtainPool( callback );
+			lastSourceValue = pool.sourceValue;
+			return pool;
+		}
+	}
+
+	private static class Pool {
+		private final IntegralDataTypeHolder sourceValue;
+		private final AtomicLong nextValue;
+		private final long upperLimit;
+		private final long prefetchValue;
+
+		private Pool(IntegralDataTypeHolder sourceValue, long first, long upperLimit, long prefetchValue) {
+			this.sourceValue = sourceValue;
+			this.nextValue = new AtomicLong( first );
+			this.upperLimit = upperLimit;
+			this.prefetchValue = prefetchValue;
+		}
+	}
+}
@@ -239,7 +239,8 @@ public class SequenceStyleGenerator
 				optimizationStrategy,
 				identifierType.getReturnedClass(),
 				incrementSize,
-				getInt( INITIAL_PARAM, parameters, -1 )
+				getInt( INITIAL_PARAM, parameters, -1 ),
+				parameters
 		);
 		this.databaseStructure.configure( optimizer );
 	}
@@ -44,7 +44,15 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, values are generated without
+	 * locking, and the next chunk is obtained before the current one is exhausted.
+	 *
+	 * @since 6.6
+	 */
+	POOLED_LO_PREFETCH;
 
 	@Override
 	public String getExternalName() {
@@ -61,6 +69,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_LO_PREFETCH:
+				return "pooled-lo-prefetch";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -80,6 +90,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_LO_PREFETCH:
+				return PooledLoPrefetchOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -94,6 +106,7 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_LO_PREFETCH:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
@@ -352,7 +352,8 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 				determineOptimizationStrategy( parameters, incrementSize ),
 				identifierType.getReturnedClass(),
 				incrementSize,
-				getInt( INITIAL_PARAM, parameters, -1 )
+				getInt( INITIAL_PARAM, parameters, -1 ),
+				parameters
 		);
 
 		contributor = parameters.getProperty( CONTRIBUTOR_NAME );
@@ -114,6 +114,11 @@ public class IdentifierGeneratorUtil {
 			params.put( AvailableSettings.PREFERRED_POOLED_OPTIMIZER,
 					settings.get( AvailableSettings.PREFERRED_POOLED_OPTIMIZER ) );
 		}
+		if ( settings.containsKey( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD )
+				&& !params.containsKey( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD ) ) {
+			params.put( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD,
+					settings.get( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD ) );
+		}
 
 		return params;
 	}
@@ -25,6 +25,7 @@ import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.internal.CompositeEventManager;
 import org.hibernate.event.internal.EmptyEventManager;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -280,9 +281,15 @@ public final class FastSessionServices {
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
 		final Collection<EventManager> eventManagers = classLoaderService.loadJavaServices( EventManager.class );
-		this.eventManager = eventManagers.isEmpty()
-				? new EmptyEventManager()
-				: eventManagers.iterator().next();
+		if ( eventManagers.isEmpty() ) {
+			this.eventManager = new EmptyEventManager();
+		}
+		else if ( eventManagers.size() == 1 ) {
+			this.eventManager = eventManagers.iterator().next();
+		}
+		else {
+			this.eventManager = new CompositeEventManager( eventManagers );
+		}
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -6,13 +6,16 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
@@ -55,6 +58,7 @@ import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -165,6 +169,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public void insertMultiple(List<?> entities) {
+		performBatched( entities, entity -> insert( null, entity ) );
+	}
+
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -198,6 +207,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	}
 
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		performBatched( entities, entity -> delete( null, entity ) );
+	}
+
 
 	// updates ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -249,6 +263,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	}
 
+	@Override
+	public void updateMultiple(List<?> entities) {
+		performBatched( entities, entity -> update( null, entity ) );
+	}
+
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
@@ -449,6 +468,42 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return collectionSemantics.wrap(collection, descriptor, this);
 	}
 
+	// batching ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Perform the given operation for each of the given entities, using a
+	 * single JDBC batch for the resulting statements unless batching was
+	 * explicitly configured, and execute the batch before returning, or
+	 * abort it if the operation fails.
+	 */
+	private void performBatched(List<?> entities, Consumer<Object> operation) {
+		checkOpen();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int effectiveBatchSize = jdbcBatchSize == null
+				? getFactory().getSessionFactoryOptions().getJdbcBatchSize()
+				: jdbcBatchSize;
+		final boolean adjustBatchSize = effectiveBatchSize < 2;
+		if ( adjustBatchSize ) {
+			setJdbcBatchSize( entities.size() );
+		}
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			// the statements of the previous entities must not be executed later
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			if ( adjustBatchSize ) {
+				setJdbcBatchSize( jdbcBatchSize );
+			}
+		}
+	}
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -478,6 +533,62 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return result;
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final List<?> results = getEntityPersister( entityClass.getName() )
+				.multiLoad( ids.toArray(), this, StatelessMultiIdLoadOptions.INSTANCE );
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) results;
+	}
+
+	/**
+	 * A stateless session has no first-level cache and does not
+	 * interact with the second-level cache, and the results are
+	 * always returned in the order of the given ids.
+	 */
+	private static class StatelessMultiIdLoadOptions implements MultiIdLoadOptions {
+		private static final StatelessMultiIdLoadOptions INSTANCE = new StatelessMultiIdLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	@Override
 	public <T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id) {
 		return get( graph, graphSemantic, id, LockMode.NONE );
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+
+/**
+ * A probabilistic estimate of the popularity of cache keys, for use by
+ * caches with a TinyLFU admission policy.
+ * <p>
+ * This is a Count-Min sketch of 4-bit counters, where each {@code long}
+ * holds 16 counters.  Each key maps to one counter in each of four rows,
+ * and its frequency is the minimum of these counters.  Once the number of
+ * increments reaches the sample size, all counters are halved, so that the
+ * sketch forgets keys which are no longer popular.
+ * <p>
+ * Not thread-safe, access must be guarded by the owner.
+ */
+public final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	private static final int MAX_TABLE_SIZE = 1 << 16;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	/**
+	 * @param expectedEntries The expected number of distinct keys
+	 */
+	public FrequencySketch(long expectedEntries) {
+		final int tableSize = tableSizeFor( expectedEntries );
+		this.table = new long[tableSize];
+		this.tableMask = tableSize - 1;
+		this.sampleSize = 10 * tableSize;
+	}
+
+	private static int tableSizeFor(long expectedEntries) {
+		int tableSize = 16;
+		while ( tableSize < expectedEntries && tableSize < MAX_TABLE_SIZE ) {
+			tableSize <<= 1;
+		}
+		return tableSize;
+	}
+
+	/**
+	 * The estimated number of occurrences of the key with the given hash
+	 * code, at most 15
+	 */
+	public int frequency(int hash) {
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an occurrence of the key with the given hash code
+	 */
+	public void increment(int hash) {
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	/**
+	 * Forget all recorded occurrences
+	 */
+	public void clear() {
+		Arrays.fill( table, 0L );
+		size = 0;
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private int indexOf(int hash, int row) {
+		long h = ( hash + SEEDS[row] ) * SEEDS[row];
+		h += h >>> 32;
+		return ( (int) h ) & tableMask;
+	}
+
+	private void reset() {
+		int oddCounters = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			oddCounters += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size - ( oddCounters >>> 2 ) ) >>> 1;
+	}
+}
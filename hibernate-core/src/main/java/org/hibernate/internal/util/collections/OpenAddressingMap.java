@@ -0,0 +1,321 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} based on open addressing with linear probing. Keys and
+ * values are stored next to each other in a single array, so that, unlike
+ * {@link java.util.HashMap}, no node object is allocated per mapping, and
+ * a lookup usually reads a single cache line of the table.
+ * <p>
+ * Removed mappings leave a tombstone behind, which is reused by later
+ * insertions, and discarded when the table is rehashed.
+ * <p>
+ * Keys are compared using {@code equals()}, and may not be null. This
+ * class is not thread-safe.
+ */
+public final class OpenAddressingMap<K,V> extends AbstractMap<K,V> {
+
+	private static final Object TOMBSTONE = new Object();
+	private static final int MINIMUM_CAPACITY = 8;
+
+	// key of slot i at index 2*i, and its value at index 2*i+1
+	private Object[] table;
+	private int size;
+	// number of slots holding either a key or a tombstone
+	private int usedSlots;
+	private int modCount;
+
+	private transient Set<Entry<K,V>> entrySet;
+
+	public OpenAddressingMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of mappings which may be added without
+	 * resizing the table
+	 */
+	public OpenAddressingMap(int expectedSize) {
+		table = new Object[2 * capacityFor( expectedSize )];
+	}
+
+	/**
+	 * The smallest power of two which keeps the load factor under 3/4
+	 */
+	private static int capacityFor(int expectedSize) {
+		final int minimumCapacity = Math.max( MINIMUM_CAPACITY, expectedSize + expectedSize / 3 + 1 );
+		return Integer.highestOneBit( minimumCapacity - 1 ) << 1;
+	}
+
+	private static int slot(Object key, int mask) {
+		// Fibonacci hashing, to spread poorly distributed hash codes
+		final int hash = key.hashCode() * 0x9E3779B9;
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	private int indexOf(Object key) {
+		final Object[] table = this.table;
+		final int mask = ( table.length >> 1 ) - 1;
+		for ( int i = slot( key, mask ); ; i = ( i + 1 ) & mask ) {
+			final Object candidate = table[i << 1];
+			if ( candidate == null ) {
+				return -1;
+			}
+			else if ( candidate == key || candidate != TOMBSTONE && key.equals( candidate ) ) {
+				return i;
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && indexOf( key ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) table[( index << 1 ) + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "Null keys are not supported" );
+		}
+		final Object[] table = this.table;
+		final int mask = ( table.length >> 1 ) - 1;
+		int firstTombstone = -1;
+		for ( int i = slot( key, mask ); ; i = ( i + 1 ) & mask ) {
+			final Object candidate = table[i << 1];
+			if ( candidate == null ) {
+				final int index;
+				if ( firstTombstone >= 0 ) {
+					index = firstTombstone;
+				}
+				else {
+					index = i;
+					usedSlots++;
+				}
+				table[index << 1] = key;
+				table[( index << 1 ) + 1] = value;
+				size++;
+				modCount++;
+				if ( usedSlots > ( mask + 1 ) - ( ( mask + 1 ) >> 2 ) ) {
+					rehash();
+				}
+				return null;
+			}
+			else if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = i;
+				}
+			}
+			else if ( candidate == key || key.equals( candidate ) ) {
+				final Object previous = table[( i << 1 ) + 1];
+				table[( i << 1 ) + 1] = value;
+				return (V) previous;
+			}
+		}
+	}
+
+	private void rehash() {
+		final Object[] oldTable = table;
+		final Object[] newTable = new Object[2 * capacityFor( size )];
+		final int mask = ( newTable.length >> 1 ) - 1;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			final Object key = oldTable[i];
+			if ( key != null && key != TOMBSTONE ) {
+				int index = slot( key, mask );
+				while ( newTable[index << 1] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				newTable[index << 1] = key;
+				newTable[( index << 1 ) + 1] = oldTable[i + 1];
+			}
+		}
+		table = newTable;
+		usedSlots = size;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		else {
+			final V previous = (V) table[( index << 1 ) + 1];
+			removeAt( index );
+			return previous;
+		}
+	}
+
+	private void removeAt(int index) {
+		final Object[] table = this.table;
+		final int mask = ( table.length >> 1 ) - 1;
+		if ( table[( ( index + 1 ) & mask ) << 1] == null ) {
+			// no probe sequence continues past this slot
+			table[index << 1] = null;
+			usedSlots--;
+		}
+		else {
+			table[index << 1] = TOMBSTONE;
+		}
+		table[( index << 1 ) + 1] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( usedSlots > 0 ) {
+			Arrays.fill( table, null );
+			size = 0;
+			usedSlots = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] table = this.table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			final Object key = table[i];
+			if ( key != null && key != TOMBSTONE ) {
+				action.accept( (K) key, (V) table[i + 1] );
+				if ( modCount != expectedModCount ) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<K,V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K,V>> {
+		@Override
+		public Iterator<Entry<K,V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingMap.this.clear();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<K,V>> {
+		private int next = nextSlot( 0 );
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		private int nextSlot(int from) {
+			final Object[] table = OpenAddressingMap.this.table;
+			int slot = from;
+			while ( ( slot << 1 ) < table.length
+					&& ( table[slot << 1] == null || table[slot << 1] == TOMBSTONE ) ) {
+				slot++;
+			}
+			return slot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return ( next << 1 ) < table.length;
+		}
+
+		@Override
+		public Entry<K,V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next = nextSlot( next + 1 );
+			return new SlotEntry( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( current );
+			current = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class SlotEntry extends SimpleEntry<K,V> {
+		private final int slot;
+		private final Object[] table;
+
+		@SuppressWarnings("unchecked")
+		private SlotEntry(int slot) {
+			super( (K) OpenAddressingMap.this.table[slot << 1], (V) OpenAddressingMap.this.table[( slot << 1 ) + 1] );
+			this.slot = slot;
+			this.table = OpenAddressingMap.this.table;
+		}
+
+		@Override
+		public V setValue(V value) {
+			// write through, unless the table has been rehashed since
+			if ( table == OpenAddressingMap.this.table && table[slot << 1] == getKey() ) {
+				table[( slot << 1 ) + 1] = value;
+			}
+			return super.setValue( value );
+		}
+	}
+}
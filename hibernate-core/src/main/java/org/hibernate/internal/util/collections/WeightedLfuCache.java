@@ -0,0 +1,287 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A concurrent cache which is bounded by the total weight of its entries,
+ * rather than by their number.
+ * <p>
+ * Lookups never block: the entry is read from a {@link ConcurrentHashMap},
+ * and the access is recorded by one of several {@linkplain FrequencySketch
+ * frequency sketches}, chosen by the hash code of the key, but only if the
+ * lock of this stripe is free.  Losing a few samples under contention just
+ * makes the frequency estimates slightly less accurate.
+ * <p>
+ * When the total weight exceeds the maximum, the victims are chosen by a
+ * clock hand sweeping over the entries: of each sample of {@value #SAMPLE_SIZE}
+ * entries, the one with the lowest estimated frequency is evicted.  However,
+ * a new entry which is estimated to be used less often than the victim is
+ * rejected instead, so that entries which are used only once can not flush
+ * the popular ones from the cache.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class WeightedLfuCache<K, V> {
+	private static final int SAMPLE_SIZE = 8;
+	private static final int MAX_STRIPES = 64;
+
+	private final ConcurrentHashMap<K, Node<V>> data = new ConcurrentHashMap<>();
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final long maxWeight;
+	private final AtomicLong weight = new AtomicLong();
+
+	private final Stripe[] stripes;
+	private final int stripeMask;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	// guarded by evictionLock
+	private Iterator<Map.Entry<K, Node<V>>> clockHand;
+
+	/**
+	 * @param maxWeight The maximum total weight of the entries
+	 * @param expectedEntries The expected number of entries of the full cache,
+	 * which determines the size of the frequency sketches
+	 * @param weigher Computes the weight of an entry, at least {@code 1}
+	 */
+	public WeightedLfuCache(long maxWeight, int expectedEntries, ToIntBiFunction<? super K, ? super V> weigher) {
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+
+		int stripeCount = 1;
+		while ( stripeCount < Runtime.getRuntime().availableProcessors() && stripeCount < MAX_STRIPES ) {
+			stripeCount <<= 1;
+		}
+		this.stripes = new Stripe[stripeCount];
+		// the keys are spread evenly over the stripes
+		final long expectedEntriesPerStripe = Math.max( 1, ( (long) expectedEntries + stripeCount - 1 ) / stripeCount );
+		for ( int i = 0; i < stripeCount; i++ ) {
+			stripes[i] = new Stripe( expectedEntriesPerStripe );
+		}
+		this.stripeMask = stripeCount - 1;
+	}
+
+	/**
+	 * The value cached for the given key, or {@code null}
+	 */
+	public V get(K key) {
+		final int hash = hash( key );
+		final Stripe stripe = stripeFor( hash );
+		if ( stripe.lock.tryLock() ) {
+			try {
+				stripe.sketch.increment( hash );
+			}
+			finally {
+				stripe.lock.unlock();
+			}
+		}
+		final Node<V> node = data.get( key );
+		return node == null ? null : node.value;
+	}
+
+	/**
+	 * Cache the given value, unless it is estimated to be used less often
+	 * than the entries which would have to be evicted to make room for it.
+	 */
+	public void put(K key, V value) {
+		final Node<V> node = new Node<>( value, Math.max( 1, weigher.applyAsInt( key, value ) ) );
+		final Node<V> previous = data.put( key, node );
+		final long totalWeight = weight.addAndGet( previous == null ? node.weight : node.weight - previous.weight );
+		if ( totalWeight > maxWeight ) {
+			evict( key, node );
+		}
+	}
+
+	/**
+	 * The value cached for the given key, or the value created, and possibly
+	 * cached, by the given function
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V created = creator.apply( key );
+		if ( created != null ) {
+			put( key, created );
+		}
+		return created;
+	}
+
+	/**
+	 * The cached keys, most frequently used first
+	 *
+	 * @param limit The maximum number of keys to return
+	 */
+	public List<K> getMostFrequentKeys(int limit) {
+		final List<KeyFrequency<K>> frequencies = new ArrayList<>( data.size() );
+		for ( K key : data.keySet() ) {
+			frequencies.add( new KeyFrequency<>( key, frequency( key ) ) );
+		}
+		frequencies.sort( (first, second) -> Integer.compare( second.frequency, first.frequency ) );
+
+		final int size = Math.min( limit, frequencies.size() );
+		final List<K> keys = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			keys.add( frequencies.get( i ).key );
+		}
+		return keys;
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * The total weight of the cached entries
+	 */
+	public long weightedSize() {
+		return weight.get();
+	}
+
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( Map.Entry<K, Node<V>> entry : data.entrySet() ) {
+				remove( entry.getKey(), entry.getValue() );
+			}
+			clockHand = null;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void evict(K candidateKey, Node<V> candidate) {
+		evictionLock.lock();
+		try {
+			boolean candidatePending = true;
+			final int candidateFrequency = frequency( candidateKey );
+			while ( weight.get() > maxWeight ) {
+				final Map.Entry<K, Node<V>> victim = sample( candidateKey );
+				if ( victim == null ) {
+					// the candidate is the only entry
+					break;
+				}
+				if ( candidatePending ) {
+					candidatePending = false;
+					if ( candidateFrequency < frequency( victim.getKey() ) && remove( candidateKey, candidate ) ) {
+						// the victim is more popular, reject the candidate
+						continue;
+					}
+				}
+				remove( victim.getKey(), victim.getValue() );
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Advance the clock hand over a sample of entries, and return the one
+	 * with the lowest frequency
+	 */
+	private Map.Entry<K, Node<V>> sample(K candidateKey) {
+		Map.Entry<K, Node<V>> victim = null;
+		int victimFrequency = Integer.MAX_VALUE;
+		boolean wrapped = false;
+		int sampled = 0;
+		while ( sampled < SAMPLE_SIZE ) {
+			if ( clockHand == null || !clockHand.hasNext() ) {
+				if ( wrapped ) {
+					break;
+				}
+				wrapped = true;
+				clockHand = data.entrySet().iterator();
+				continue;
+			}
+			final Map.Entry<K, Node<V>> entry = clockHand.next();
+			if ( !entry.getKey().equals( candidateKey ) ) {
+				final int frequency = frequency( entry.getKey() );
+				if ( frequency < victimFrequency ) {
+					victim = entry;
+					victimFrequency = frequency;
+				}
+				sampled++;
+			}
+		}
+		return victim;
+	}
+
+	private boolean remove(K key, Node<V> node) {
+		if ( data.remove( key, node ) ) {
+			weight.addAndGet( -node.weight );
+			return true;
+		}
+		return false;
+	}
+
+	private int frequency(K key) {
+		final int hash = hash( key );
+		final Stripe stripe = stripeFor( hash );
+		stripe.lock.lock();
+		try {
+			return stripe.sketch.frequency( hash );
+		}
+		finally {
+			stripe.lock.unlock();
+		}
+	}
+
+	private Stripe stripeFor(int hash) {
+		return stripes[( hash >>> 24 ) & stripeMask];
+	}
+
+	private static int hash(Object key) {
+		final int hash = key.hashCode() * 0x9e3779b9;
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private static final class Node<V> {
+		private final V value;
+		private final int weight;
+
+		private Node(V value, int weight) {
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	private static final class Stripe {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final FrequencySketch sketch;
+
+		private Stripe(long expectedEntries) {
+			this.sketch = new FrequencySketch( expectedEntries );
+		}
+	}
+
+	private static final class KeyFrequency<K> {
+		private final K key;
+		private final int frequency;
+
+		private KeyFrequency(K key, int frequency) {
+			this.key = key;
+			this.frequency = frequency;
+		}
+	}
+}
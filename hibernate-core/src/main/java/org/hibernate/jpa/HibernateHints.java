@@ -63,6 +63,38 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint which enables streaming mode for a query whose results are
+	 * consumed via {@link org.hibernate.query.SelectionQuery#getResultStream()},
+	 * specifying how many of the most recently emitted results are kept
+	 * managed by the persistence context.
+	 * <p>
+	 * In streaming mode, each result which falls out of this window is
+	 * {@linkplain org.hibernate.Session#detach detached}, so that iterating
+	 * an arbitrarily large result needs a bounded amount of memory. Unless
+	 * a {@linkplain #HINT_FETCH_SIZE fetch size} is given, the
+	 * {@linkplain org.hibernate.dialect.Dialect#getStreamingFetchSize
+	 * streaming fetch size of the dialect} is applied to the execution of
+	 * the stream.
+	 *
+	 * @apiNote Entities returned as elements of an {@code Object[]}, a
+	 *          {@link jakarta.persistence.Tuple}, a {@code List}, or a {@code Map}
+	 *          are detached, but entities held by an instance of a DTO class, a
+	 *          record, for example, are not. Associated entities are only detached
+	 *          along with the result if the association cascades
+	 *          {@link jakarta.persistence.CascadeType#DETACH}.
+	 * @implNote On MySQL, the streaming fetch size makes Connector/J stream
+	 *           the rows over the connection, which can't be used for anything
+	 *           else until the stream is closed. So the results must not trigger
+	 *           secondary selects, for lazy or subselect fetching, for example,
+	 *           while the stream is being consumed.
+	 *
+	 * @see org.hibernate.query.spi.QueryOptions#getStreamingWindowSize()
+	 *
+	 * @since 6.6
+	 */
+	String HINT_STREAMING_WINDOW = "org.hibernate.streamingWindow";
+
 	/**
 	 * Hint for specifying whether results from a query should be 
 	 * stored in the query cache.
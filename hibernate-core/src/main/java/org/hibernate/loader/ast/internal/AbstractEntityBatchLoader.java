@@ -15,6 +15,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
@@ -23,10 +25,27 @@ public abstract class AbstractEntityBatchLoader<T>
 		implements EntityBatchLoader<T> {
 
 	private final SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
+	private final @Nullable AdaptiveBatchFetchSize adaptiveBatchFetchSize;
 
-	public AbstractEntityBatchLoader(EntityMappingType entityDescriptor, LoadQueryInfluencers loadQueryInfluencers) {
+	public AbstractEntityBatchLoader(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers.getSessionFactory() );
 		this.singleIdLoader = new SingleIdEntityLoaderStandardImpl<>( entityDescriptor, loadQueryInfluencers );
+		this.adaptiveBatchFetchSize = sessionFactory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled()
+				? new AdaptiveBatchFetchSize( domainBatchSize, entityDescriptor, sessionFactory )
+				: null;
+	}
+
+	/**
+	 * The number of ids to load in the next batch, which may be less than
+	 * the {@linkplain #getDomainBatchSize() domain batch size} when
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is enabled
+	 */
+	protected int getBatchSize() {
+		return adaptiveBatchFetchSize == null ? getDomainBatchSize() : adaptiveBatchFetchSize.getBatchSize();
 	}
 
 	protected abstract void initializeEntities(
@@ -95,6 +114,9 @@ public abstract class AbstractEntityBatchLoader<T>
 		}
 
 		initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
+		if ( adaptiveBatchFetchSize != null ) {
+			adaptiveBatchFetchSize.batchLoaded( ids, session );
+		}
 
 		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 		//noinspection unchecked
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Learns the number of instances of an entity to batch fetch from the
+ * proxies which are actually accessed after a batch load.
+ * <p>
+ * The instances loaded along with the requested one are only useful if
+ * their proxies are {@linkplain LazyInitializer#wasImplementationAccessed
+ * accessed} later, within the same session.  When the entity is batch
+ * loaded again, or when the persistence context is cleared, the number
+ * of proxies of the previous batch which were accessed is
+ * fed into an exponentially weighted average, from which the batch size is
+ * derived.  A full batch which was entirely used, and followed by another
+ * batch load, indicates that the batch size is too small.
+ * <p>
+ * The batch size is shared by all sessions, and never exceeds the
+ * configured batch size.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+public class AdaptiveBatchFetchSize {
+	private static final int MINIMUM_BATCH_SIZE = 2;
+
+	private final EntityMappingType entityDescriptor;
+	private final SessionFactoryImplementor sessionFactory;
+	private final int maximumBatchSize;
+
+	// concurrent sessions may occasionally lose an update, which is harmless
+	private volatile double averageUsefulIds;
+	private volatile int batchSize;
+
+	public AdaptiveBatchFetchSize(
+			int maximumBatchSize,
+			EntityMappingType entityDescriptor,
+			SessionFactoryImplementor sessionFactory) {
+		this.entityDescriptor = entityDescriptor;
+		this.sessionFactory = sessionFactory;
+		this.maximumBatchSize = maximumBatchSize;
+		this.averageUsefulIds = maximumBatchSize;
+		this.batchSize = maximumBatchSize;
+	}
+
+	/**
+	 * The number of ids to batch load next
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Remember the ids which were just batch loaded, so that we can later
+	 * check which of them were needed, and learn from the previous batch
+	 * load of the same entity within the session.
+	 *
+	 * @param ids the ids which were loaded, where the first one is the requested id,
+	 * possibly padded with nulls
+	 */
+	public void batchLoaded(Object[] ids, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final LazyInitializer[] lazyInitializers = new LazyInitializer[ids.length - 1];
+		int loaded = 1;
+		for ( int i = 1; i < ids.length; i++ ) {
+			if ( ids[i] != null ) {
+				final EntityKey entityKey = session.generateEntityKey( ids[i], entityDescriptor.getEntityPersister() );
+				lazyInitializers[loaded - 1] = extractLazyInitializer( persistenceContext.getProxy( entityKey ) );
+				loaded++;
+			}
+		}
+		final BatchFetchQueue.AdaptiveBatchLoad previous = persistenceContext.getBatchFetchQueue()
+				.replaceAdaptiveBatchLoad( this, new BatchLoad( lazyInitializers, loaded, loaded >= batchSize ) );
+		if ( previous != null ) {
+			previous.complete( true );
+		}
+	}
+
+	private void learn(double usefulIds) {
+		final double average = averageUsefulIds + ( usefulIds - averageUsefulIds ) / 4;
+		averageUsefulIds = average;
+		final int newBatchSize = Math.max( MINIMUM_BATCH_SIZE, Math.min( maximumBatchSize, (int) Math.ceil( average ) ) );
+		if ( newBatchSize != batchSize ) {
+			batchSize = newBatchSize;
+			if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.debugf(
+						"Adjusted batch size for `%s` to %s",
+						entityDescriptor.getEntityName(),
+						newBatchSize
+				);
+			}
+			final StatisticsImplementor statistics = sessionFactory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.entityBatchFetchSizeAdjusted( entityDescriptor.getEntityName(), newBatchSize );
+			}
+		}
+	}
+
+	/**
+	 * A batch load of the entity, remembered by the {@link BatchFetchQueue}
+	 * until its usefulness can be determined.
+	 */
+	private final class BatchLoad implements BatchFetchQueue.AdaptiveBatchLoad {
+		private final LazyInitializer[] lazyInitializers;
+		private final int loaded;
+		private final boolean full;
+
+		private BatchLoad(LazyInitializer[] lazyInitializers, int loaded, boolean full) {
+			this.lazyInitializers = lazyInitializers;
+			this.loaded = loaded;
+			this.full = full;
+		}
+
+		@Override
+		public void complete(boolean followedByBatchLoad) {
+			int proxies = 0;
+			int accessed = 0;
+			for ( LazyInitializer lazyInitializer : lazyInitializers ) {
+				if ( lazyInitializer != null ) {
+					proxies++;
+					// the batch load initialized every proxy, so only
+					// count those which the application went on to use
+					if ( lazyInitializer.wasImplementationAccessed() ) {
+						accessed++;
+					}
+				}
+			}
+			// entities referenced without proxies tell us nothing
+			if ( proxies > 0 ) {
+				if ( full && followedByBatchLoad && accessed == proxies ) {
+					learn( 2.0 * loaded );
+				}
+				else {
+					learn( 1 + (double) accessed * ( loaded - 1 ) / proxies );
+				}
+			}
+		}
+	}
+}
@@ -299,7 +299,11 @@ public class CacheEntityLoaderHelper {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the entry was written using a different layout, treat it as a miss
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
@@ -38,6 +38,8 @@ import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.type.BasicType;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.fetchesAvoided;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -211,6 +213,7 @@ public class CollectionBatchLoaderArrayParam
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
+		fetchesAvoided( countIds( keysToInitialize ), session );
 	}
 
 	@Override
@@ -24,6 +24,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.fetchesAvoided;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
 /**
@@ -154,6 +155,7 @@ public class CollectionBatchLoaderInPredicate
 							finishInitializingKey( keysToInitialize[keyPosition], session );
 						}
 					}
+					fetchesAvoided( nonNullElementCount - 1, session );
 				},
 				session
 		);
@@ -36,6 +36,8 @@ import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.fetchesAvoided;
+
 /**
  * A one-time use {@link CollectionLoader} for applying a subselect fetch.
  *
@@ -160,6 +162,7 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 					}
 			);
 
+			fetchesAvoided( subSelectFetchedCollections.size(), session );
 			subSelectFetchedCollections.clear();
 		}
 
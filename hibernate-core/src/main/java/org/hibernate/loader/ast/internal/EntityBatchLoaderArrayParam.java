@@ -27,6 +27,8 @@ import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 import static org.hibernate.engine.internal.BatchFetchQueueHelper.removeBatchLoadableEntityKey;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.fetchesAvoided;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
@@ -65,7 +67,7 @@ public class EntityBatchLoaderArrayParam<T>
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
-		super( entityDescriptor, loadQueryInfluencers );
+		super( domainBatchSize, entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
 
@@ -112,15 +114,16 @@ public class EntityBatchLoaderArrayParam<T>
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
+		final int batchSize = getBatchSize();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
@@ -156,6 +159,7 @@ public class EntityBatchLoaderArrayParam<T>
 				readOnly,
 				session
 		);
+		fetchesAvoided( countIds( idsToInitialize ), session );
 	}
 
 	@Override
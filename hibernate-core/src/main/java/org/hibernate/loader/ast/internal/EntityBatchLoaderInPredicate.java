@@ -28,6 +28,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.fetchesAvoided;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
 /**
@@ -58,7 +59,7 @@ public class EntityBatchLoaderInPredicate<T>
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
-		super( entityDescriptor, loadQueryInfluencers );
+		super( domainBatchSize, entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
 		int idColumnCount = entityDescriptor.getEntityPersister().getIdentifierType().getColumnSpan( sessionFactory );
@@ -118,7 +119,7 @@ public class EntityBatchLoaderInPredicate<T>
 
 	protected Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplementor session) {
 		return session.getPersistenceContextInternal().getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), id, domainBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), id, getBatchSize() );
 	}
 
 	@Override
@@ -185,8 +186,7 @@ public class EntityBatchLoaderInPredicate<T>
 						);
 					}
 				},
-				(startIndex, nonNullElementCount) -> {
-				},
+				(startIndex, nonNullElementCount) -> fetchesAvoided( nonNullElementCount - 1, session ),
 				session
 		);
 	}
@@ -18,8 +18,8 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
-import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -70,7 +70,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	}
 
 	@Override
-	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performOrderedMultiLoad - %s",
@@ -103,7 +103,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers(session)
 				);
 
@@ -228,7 +228,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	protected <K> List<E> performUnorderedMultiLoad(
 			K[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performUnorderedMultiLoad - %s",
@@ -307,7 +307,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			ResolutionConsumer<R> resolutionConsumer,
 			@NonNull MultiIdLoadOptions loadOptions,
 			@NonNull LockOptions lockOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( !loadOptions.isSessionCheckingEnabled()
 				&& !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// we'll load all of them from the database
@@ -334,7 +334,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					id,
 					getLoadable().getJavaType().getJavaTypeClass().getName(),
 					lockOptions,
-					session,
+					session.asEventSource(),
 					LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
 			);
 
@@ -22,7 +22,6 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
-import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -64,7 +63,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 	protected List<T> performOrderedMultiLoad(
 			Object[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( log.isTraceEnabled() ) {
 			log.tracef( "#performOrderedMultiLoad(`%s`, ..)", getLoadable().getEntityName() );
 		}
@@ -111,7 +110,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers(session)
 				);
 
@@ -283,7 +282,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 	protected List<T> performUnorderedMultiLoad(
 			Object[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		assert !loadOptions.isOrderReturnEnabled();
 		assert ids != null;
 
@@ -321,7 +320,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
 				);
 
@@ -8,7 +8,9 @@ package org.hibernate.loader.ast.internal;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.SqlTypes;
 import org.hibernate.type.descriptor.java.BasicPluralJavaType;
@@ -77,6 +79,21 @@ public class MultiKeyLoadHelper {
 		return true;
 	}
 
+	/**
+	 * Report the number of entities or collections which were fetched along
+	 * with others by the same SQL statement, instead of by their own.
+	 *
+	 * @see org.hibernate.stat.Statistics#getAvoidedFetchCount()
+	 */
+	static void fetchesAvoided(int count, SharedSessionContractImplementor session) {
+		if ( count > 0 ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.fetchesAvoided( count );
+			}
+		}
+	}
+
 	static Object[] trimIdBatch(int length, Object[] keysToInitialize) {
 		int newLength = length;
 		while ( newLength>1 && keysToInitialize[newLength-1] == null ) {
@@ -8,6 +8,7 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -18,4 +19,15 @@ public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	 * Load multiple entities by id.  The exact result depends on the passed options.
 	 */
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id, in a session which might be a
+	 * {@linkplain org.hibernate.StatelessSession stateless session}.
+	 * The exact result depends on the passed options.
+	 *
+	 * @since 6.6
+	 */
+	default <K> List<T> load(K[] ids, MultiIdLoadOptions options, SharedSessionContractImplementor session) {
+		return load( ids, options, session.asEventSource() );
+	}
 }
@@ -15,6 +15,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -30,6 +33,8 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
@@ -63,6 +68,7 @@ import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.spi.PersisterFactory;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.derived.AnonymousTupleSqmPathSource;
+import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
@@ -82,7 +88,9 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -177,26 +185,46 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		bootModel.getMappedSuperclassMappingsCopy().forEach( MappedSuperclass::prepareForMappingModel );
 		bootModel.getEntityBindings().forEach( persistentClass -> persistentClass.prepareForMappingModel( context ) );
 
+		final Map<String, Object> settings = context.getSettings();
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().requireService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
+		final long start = System.nanoTime();
+		// the collection persisters refer to the entity persisters,
+		// so the entity persisters are all registered first
+		final ForkJoinPool pool =
+				getBoolean( MappingSettings.PARALLEL_PERSISTER_CREATION, settings ) ? createPersisterCreationPool() : null;
+		if ( pool != null ) {
+			resolveNamedLoaders( bootModel, context.getSessionFactory() );
+		}
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+		}
+		finally {
+			if ( pool != null ) {
+				pool.shutdownNow();
+			}
+		}
+		final long persistersCreated = System.nanoTime();
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
 
 		MappingModelCreationProcess.process( entityPersisterMap, context );
+		final long mappingModelCreated = System.nanoTime();
 
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
 			persister.postInstantiate();
@@ -208,10 +236,10 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		}
 
 		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		final long loadersPrepared = System.nanoTime();
 
 		registerEmbeddableMappingType( bootModel );
 
-		final Map<String, Object> settings = context.getSettings();
 		( (JpaMetamodelImpl) jpaMetamodel ).processJpa(
 				bootModel,
 				this,
@@ -221,6 +249,86 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 				bootModel.getNamedEntityGraphs().values(),
 				context
 		);
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Created runtime model of %s entities and %s collections in %s ms"
+							+ " (persisters%s: %s ms, mapping model: %s ms, loaders: %s ms, JPA metamodel: %s ms)",
+					bootModel.getEntityBindings().size(),
+					bootModel.getCollectionBindings().size(),
+					NANOSECONDS.toMillis( System.nanoTime() - start ),
+					pool == null ? "" : " in parallel",
+					NANOSECONDS.toMillis( persistersCreated - start ),
+					NANOSECONDS.toMillis( mappingModelCreated - persistersCreated ),
+					NANOSECONDS.toMillis( loadersPrepared - mappingModelCreated ),
+					NANOSECONDS.toMillis( System.nanoTime() - loadersPrepared )
+			);
+		}
+	}
+
+	/**
+	 * The persisters with a named loader resolve the memento of the named query
+	 * when they are created, and the resolution registers it with the
+	 * {@link NamedObjectRepository}, which is not
+	 * thread-safe.  So, before the persisters are created in parallel, these
+	 * mementos are resolved up front, and the persisters only read them.
+	 */
+	private static void resolveNamedLoaders(MetadataImplementor bootModel, SessionFactoryImplementor factory) {
+		final NamedObjectRepository namedObjectRepository = factory.getQueryEngine().getNamedObjectRepository();
+		for ( PersistentClass entityBinding : bootModel.getEntityBindings() ) {
+			if ( entityBinding.getLoaderName() != null ) {
+				namedObjectRepository.resolve( factory, bootModel, entityBinding.getLoaderName() );
+			}
+		}
+		for ( Collection collectionBinding : bootModel.getCollectionBindings() ) {
+			if ( collectionBinding.getLoaderName() != null ) {
+				namedObjectRepository.resolve( factory, bootModel, collectionBinding.getLoaderName() );
+			}
+		}
+	}
+
+	private static ForkJoinPool createPersisterCreationPool() {
+		// the persisters may load classes through the context class loader
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setName( "hibernate-persister-creation-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	/**
+	 * Create a persister for each of the given boot model descriptors, on the
+	 * given pool if any, and return them in the same order as the descriptors
+	 */
+	private static <B, P> List<P> createPersisters(
+			java.util.Collection<B> bootDescriptors,
+			Function<B, P> creator,
+			ForkJoinPool pool) {
+		final List<P> persisters = new ArrayList<>( bootDescriptors.size() );
+		if ( pool == null ) {
+			for ( B bootDescriptor : bootDescriptors ) {
+				persisters.add( creator.apply( bootDescriptor ) );
+			}
+		}
+		else {
+			final List<ForkJoinTask<P>> tasks = new ArrayList<>( bootDescriptors.size() );
+			for ( B bootDescriptor : bootDescriptors ) {
+				tasks.add( pool.submit( () -> creator.apply( bootDescriptor ) ) );
+			}
+			for ( ForkJoinTask<P> task : tasks ) {
+				// rethrows the exception thrown by the persister
+				persisters.add( task.join() );
+			}
+		}
+		return persisters;
 	}
 
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
@@ -239,19 +347,28 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		final List<EntityPersister> persisters = createPersisters(
+				entityBindings,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				pool
+		);
+		int index = 0;
 		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			final EntityPersister cp = persisters.get( index++ );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -302,18 +419,27 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		final List<CollectionPersister> persisters = createPersisters(
+				collectionBindings,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				pool
+		);
+		int index = 0;
 		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
-
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
+			final CollectionPersister persister = persisters.get( index++ );
 			collectionPersisterMap.put( model.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
@@ -62,6 +62,7 @@ import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -425,6 +426,7 @@ public abstract class AbstractEntityPersister
 	private final EntityDataAccess cacheAccessStrategy;
 	private final NaturalIdDataAccess naturalIdRegionAccessStrategy;
 	private final CacheEntryHelper cacheEntryHelper;
+	private final DirtyHelper.AttributeDirtyChecker[] dirtyCheckers;
 	private final boolean canReadFromCache;
 	private final boolean canWriteToCache;
 	private final boolean invalidateCache;
@@ -829,6 +831,7 @@ public abstract class AbstractEntityPersister
 				creationContext.getSessionFactoryOptions()
 		);
 		cacheEntryHelper = buildCacheEntryHelper( creationContext.getSessionFactoryOptions() );
+		dirtyCheckers = DirtyHelper.buildDirtyCheckers( entityMetamodel.getProperties(), propertyColumnUpdateable );
 		invalidateCache = sessionFactoryOptions.isSecondLevelCacheEnabled()
 				&& canWriteToCache
 				&& shouldInvalidateCache( persistentClass, creationContext );
@@ -1238,10 +1241,14 @@ public abstract class AbstractEntityPersister
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
+		else if ( options.isBinaryCacheEntriesEnabled() ) {
+			return new BinaryCacheEntryHelper( this );
+		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			return new StandardCacheEntryHelper( this );
 		}
 	}
 
@@ -1611,13 +1618,16 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
-				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
-					// The following should be redundant, since the setter should have set this already.
-					// interceptor.attributeInitialized(fieldName);
-
-					// NOTE EARLY EXIT!!!
-					return initializedValue;
+				// the entry might have been written using a different layout
+				if ( cacheEntry != null ) {
+					final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+					if ( initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+						// The following should be redundant, since the setter should have set this already.
+						// interceptor.attributeInitialized(fieldName);
+
+						// NOTE EARLY EXIT!!!
+						return initializedValue;
+					}
 				}
 			}
 		}
@@ -3853,6 +3863,11 @@ public abstract class AbstractEntityPersister
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
+	@Override
+	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiIdLoader.load( ids, loadOptions, session );
+	}
+
 	@Override
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		if ( affectingFetchProfileNames == null ) {
@@ -3913,13 +3928,7 @@ public abstract class AbstractEntityPersister
 	@Override
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = DirtyHelper.findDirty( dirtyCheckers, currentState, previousState, session );
 		if ( props == null ) {
 			return null;
 		}
@@ -5009,6 +5018,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final BinaryCacheEntry structure;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new BinaryCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
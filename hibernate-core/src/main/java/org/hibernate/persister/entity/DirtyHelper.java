@@ -11,6 +11,8 @@ import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.Type;
+import org.hibernate.type.internal.BasicTypeImpl;
 
 /**
  * Operations for searching an array of property values for modified elements.
@@ -18,32 +20,41 @@ import org.hibernate.tuple.NonIdentifierAttribute;
 @Internal
 class DirtyHelper {
 	/**
-	 * Determine if any of the given field values are dirty, returning an array containing
-	 * indices of the dirty fields.
+	 * Determine if any of the given field values are dirty, using the given checkers,
+	 * returning an array containing indices of the dirty fields.
 	 * <p>
 	 * If it is determined that no fields are dirty, null is returned.
 	 *
-	 * @param properties The property definitions
+	 * @param dirtyCheckers The dirty checkers built by {@link #buildDirtyCheckers}
 	 * @param currentState The current state of the entity
 	 * @param previousState The baseline state of the entity
-	 * @param includeColumns Columns to be included in the dirty checking, per property
 	 * @param session The session from which the dirty check request originated.
 	 *
 	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
 	 */
 	public static int[] findDirty(
-			final NonIdentifierAttribute[] properties,
+			final AttributeDirtyChecker[] dirtyCheckers,
 			final Object[] currentState,
 			final Object[] previousState,
-			final boolean[][] includeColumns,
 			final SharedSessionContractImplementor session) {
 		int[] results = null;
 		int count = 0;
-		int span = properties.length;
+		int span = dirtyCheckers.length;
 
 		for ( int i = 0; i < span; i++ ) {
-
-			if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
+			final Object current = currentState[i];
+			final Object previous = previousState[i];
+			final boolean dirty;
+			if ( current == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				dirty = false;
+			}
+			else if ( previous == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				dirty = true;
+			}
+			else {
+				dirty = dirtyCheckers[i].isDirty( previous, current, session );
+			}
+			if ( dirty ) {
 				if ( results == null ) {
 					results = new int[span];
 				}
@@ -54,24 +65,57 @@ class DirtyHelper {
 		return count == 0 ? null : ArrayHelper.trim( results, count );
 	}
 
-	private static boolean isDirty(
-			NonIdentifierAttribute[] properties,
-			Object[] currentState,
-			Object[] previousState,
-			boolean[][] includeColumns,
-			SharedSessionContractImplementor session, int i) {
-		if ( currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
-			return false;
+	/**
+	 * Build a dirty checker for each of the given properties, which is specialized
+	 * according to the type of the property, so that the dirty check of the common
+	 * basic types does not dispatch through the {@link Type} hierarchy.
+	 *
+	 * @param properties The property definitions
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 */
+	public static AttributeDirtyChecker[] buildDirtyCheckers(
+			final NonIdentifierAttribute[] properties,
+			final boolean[][] includeColumns) {
+		final AttributeDirtyChecker[] dirtyCheckers = new AttributeDirtyChecker[properties.length];
+		for ( int i = 0; i < properties.length; i++ ) {
+			dirtyCheckers[i] = buildDirtyChecker( properties[i], includeColumns[i] );
 		}
-		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
-			return true;
+		return dirtyCheckers;
+	}
+
+	private static AttributeDirtyChecker buildDirtyChecker(NonIdentifierAttribute property, boolean[] includeColumns) {
+		if ( !property.isDirtyCheckable() ) {
+			return NEVER_DIRTY;
 		}
-		else {
-			return properties[i].isDirtyCheckable()
-				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
+		final Type type = property.getType();
+		if ( type instanceof BasicTypeImpl<?> && includeColumns.length == 1 ) {
+			final BasicTypeImpl<?> basicType = (BasicTypeImpl<?>) type;
+			if ( !includeColumns[0] ) {
+				return NEVER_DIRTY;
+			}
+			else if ( !basicType.isMutable() && basicType.getJavaTypeDescriptor().useObjectEqualsHashCode() ) {
+				// the same as AbstractStandardBasicType#isDirty() for immutable
+				// values compared using equals(), such as String or Long
+				return OBJECT_EQUALS;
+			}
 		}
+		return (previous, current, session) -> type.isDirty( previous, current, includeColumns, session );
 	}
 
+	/**
+	 * The dirty check of a single property, as built by {@link #buildDirtyCheckers}
+	 */
+	@FunctionalInterface
+	interface AttributeDirtyChecker {
+		boolean isDirty(Object previous, Object current, SharedSessionContractImplementor session);
+	}
+
+	private static final AttributeDirtyChecker NEVER_DIRTY = (previous, current, session) -> false;
+
+	private static final AttributeDirtyChecker OBJECT_EQUALS =
+			(previous, current, session) -> previous != current
+					&& ( previous == null || current == null || !previous.equals( current ) );
+
 	/**
 	 * Determine if any of the given field values are modified, returning an array containing
 	 * indices of the modified fields.
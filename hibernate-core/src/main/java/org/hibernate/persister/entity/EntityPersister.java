@@ -610,6 +610,24 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 */
 	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Performs a load of multiple entities (of this type) by identifier simultaneously,
+	 * from a session which is not necessarily a {@linkplain EventSource source of events},
+	 * for example, a {@link org.hibernate.StatelessSession}.  In this case, the options
+	 * must disable checking of the persistence context and of the second-level cache.
+	 *
+	 * @param ids The identifiers to load
+	 * @param session The originating session
+	 * @param loadOptions The options for loading
+	 *
+	 * @return The loaded, matching entities
+	 *
+	 * @since 6.6
+	 */
+	default List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiLoad( ids, session.asEventSource(), loadOptions );
+	}
+
 	@Override
 	default Object loadByUniqueKey(String propertyName, Object uniqueKey, SharedSessionContractImplementor session) {
 		throw new UnsupportedOperationException(
@@ -36,6 +36,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	private Object id;
 	private Object target;
 	private boolean initialized;
+	private boolean implementationAccessed;
 	private boolean readOnly;
 	private boolean unwrap;
 	private transient SharedSessionContractImplementor session;
@@ -165,6 +166,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 
 	@Override
 	public final void initialize() throws HibernateException {
+		implementationAccessed = true;
 		if ( !initialized ) {
 			try {
 				if ( allowLoadOutsideTransaction ) {
@@ -329,6 +331,11 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 		return target;
 	}
 
+	@Override
+	public final boolean wasImplementationAccessed() {
+		return implementationAccessed;
+	}
+
 	@Override
 	public final void setImplementation(Object target) {
 		this.target = target;
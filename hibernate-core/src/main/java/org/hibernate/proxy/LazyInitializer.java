@@ -100,6 +100,18 @@ public interface LazyInitializer {
 	 */
 	void setImplementation(Object target);
 
+	/**
+	 * Was the target entity obtained from this proxy, via {@link #getImplementation()}
+	 * or {@link #initialize()}, since the proxy was created?  A proxy initialized by
+	 * {@link #setImplementation(Object)}, for example by a batch load, has not
+	 * necessarily been accessed.
+	 *
+	 * @since 6.6
+	 */
+	default boolean wasImplementationAccessed() {
+		return !isUninitialized();
+	}
+
 	/**
 	 * Get the actual class of the entity, possibly initializing the entity if it has subclasses.
 	 *
@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.query;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+
+/**
+ * Enumerates the implementations of the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+ * query interpretation cache}.
+ * <ul>
+ *     <li>By default, the {@link #STANDARD} cache is used, which bounds the number of
+ *         entries, and evicts them according to the LIRS policy.
+ *     <li>The {@link #WEIGHTED} cache never blocks lookups, bounds the estimated size of
+ *         the entries rather than their number, and only admits a new entry if it is
+ *         likely to be used more often than the entry it would replace.  It is better
+ *         suited to hosts with many cores, and to applications with many distinct queries.
+ * </ul>
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_TYPE
+ *
+ * @since 6.6
+ */
+@Incubating
+public enum QueryPlanCacheType {
+
+	STANDARD,
+	WEIGHTED;
+
+	/**
+	 * Interpret the configured {@link QueryPlanCacheType} value.
+	 * Valid values are either a {@link QueryPlanCacheType} object or
+	 * its string representation. For string values, the matching is case-insensitive,
+	 * so you can use either {@code standard} or {@code weighted}.
+	 *
+	 * @param type configured {@link QueryPlanCacheType} representation
+	 * @return associated {@link QueryPlanCacheType} object
+	 */
+	public static QueryPlanCacheType interpret(Object type) {
+		if ( type == null ) {
+			return STANDARD;
+		}
+		else if ( type instanceof QueryPlanCacheType ) {
+			return (QueryPlanCacheType) type;
+		}
+		else if ( type instanceof String ) {
+			for ( QueryPlanCacheType value : values() ) {
+				if ( value.name().equalsIgnoreCase( ( (String) type ).trim() ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized plan_cache_type value : " + type
+						+ ".  Supported values include 'standard' and 'weighted'."
+		);
+	}
+}
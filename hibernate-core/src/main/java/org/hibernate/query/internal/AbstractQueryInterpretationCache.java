@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Base QueryInterpretationCache implementation, which leaves the storage of the
+ * cached plans and interpretations to subclasses
+ *
+ * @since 6.6
+ */
+public abstract class AbstractQueryInterpretationCache implements QueryInterpretationCache {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private final Supplier<StatisticsImplementor> statisticsSupplier;
+
+	protected AbstractQueryInterpretationCache(Supplier<StatisticsImplementor> statisticsSupplier) {
+		this.statisticsSupplier = statisticsSupplier;
+	}
+
+	protected abstract QueryPlan getCachedQueryPlan(Key key);
+
+	protected abstract void cacheQueryPlan(Key key, QueryPlan plan);
+
+	/**
+	 * @param key the query string, or a {@link HqlInterpretationCacheKey}
+	 */
+	protected abstract HqlInterpretation<?> getCachedHqlInterpretation(Object key);
+
+	protected abstract void cacheHqlInterpretation(Object key, HqlInterpretation<?> interpretation);
+
+	protected abstract ParameterInterpretation computeNativeQueryParametersIfAbsent(
+			String queryString,
+			Function<String, ParameterInterpretation> creator);
+
+	@Override
+	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			Key key,
+			Supplier<SelectQueryPlan<R>> creator) {
+		log.tracef( "QueryPlan#getSelectQueryPlan(%s)", key );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		final boolean stats = statistics.isStatisticsEnabled();
+
+		@SuppressWarnings("unchecked")
+		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) getCachedQueryPlan( key );
+		if ( cached != null ) {
+			if ( stats ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+			return cached;
+		}
+
+		final SelectQueryPlan<R> plan = creator.get();
+		cacheQueryPlan( key.prepareForStore(), plan );
+		if ( stats ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
+		return plan;
+	}
+
+	@Override
+	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
+		return null;
+	}
+
+	@Override
+	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+	}
+
+	@Override
+	public <R> HqlInterpretation<R> resolveHqlInterpretation(
+			String queryString,
+			Class<R> expectedResultType,
+			HqlTranslator translator) {
+		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+
+		final Object cacheKey = expectedResultType != null
+				? new HqlInterpretationCacheKey( queryString, expectedResultType )
+				: queryString;
+
+		final HqlInterpretation<?> existing = getCachedHqlInterpretation( cacheKey );
+		if ( existing != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( queryString );
+			}
+			return (HqlInterpretation<R>) existing;
+		}
+		else if ( expectedResultType != null ) {
+			final HqlInterpretation<?> existingQueryOnly = getCachedHqlInterpretation( queryString );
+			if ( existingQueryOnly != null ) {
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.queryPlanCacheHit( queryString );
+				}
+				return (HqlInterpretation<R>) existingQueryOnly;
+			}
+		}
+
+		final HqlInterpretation<R> hqlInterpretation =
+				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
+		cacheHqlInterpretation( cacheKey, hqlInterpretation );
+		return hqlInterpretation;
+	}
+
+	protected static <R> HqlInterpretation<R> createHqlInterpretation(
+			String queryString,
+			Class<R> expectedResultType,
+			HqlTranslator translator,
+			StatisticsImplementor statistics) {
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0L;
+
+		final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
+		final ParameterMetadataImplementor parameterMetadata;
+		final DomainParameterXref domainParameterXref;
+
+		if ( sqmStatement.getSqmParameters().isEmpty() ) {
+			domainParameterXref = DomainParameterXref.EMPTY;
+			parameterMetadata = ParameterMetadataImpl.EMPTY;
+		}
+		else {
+			domainParameterXref = DomainParameterXref.from( sqmStatement );
+			parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
+		}
+
+		if ( stats ) {
+			final long endTime = System.nanoTime();
+			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			statistics.queryCompiled( queryString, microseconds );
+		}
+
+		return new SimpleHqlInterpretationImpl<>( sqmStatement, parameterMetadata, domainParameterXref );
+	}
+
+	@Override
+	public ParameterInterpretation resolveNativeQueryParameters(
+			String queryString,
+			Function<String, ParameterInterpretation> creator) {
+		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
+		return computeNativeQueryParametersIfAbsent(
+				queryString,
+				s -> {
+					final ParameterInterpretation interpretation = creator.apply( queryString );
+					log.debugf( "Creating and caching NativeQuery ParameterInterpretation - %s", interpretation );
+					return interpretation;
+				}
+		);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	static final class HqlInterpretationCacheKey {
+		final String queryString;
+		final Class<?> expectedResultType;
+
+		public HqlInterpretationCacheKey(String queryString, Class<?> expectedResultType) {
+			this.queryString = queryString;
+			this.expectedResultType = expectedResultType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( o.getClass() != HqlInterpretationCacheKey.class ) {
+				return false;
+			}
+
+			final HqlInterpretationCacheKey that = (HqlInterpretationCacheKey) o;
+			return queryString.equals( that.queryString )
+					&& expectedResultType.equals( that.expectedResultType );
+		}
+
+		@Override
+		public int hashCode() {
+			int result = queryString.hashCode();
+			result = 31 * result + expectedResultType.hashCode();
+			return result;
+		}
+	}
+}
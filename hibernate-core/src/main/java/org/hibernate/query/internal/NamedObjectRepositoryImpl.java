@@ -6,8 +6,15 @@
  */
 package org.hibernate.query.internal;
 
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -16,6 +23,7 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.query.NamedHqlQueryDefinition;
 import org.hibernate.boot.query.NamedNativeQueryDefinition;
 import org.hibernate.boot.query.NamedProcedureCallDefinition;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
@@ -47,6 +55,7 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedNativeQueryMemento> sqlMementoMap;
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
+	private final Set<String> prevalidatedQueryNames = new HashSet<>();
 
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento> sqmMementoMap,
@@ -208,6 +217,35 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 				}
 		);
 
+		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+			applyNamedQueryManifests( sessionFactory );
+		}
+	}
+
+	/**
+	 * Find the named HQL queries which were already checked at build time
+	 */
+	private void applyNamedQueryManifests(SessionFactoryImplementor sessionFactory) {
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		for ( URL url : classLoaderService.locateResources( NamedQueryManifest.RESOURCE_NAME ) ) {
+			try {
+				final NamedQueryManifest manifest = NamedQueryManifest.read( url );
+				if ( manifest.matches( sessionFactory ) ) {
+					for ( NamedSqmQueryMemento memento : sqmMementoMap.values() ) {
+						if ( manifest.contains( memento ) ) {
+							prevalidatedQueryNames.add( memento.getRegistrationName() );
+						}
+					}
+				}
+				else {
+					log.debugf( "Ignoring named query manifest written for a different domain model: %s", url );
+				}
+			}
+			catch (IOException e) {
+				log.debugf( e, "Unable to read named query manifest: %s", url );
+			}
+		}
 	}
 
 
@@ -241,9 +279,15 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
+		final List<String> prevalidatedQueryStrings = new ArrayList<>();
 		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
 			final String queryString = hqlMemento.getHqlString();
 			final String registrationName = hqlMemento.getRegistrationName();
+			if ( prevalidatedQueryNames.contains( registrationName ) ) {
+				log.debugf( "Skipping named HQL query checked at build time: %s", registrationName );
+				prevalidatedQueryStrings.add( queryString );
+				continue;
+			}
 			try {
 				log.debugf( "Checking named HQL query: %s", registrationName );
 				interpretationCache.resolveHqlInterpretation(
@@ -263,6 +307,10 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 			}
 		}
 
+		if ( !prevalidatedQueryStrings.isEmpty() ) {
+			interpretInBackground( prevalidatedQueryStrings, queryEngine );
+		}
+
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", sqlMementoMap.size() );
 		for ( NamedNativeQueryMemento memento : sqlMementoMap.values() ) {
@@ -301,6 +349,31 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		return errors;
 	}
 
+	/**
+	 * Populate the interpretation cache with the named HQL queries which were checked
+	 * at build time, without delaying the startup, nor the first execution of other
+	 * queries
+	 */
+	private static void interpretInBackground(List<String> queryStrings, QueryEngine queryEngine) {
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		ForkJoinPool.commonPool().execute( () -> {
+			for ( String queryString : queryStrings ) {
+				try {
+					interpretationCache.resolveHqlInterpretation(
+							queryString,
+							null,
+							queryEngine.getHqlTranslator()
+					);
+				}
+				catch ( RuntimeException e ) {
+					// the SessionFactory was closed in the meantime
+					log.debugf( e, "Unable to interpret named HQL query checked at build time: %s", queryString );
+					return;
+				}
+			}
+		} );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
@@ -311,5 +384,6 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		sqlMementoMap.clear();
 		callableMementoMap.clear();
 		resultSetMappingMementoMap.clear();
+		prevalidatedQueryNames.clear();
 	}
 }
@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.Internal;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.MapAttribute;
+import jakarta.persistence.metamodel.PluralAttribute;
+
+/**
+ * A record of the named HQL queries which were successfully checked at build
+ * time, against a domain model, a {@link Dialect}, the registered functions, and
+ * the settings affecting the interpretation of queries, identified by a fingerprint.
+ * <p>
+ * The manifest is written to {@value #RESOURCE_NAME} by the build tooling.  At
+ * runtime, the queries it lists are not interpreted again by the startup check
+ * of the named queries, provided that their HQL and the fingerprint of the domain
+ * model are unchanged.
+ *
+ * @see org.hibernate.tool.queries.NamedQueryChecker
+ *
+ * @since 6.6
+ */
+@Internal
+public final class NamedQueryManifest {
+	public static final String RESOURCE_NAME = "META-INF/hibernate-named-queries.properties";
+
+	private static final String FINGERPRINT = "fingerprint";
+	private static final String QUERY_PREFIX = "query.";
+
+	private final String fingerprint;
+	private final Map<String, String> queryHashes;
+
+	private NamedQueryManifest(String fingerprint, Map<String, String> queryHashes) {
+		this.fingerprint = fingerprint;
+		this.queryHashes = queryHashes;
+	}
+
+	/**
+	 * Build the manifest of the named HQL queries of the given {@code SessionFactory},
+	 * which must all have been checked
+	 */
+	public static NamedQueryManifest from(SessionFactoryImplementor sessionFactory) {
+		final Map<String, String> queryHashes = new HashMap<>();
+		final NamedObjectRepository repository = sessionFactory.getQueryEngine().getNamedObjectRepository();
+		repository.visitSqmQueryMementos(
+				memento -> queryHashes.put( memento.getRegistrationName(), hash( memento.getHqlString() ) )
+		);
+		return new NamedQueryManifest( fingerprint( sessionFactory ), queryHashes );
+	}
+
+	/**
+	 * Read a manifest written by {@link #write(OutputStream)}
+	 */
+	public static NamedQueryManifest read(URL url) throws IOException {
+		final Properties properties = new Properties();
+		try ( InputStream input = url.openStream() ) {
+			properties.load( input );
+		}
+		final Map<String, String> queryHashes = new HashMap<>();
+		for ( String name : properties.stringPropertyNames() ) {
+			if ( name.startsWith( QUERY_PREFIX ) ) {
+				queryHashes.put( name.substring( QUERY_PREFIX.length() ), properties.getProperty( name ) );
+			}
+		}
+		return new NamedQueryManifest( properties.getProperty( FINGERPRINT ), queryHashes );
+	}
+
+	public void write(OutputStream output) throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty( FINGERPRINT, fingerprint );
+		queryHashes.forEach( (name, hash) -> properties.setProperty( QUERY_PREFIX + name, hash ) );
+		properties.store( output, "Named HQL queries checked at build time" );
+	}
+
+	public int getNumberOfQueries() {
+		return queryHashes.size();
+	}
+
+	/**
+	 * Whether the manifest was written for the domain model, {@link Dialect},
+	 * registered functions, and query settings of the given {@code SessionFactory}
+	 */
+	public boolean matches(SessionFactoryImplementor sessionFactory) {
+		return fingerprint != null && fingerprint.equals( fingerprint( sessionFactory ) );
+	}
+
+	/**
+	 * Whether the given named query is listed by the manifest, with the same HQL
+	 */
+	public boolean contains(NamedSqmQueryMemento memento) {
+		final String hash = queryHashes.get( memento.getRegistrationName() );
+		return hash != null && hash.equals( hash( memento.getHqlString() ) );
+	}
+
+	private static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		final StringBuilder model = new StringBuilder();
+		// the version of the database is usually unknown at build time, and only matters
+		// to the queries through the registered functions, which are fingerprinted below
+		model.append( sessionFactory.getJdbcServices().getDialect().getClass().getName() ).append( '\n' );
+
+		// the settings which affect the interpretation of the queries
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		final JpaCompliance jpaCompliance = options.getJpaCompliance();
+		model.append( "jpaQueryCompliance=" ).append( jpaCompliance.isJpaQueryComplianceEnabled() ).append( '\n' )
+				.append( "jpaListCompliance=" ).append( jpaCompliance.isJpaListComplianceEnabled() ).append( '\n' )
+				.append( "portableIntegerDivision=" ).append( options.isPortableIntegerDivisionEnabled() ).append( '\n' )
+				.append( "hqlTranslator=" )
+				.append( sessionFactory.getQueryEngine().getHqlTranslator().getClass().getName() )
+				.append( '\n' );
+
+		final JpaMetamodel metamodel = sessionFactory.getJpaMetamodel();
+		final List<ManagedDomainType<?>> managedTypes = new ArrayList<>();
+		for ( ManagedType<?> managedType : metamodel.getManagedTypes() ) {
+			managedTypes.add( (ManagedDomainType<?>) managedType );
+		}
+		managedTypes.sort( Comparator.comparing( ManagedDomainType::getTypeName ) );
+		for ( ManagedDomainType<?> managedType : managedTypes ) {
+			model.append( managedType.getTypeName() ).append( '(' );
+			final List<String> attributes = new ArrayList<>();
+			for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+				attributes.add( attributeFingerprint( attribute ) );
+			}
+			attributes.sort( null );
+			model.append( String.join( ",", attributes ) ).append( ")\n" );
+		}
+
+		// the functions which may be called by the queries, and their signatures
+		sessionFactory.getQueryEngine().getSqmFunctionRegistry().getFunctionsByName().forEach(
+				entry -> model.append( entry.getValue().getClass().getName() )
+						.append( ' ' )
+						.append( entry.getValue().getSignature( entry.getKey() ) )
+						.append( '\n' )
+		);
+		return hash( model.toString() );
+	}
+
+	private static String attributeFingerprint(Attribute<?, ?> attribute) {
+		final StringBuilder fingerprint = new StringBuilder()
+				.append( attribute.getName() )
+				.append( ':' )
+				.append( attribute.getPersistentAttributeType() )
+				.append( ':' )
+				.append( attribute.getJavaType().getName() );
+		if ( attribute instanceof PluralAttribute ) {
+			fingerprint.append( '<' );
+			if ( attribute instanceof MapAttribute ) {
+				fingerprint.append( ( (MapAttribute<?, ?, ?>) attribute ).getKeyJavaType().getName() ).append( ',' );
+			}
+			fingerprint.append( ( (PluralAttribute<?, ?, ?>) attribute ).getElementType().getJavaType().getName() )
+					.append( '>' );
+		}
+		return fingerprint.toString();
+	}
+
+	private static String hash(String string) {
+		final byte[] digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" ).digest( string.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
+		final StringBuilder hex = new StringBuilder( digest.length * 2 );
+		for ( byte b : digest ) {
+			hex.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) ).append( Character.forDigit( b & 0xf, 16 ) );
+		}
+		return hex.toString();
+	}
+}
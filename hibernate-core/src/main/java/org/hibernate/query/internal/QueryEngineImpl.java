@@ -17,6 +17,7 @@ import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.QueryPlanCacheType;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
@@ -36,6 +37,7 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -64,7 +66,7 @@ public class QueryEngineImpl implements QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache( sessionFactory::getStatistics, options, sessionFactory.getProperties() ),
 				sessionFactory.getServiceRegistry().getService(NativeQueryInterpreter.class)
 		);
 	}
@@ -184,6 +186,7 @@ public class QueryEngineImpl implements QueryEngine {
 
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
+			QueryEngineOptions options,
 			Map<String, Object> properties) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
@@ -202,7 +205,20 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			if ( options.getQueryPlanCacheType() == QueryPlanCacheType.WEIGHTED ) {
+				final String snapshotFile = ConfigurationHelper.getString(
+						AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT,
+						properties
+				);
+				return new QueryInterpretationCacheWeightedImpl(
+						size,
+						snapshotFile == null ? null : Paths.get( snapshotFile ),
+						statisticsSupplier
+				);
+			}
+			else {
+				return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			}
 		}
 		else {
 			// disabled
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.WeightedLfuCache;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * QueryInterpretationCache implementation based on {@link WeightedLfuCache}, whose
+ * lookups never block, and which is bounded by the estimated size of the entries.
+ * <p>
+ * An entry weighs one unit for each started {@value #WEIGHT_UNIT} characters of its
+ * query string, so that the configured maximum size is roughly the number of typical
+ * queries which may be cached.
+ * <p>
+ * If a snapshot file is configured, the most frequently used HQL queries are written
+ * to it when the cache is closed, and interpreted again when the next cache is
+ * {@linkplain #warmUp warmed up}.
+ *
+ * @see org.hibernate.query.QueryPlanCacheType#WEIGHTED
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT
+ */
+public class QueryInterpretationCacheWeightedImpl extends AbstractQueryInterpretationCache {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int WEIGHT_UNIT = 512;
+	private static final int SNAPSHOT_VERSION = 1;
+	// DataOutput#writeUTF() is limited to 65535 bytes
+	private static final int MAX_SNAPSHOT_QUERY_LENGTH = 65535 / 3;
+
+	/**
+	 * the cache of the actual plans...
+	 */
+	private final WeightedLfuCache<Key, QueryPlan> queryPlanCache;
+
+	private final WeightedLfuCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final WeightedLfuCache<String, ParameterInterpretation> nativeQueryParamCache;
+	private final Path snapshotFile;
+	private final int maxQueryPlanCount;
+
+	public QueryInterpretationCacheWeightedImpl(
+			int maxQueryPlanCount,
+			Path snapshotFile,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		super( statisticsSupplier );
+		log.debugf( "Starting weighted QueryInterpretationCache(%s)", maxQueryPlanCount );
+
+		// most queries weigh a single unit, so the maximum size is also the expected number of entries
+		this.queryPlanCache = new WeightedLfuCache<>(
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				(key, plan) -> weigh( key.getQueryString() )
+		);
+		this.hqlInterpretationCache = new WeightedLfuCache<>(
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				(key, interpretation) -> weigh( queryString( key ) )
+		);
+		this.nativeQueryParamCache = new WeightedLfuCache<>(
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString )
+		);
+		this.snapshotFile = snapshotFile;
+		this.maxQueryPlanCount = maxQueryPlanCount;
+	}
+
+	private static int weigh(String queryString) {
+		// criteria queries have no query string
+		return queryString == null ? 1 : 1 + queryString.length() / WEIGHT_UNIT;
+	}
+
+	private static String queryString(Object hqlInterpretationKey) {
+		return hqlInterpretationKey instanceof HqlInterpretationCacheKey
+				? ( (HqlInterpretationCacheKey) hqlInterpretationKey ).queryString
+				: (String) hqlInterpretationKey;
+	}
+
+	@Override
+	public int getNumberOfCachedHqlInterpretations() {
+		return hqlInterpretationCache.size();
+	}
+
+	@Override
+	public int getNumberOfCachedQueryPlans() {
+		return queryPlanCache.size();
+	}
+
+	@Override
+	protected QueryPlan getCachedQueryPlan(Key key) {
+		return queryPlanCache.get( key );
+	}
+
+	@Override
+	protected void cacheQueryPlan(Key key, QueryPlan plan) {
+		queryPlanCache.put( key, plan );
+	}
+
+	@Override
+	protected HqlInterpretation<?> getCachedHqlInterpretation(Object key) {
+		return hqlInterpretationCache.get( key );
+	}
+
+	@Override
+	protected void cacheHqlInterpretation(Object key, HqlInterpretation<?> interpretation) {
+		hqlInterpretationCache.put( key, interpretation );
+	}
+
+	@Override
+	protected ParameterInterpretation computeNativeQueryParametersIfAbsent(
+			String queryString,
+			Function<String, ParameterInterpretation> creator) {
+		return nativeQueryParamCache.computeIfAbsent( queryString, creator );
+	}
+
+	@Override
+	public void warmUp(SessionFactoryImplementor sessionFactory) {
+		if ( snapshotFile == null || !Files.isRegularFile( snapshotFile ) ) {
+			return;
+		}
+
+		final HqlTranslator translator = sessionFactory.getQueryEngine().getHqlTranslator();
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		int count = 0;
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( snapshotFile ) ) ) ) {
+			if ( input.readInt() != SNAPSHOT_VERSION ) {
+				log.debugf( "Ignoring query plan cache snapshot with unknown version: %s", snapshotFile );
+				return;
+			}
+			final int size = input.readInt();
+			for ( int i = 0; i < size; i++ ) {
+				final String queryString = input.readUTF();
+				final String resultTypeName = input.readUTF();
+				try {
+					final Class<?> resultType = resultTypeName.isEmpty()
+							? null
+							: classLoaderService.classForName( resultTypeName );
+					resolveHqlInterpretation( queryString, resultType, translator );
+					count++;
+				}
+				catch (RuntimeException e) {
+					// the domain model changed since the snapshot was taken
+					log.debugf( "Skipping query from query plan cache snapshot: %s (%s)", queryString, e.getMessage() );
+				}
+			}
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to read query plan cache snapshot: %s", snapshotFile );
+		}
+		log.debugf( "Warmed up QueryInterpretationCache with %s queries from: %s", count, snapshotFile );
+	}
+
+	private void writeSnapshot() {
+		final List<Object> keys = hqlInterpretationCache.getMostFrequentKeys( maxQueryPlanCount );
+		try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( snapshotFile ) ) ) ) {
+			output.writeInt( SNAPSHOT_VERSION );
+			int size = 0;
+			for ( Object key : keys ) {
+				if ( queryString( key ).length() <= MAX_SNAPSHOT_QUERY_LENGTH ) {
+					size++;
+				}
+			}
+			output.writeInt( size );
+			for ( Object key : keys ) {
+				final String queryString = queryString( key );
+				if ( queryString.length() <= MAX_SNAPSHOT_QUERY_LENGTH ) {
+					output.writeUTF( queryString );
+					output.writeUTF(
+							key instanceof HqlInterpretationCacheKey
+									? ( (HqlInterpretationCacheKey) key ).expectedResultType.getName()
+									: ""
+					);
+				}
+			}
+			log.debugf( "Wrote %s queries to query plan cache snapshot: %s", size, snapshotFile );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to write query plan cache snapshot: %s", snapshotFile );
+		}
+	}
+
+	@Override
+	public void close() {
+		if ( snapshotFile != null ) {
+			writeSnapshot();
+		}
+		hqlInterpretationCache.clear();
+		nativeQueryParamCache.clear();
+		queryPlanCache.clear();
+	}
+}
@@ -39,6 +39,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private final Limit limit = new Limit();
 	private final LockOptions lockOptions = new LockOptions();
 	private Integer fetchSize;
+	private Integer streamingWindowSize;
 	private CacheRetrieveMode cacheRetrieveMode;
 	private CacheStoreMode cacheStoreMode;
 	private Boolean resultCachingEnabled;
@@ -121,10 +122,21 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		return fetchSize;
 	}
 
+	@Override
 	public void setFetchSize(Integer fetchSize) {
 		this.fetchSize = fetchSize;
 	}
 
+	@Override
+	public Integer getStreamingWindowSize() {
+		return streamingWindowSize;
+	}
+
+	@Override
+	public void setStreamingWindowSize(Integer streamingWindowSize) {
+		this.streamingWindowSize = streamingWindowSize;
+	}
+
 	@Override
 	public CacheRetrieveMode getCacheRetrieveMode() {
 		return cacheRetrieveMode;
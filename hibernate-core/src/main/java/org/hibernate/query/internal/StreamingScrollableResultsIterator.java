@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * A {@link ScrollableResultsIterator} for queries executed in streaming mode,
+ * which {@linkplain EventSource#detach detaches} entity results once they
+ * fall out of a window of the most recently emitted results, so that the
+ * persistence context does not grow with the size of the result set.
+ * <p>
+ * Entities nested in an {@code Object[]}, a {@link Tuple}, a {@code List},
+ * or a {@code Map} result are detached too, but not entities held by an
+ * instance of a DTO class.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_STREAMING_WINDOW
+ */
+public class StreamingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final EventSource session;
+	private final int windowSize;
+	private final ArrayDeque<Object> window;
+
+	public StreamingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			EventSource session,
+			int windowSize) {
+		super( scrollableResults );
+		this.session = session;
+		this.windowSize = windowSize;
+		this.window = new ArrayDeque<>( Math.min( windowSize, 1024 ) );
+	}
+
+	@Override
+	public boolean hasNext() {
+		// the results which are about to fall out of the window
+		// are detached before the next row is read, so that the
+		// current result always stays managed for the caller
+		while ( window.size() >= windowSize ) {
+			detach( window.removeFirst() );
+		}
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T result = super.next();
+		if ( result != null ) {
+			window.addLast( result );
+		}
+		return result;
+	}
+
+	private void detach(Object result) {
+		if ( result instanceof Object[] ) {
+			for ( Object element : (Object[]) result ) {
+				detachIfManaged( element );
+			}
+		}
+		else if ( result instanceof Tuple ) {
+			for ( Object element : ( (Tuple) result ).toArray() ) {
+				detachIfManaged( element );
+			}
+		}
+		else if ( result instanceof List ) {
+			for ( Object element : (List<?>) result ) {
+				detachIfManaged( element );
+			}
+		}
+		else if ( result instanceof Map ) {
+			for ( Object element : ( (Map<?, ?>) result ).values() ) {
+				detachIfManaged( element );
+			}
+		}
+		else {
+			detachIfManaged( result );
+		}
+	}
+
+	private void detachIfManaged(Object value) {
+		if ( value != null && session.isOpen() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			if ( persistenceContext.isEntryFor( value ) || persistenceContext.containsProxy( value ) ) {
+				session.detach( value );
+			}
+		}
+	}
+}
@@ -73,6 +73,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_DATABASE;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAMING_WINDOW;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -181,6 +182,7 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 
 		putIfNotNull( hints, HINT_READONLY, getQueryOptions().isReadOnly() );
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
+		putIfNotNull( hints, HINT_STREAMING_WINDOW, getQueryOptions().getStreamingWindowSize() );
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
@@ -305,6 +307,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_FETCH_SIZE:
 					applyFetchSizeHint( getInteger( value ) );
 					return true;
+				case HINT_STREAMING_WINDOW:
+					applyStreamingWindowHint( getInteger( value ) );
+					return true;
 				case HINT_QUERY_PLAN_CACHEABLE:
 					applyQueryPlanCacheableHint( getBoolean( value ) );
 					return true;
@@ -352,6 +357,13 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setFetchSize( fetchSize );
 	}
 
+	protected void applyStreamingWindowHint(Integer windowSize) {
+		if ( windowSize != null && windowSize < 1 ) {
+			throw new IllegalArgumentException( "Streaming window size must be positive: " + windowSize );
+		}
+		getQueryOptions().setStreamingWindowSize( windowSize );
+	}
+
 	protected void applyQueryPlanCacheableHint(boolean isCacheable) {
 		getQueryOptions().setQueryPlanCachingEnabled( isCacheable );
 	}
@@ -37,6 +37,7 @@ import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.internal.StreamingScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
@@ -249,8 +250,26 @@ public abstract class AbstractSelectionQuery<R>
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final Integer streamingWindowSize = getQueryOptions().getStreamingWindowSize();
+		final boolean streaming = streamingWindowSize != null && getSession().isEventSource();
+		final ScrollableResultsImplementor scrollableResults;
+		if ( streaming && getQueryOptions().getFetchSize() == null ) {
+			// the streaming fetch size only applies to this execution: the statement
+			// is prepared and executed by scroll(), so the option may be reset after
+			getQueryOptions().setFetchSize( getSessionFactory().getJdbcServices().getDialect().getStreamingFetchSize() );
+			try {
+				scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+			}
+			finally {
+				getQueryOptions().setFetchSize( null );
+			}
+		}
+		else {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+		final ScrollableResultsIterator iterator = streaming
+				? new StreamingScrollableResultsIterator<>( scrollableResults, getSession().asEventSource(), streamingWindowSize )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -111,6 +111,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getFetchSize();
 	}
 
+	@Override
+	public Integer getStreamingWindowSize() {
+		return queryOptions.getStreamingWindowSize();
+	}
+
 	@Override
 	public Set<String> getEnabledFetchProfiles() {
 		return queryOptions.getEnabledFetchProfiles();
@@ -74,6 +74,28 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setFetchSize(int fetchSize);
 
+	/**
+	 * Corollary to {@link #getFetchSize()}, where {@code null} resets the
+	 * fetch size to the JDBC driver default
+	 *
+	 * @since 6.6
+	 */
+	default void setFetchSize(Integer fetchSize) {
+		if ( fetchSize == null ) {
+			throw new UnsupportedOperationException( "Resetting the fetch size is not supported" );
+		}
+		setFetchSize( fetchSize.intValue() );
+	}
+
+	/**
+	 * Corollary to {@link #getStreamingWindowSize()}
+	 *
+	 * @since 6.6
+	 */
+	default void setStreamingWindowSize(Integer streamingWindowSize) {
+		throw new UnsupportedOperationException( "Streaming mode is not supported" );
+	}
+
 	/**
 	 * Corollary to {@link #isReadOnly()}
 	 */
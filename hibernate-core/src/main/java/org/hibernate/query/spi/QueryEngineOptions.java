@@ -8,7 +8,9 @@ package org.hibernate.query.spi;
 
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.query.QueryPlanCacheType;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
@@ -78,4 +80,14 @@ public interface QueryEngineOptions {
 	 */
 	boolean isPortableIntegerDivisionEnabled();
 
+	/**
+	 * The implementation of the {@link QueryInterpretationCache} to use.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_TYPE
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	QueryPlanCacheType getQueryPlanCacheType();
+
 }
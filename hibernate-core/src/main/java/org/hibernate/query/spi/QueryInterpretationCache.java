@@ -10,6 +10,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -48,6 +49,17 @@ public interface QueryInterpretationCache {
 
 	boolean isEnabled();
 
+	/**
+	 * Called once the {@code SessionFactory} is fully initialized, allowing the
+	 * cache to interpret queries ahead of their first use.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT
+	 *
+	 * @since 6.6
+	 */
+	default void warmUp(SessionFactoryImplementor sessionFactory) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
@@ -144,6 +144,17 @@ public interface QueryOptions {
 	 */
 	Integer getFetchSize();
 
+	/**
+	 * The number of most recently emitted results which are kept managed when
+	 * the results are {@linkplain org.hibernate.query.SelectionQuery#getResultStream()
+	 * consumed as a stream}, or {@code null} if streaming mode is not enabled.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAMING_WINDOW
+	 */
+	default Integer getStreamingWindowSize() {
+		return null;
+	}
+
 	/**
 	 * The limit to the query results.  May also be accessed via
 	 * {@link #getFirstRow} and {@link #getMaxRows}
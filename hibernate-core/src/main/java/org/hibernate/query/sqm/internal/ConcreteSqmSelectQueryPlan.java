@@ -7,15 +7,20 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.InstantiationException;
 import org.hibernate.ScrollMode;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -27,6 +32,8 @@ import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -60,6 +67,7 @@ import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.util.ReflectHelper.isClass;
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
@@ -81,7 +89,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The maximum number of SQL translations kept for a plan, for example when the
+	 * query is executed alternately with and without a limit, or with parameter lists
+	 * of different sizes.
+	 */
+	private static final int MAX_TRANSLATION_VARIANTS = 8;
+
+	private final String hql;
+
+	/**
+	 * The SQL translations of the SQM, most recently used first
+	 */
+	private volatile CacheableSqmInterpretation[] cacheableSqmInterpretations = new CacheableSqmInterpretation[0];
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock translationLock = new ReentrantLock();
+
+	// determined when first needed, since only used with key based query cache invalidation
+	private SqmKeyRestriction keyRestriction;
+	private volatile boolean keyRestrictionResolved;
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -91,6 +119,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -105,109 +134,102 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						null,
-						resultCountEstimate,
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext(
+							hql,
+							executionContext,
+							jdbcSelect,
+							subSelectFetchKeyHandler,
+							resolveQueryResultsCacheSpaces( executionContext, jdbcSelect )
+					),
+					rowTransformer,
+					null,
+					resultCountEstimate,
+					resultsConsumer
+			);
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				//noinspection unchecked
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						(Class<R>) executionContext.getResultType(),
-						uniqueSemantic,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			//noinspection unchecked
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext(
+							hql,
+							executionContext,
+							jdbcSelect,
+							subSelectFetchKeyHandler,
+							resolveQueryResultsCacheSpaces( executionContext, jdbcSelect )
+					),
+					rowTransformer,
+					(Class<R>) executionContext.getResultType(),
+					uniqueSemantic,
+					resultCountEstimate
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return jdbcSelectExecutor.scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						rowTransformer,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return jdbcSelectExecutor.scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					rowTransformer,
+					resultCountEstimate
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		etc - because those cause the plan to not be cached.  Multi-valued
+		//		parameters are expanded per translation, see `#translate`.
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -215,7 +237,52 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			DomainQueryExecutionContext executionContext,
 			JdbcOperationQuerySelect jdbcSelect,
 			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler) {
-		return new MySqmJdbcExecutionContextAdapter( executionContext, jdbcSelect, subSelectFetchKeyHandler, hql );
+		return listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler, null );
+	}
+
+	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
+			String hql,
+			DomainQueryExecutionContext executionContext,
+			JdbcOperationQuerySelect jdbcSelect,
+			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler,
+			Set<String> queryResultsCacheSpaces) {
+		return new MySqmJdbcExecutionContextAdapter(
+				executionContext,
+				jdbcSelect,
+				subSelectFetchKeyHandler,
+				hql,
+				queryResultsCacheSpaces
+		);
+	}
+
+	/**
+	 * The spaces which determine whether cached results of the query are up-to-date,
+	 * when the query cache is invalidated by entity key and the query is restricted
+	 * to given keys.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION
+	 */
+	private Set<String> resolveQueryResultsCacheSpaces(
+			DomainQueryExecutionContext executionContext,
+			JdbcOperationQuerySelect jdbcSelect) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final SessionFactoryOptions options = factory.getSessionFactoryOptions();
+		if ( !options.isQueryCacheEnabled()
+				|| !options.isQueryCacheKeyBasedInvalidationEnabled()
+				|| executionContext.getQueryOptions().isResultCachingEnabled() != Boolean.TRUE ) {
+			return null;
+		}
+		if ( !keyRestrictionResolved ) {
+			keyRestriction = SqmKeyRestriction.from( sqm, factory );
+			keyRestrictionResolved = true;
+		}
+		return keyRestriction == null
+				? null
+				: keyRestriction.resolveQuerySpaces(
+						jdbcSelect.getAffectedTableNames(),
+						executionContext.getQueryParameterBindings(),
+						domainParameterXref
+				);
 	}
 
 	protected static int interpretIntExpression(Expression expression, JdbcParameterBindings jdbcParameterBindings) {
@@ -371,82 +438,132 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
-
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
-
 		executionContext.getSession().autoPreFlush();
 
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
-				else {
-					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-					if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		CacheableSqmInterpretation[] variants = cacheableSqmInterpretations;
+		if ( variants.length == 0 ) {
+			// NOTE : VERY IMPORTANT - intentional double-lock checking
+			//		so that the first executions of the plan translate it only once
+			final CacheableSqmInterpretation translation;
+			translationLock.lock();
+			try {
+				variants = cacheableSqmInterpretations;
+				translation = variants.length == 0 ? translate( executionContext ) : null;
+			}
+			finally {
+				translationLock.unlock();
+			}
+			if ( translation != null ) {
+				return interpretTranslation( translation, executionContext, context, interpreter );
+			}
+		}
+
+		// The parameter bindings are only created for the variants translated for the same
+		// number of values of each parameter list, and compatible with the limit
+		final int[] bindingShape = bindingShape( domainParameterXref, executionContext.getQueryParameterBindings() );
+		for ( CacheableSqmInterpretation variant : variants ) {
+			if ( Arrays.equals( variant.bindingShape, bindingShape )
+					&& variant.jdbcSelect.isCompatibleWithLimit( executionContext.getQueryOptions() ) ) {
+				final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( variant, executionContext );
+				// If the translation depends on parameter bindings, it might not be compatible with them,
+				// and we have to look further, or translate from SQM to SQL AST again
+				if ( variant.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+					if ( variant != variants[0] ) {
+						markMostRecentlyUsed( variant );
 					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
-					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation(
-								sqm,
-								domainParameterXref,
-								executionContext
-						);
-						jdbcParameterBindings = localCopy.firstParameterBindings;
-						localCopy.firstParameterBindings = null;
-						cacheableSqmInterpretation = localCopy;
+					final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.queryTranslationCacheHit( hql );
 					}
+					return interpreter.interpret( context, executionContext, variant, jdbcParameterBindings );
 				}
 			}
 		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
-			}
+
+		return interpretTranslation( translate( executionContext ), executionContext, context, interpreter );
+	}
+
+	/**
+	 * The number of values bound to each multi-valued parameter, which determines the
+	 * expansion of the parameter in the translation, or {@code null} if there are none
+	 */
+	private static int[] bindingShape(DomainParameterXref domainParameterXref, QueryParameterBindings bindings) {
+		if ( !domainParameterXref.hasParameters() || !bindings.hasAnyMultiValuedBindings() ) {
+			return null;
+		}
+		final int[] shape = new int[domainParameterXref.getQueryParameterCount()];
+		int i = 0;
+		for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+			final QueryParameterBinding<?> binding = bindings.getBinding( parameter );
+			shape[i++] = binding.isMultiValued() ? binding.getBindValues().size() : -1;
 		}
+		return shape;
+	}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+	private <T, X> T interpretTranslation(
+			CacheableSqmInterpretation translation,
+			DomainQueryExecutionContext executionContext,
+			X context,
+			SqmInterpreter<T, X> interpreter) {
+		final JdbcParameterBindings jdbcParameterBindings = translation.firstParameterBindings;
+		translation.firstParameterBindings = null;
+		return interpreter.interpret( context, executionContext, translation, jdbcParameterBindings );
+	}
+
+	private void markMostRecentlyUsed(CacheableSqmInterpretation variant) {
+		translationLock.lock();
+		try {
+			final CacheableSqmInterpretation[] variants = cacheableSqmInterpretations;
+			for ( int i = 1; i < variants.length; i++ ) {
+				if ( variants[i] == variant ) {
+					final CacheableSqmInterpretation[] newVariants = variants.clone();
+					System.arraycopy( variants, 0, newVariants, 1, i );
+					newVariants[0] = variant;
+					cacheableSqmInterpretations = newVariants;
+					break;
+				}
+			}
+		}
+		finally {
+			translationLock.unlock();
 		}
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	/**
+	 * Translate the SQM to a new variant of the SQL, which replaces the least
+	 * recently used variant if there are already {@value #MAX_TRANSLATION_VARIANTS}.
+	 * <p>
+	 * Each variant expands the multi-valued parameters in its own copy of the
+	 * {@link DomainParameterXref}, so that the expansions are kept along with the
+	 * translation, rather than cleared after each execution.
+	 */
+	private CacheableSqmInterpretation translate(DomainQueryExecutionContext executionContext) {
+		final CacheableSqmInterpretation translation =
+				buildCacheableSqmInterpretation( sqm, domainParameterXref.copy(), executionContext );
+		translationLock.lock();
+		try {
+			final CacheableSqmInterpretation[] variants = cacheableSqmInterpretations;
+			final int length = Math.min( variants.length + 1, MAX_TRANSLATION_VARIANTS );
+			final CacheableSqmInterpretation[] newVariants = new CacheableSqmInterpretation[length];
+			newVariants[0] = translation;
+			System.arraycopy( variants, 0, newVariants, 1, length - 1 );
+			cacheableSqmInterpretations = newVariants;
+		}
+		finally {
+			translationLock.unlock();
+		}
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryTranslationCacheMiss( hql );
+		}
+		return translation;
 	}
 
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.domainParameterXref,
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -509,6 +626,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
 				tableGroupAccess,
+				domainParameterXref,
+				bindingShape( domainParameterXref, executionContext.getQueryParameterBindings() ),
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
@@ -527,6 +646,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
+		private final int[] bindingShape;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -535,12 +656,16 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
+				int[] bindingShape,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
+			this.bindingShape = bindingShape;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -578,15 +703,23 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static class MySqmJdbcExecutionContextAdapter extends SqmJdbcExecutionContextAdapter {
 		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
 		private final String hql;
+		private final Set<String> queryResultsCacheSpaces;
 
 		public MySqmJdbcExecutionContextAdapter(
 				DomainQueryExecutionContext executionContext,
 				JdbcOperationQuerySelect jdbcSelect,
 				SubselectFetch.RegistrationHandler subSelectFetchKeyHandler,
-				String hql) {
+				String hql,
+				Set<String> queryResultsCacheSpaces) {
 			super( executionContext, jdbcSelect );
 			this.subSelectFetchKeyHandler = subSelectFetchKeyHandler;
 			this.hql = hql;
+			this.queryResultsCacheSpaces = queryResultsCacheSpaces;
+		}
+
+		@Override
+		public Set<String> getQueryResultsCacheSpaces() {
+			return queryResultsCacheSpaces;
 		}
 
 		@Override
@@ -20,7 +20,6 @@ import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
-import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
 
 /**
@@ -85,18 +84,15 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		// for now at least, skip caching Criteria-based plans
 		// - especially wrt parameters atm; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
+		// Multi-valued parameters don't prevent caching, since ConcreteSqmSelectQueryPlan
+		// expands them in a copy of the DomainParameterXref for each of its translations,
+		// and picks a translation by the number of values bound to each parameter list
 		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
+				// At the moment we cannot cache query plan if there is filter enabled,
+				// so its SQL translations don't vary by the set of enabled filters
 			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
 				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null;
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
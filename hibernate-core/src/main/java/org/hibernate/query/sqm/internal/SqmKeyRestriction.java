@@ -0,0 +1,225 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cache.internal.KeyBasedQuerySpaces;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.model.domain.SingularPersistentAttribute;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static jakarta.persistence.criteria.Predicate.BooleanOperator.AND;
+
+/**
+ * The restriction of a select query to the entities with given identifiers or
+ * natural identifiers, which lets its cached results be invalidated only by
+ * changes to these entities.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION
+ * @see KeyBasedQuerySpaces
+ */
+class SqmKeyRestriction {
+	private final EntityPersister persister;
+	private final boolean naturalId;
+	private final List<SqmExpression<?>> keyExpressions;
+
+	private SqmKeyRestriction(EntityPersister persister, boolean naturalId, List<SqmExpression<?>> keyExpressions) {
+		this.persister = persister;
+		this.naturalId = naturalId;
+		this.keyExpressions = keyExpressions;
+	}
+
+	/**
+	 * Determine the key restriction of the given query, which must select from a
+	 * single entity, without joins or subqueries, and be restricted by an equality
+	 * or {@code in} predicate on its identifier or natural identifier.
+	 *
+	 * @return the key restriction, or {@code null} if the query has none
+	 */
+	static @Nullable SqmKeyRestriction from(SqmSelectStatement<?> sqm, SessionFactoryImplementor factory) {
+		if ( !sqm.getCteStatements().isEmpty() || !( sqm.getQueryPart() instanceof SqmQuerySpec ) ) {
+			return null;
+		}
+		final SqmQuerySpec<?> querySpec = (SqmQuerySpec<?>) sqm.getQueryPart();
+		final List<SqmRoot<?>> roots = querySpec.getFromClause().getRoots();
+		if ( roots.size() != 1 || querySpec.getWhereClause() == null ) {
+			return null;
+		}
+		final SqmRoot<?> root = roots.get( 0 );
+		if ( root.getClass() != SqmRoot.class || root.hasJoins() || root.hasTreats() ) {
+			return null;
+		}
+		final EntityPersister persister = factory.getMappingMetamodel()
+				.findEntityDescriptor( root.getModel().getHibernateEntityName() );
+		if ( persister == null || !KeyBasedQuerySpaces.hasKeyableId( persister ) ) {
+			return null;
+		}
+		final SqmKeyRestriction restriction =
+				from( querySpec.getWhereClause().getPredicate(), root, persister );
+		return restriction == null || SubQueryDetector.hasSubQuery( sqm ) ? null : restriction;
+	}
+
+	private static @Nullable SqmKeyRestriction from(SqmPredicate predicate, SqmRoot<?> root, EntityPersister persister) {
+		if ( predicate instanceof SqmJunctionPredicate ) {
+			final SqmJunctionPredicate junction = (SqmJunctionPredicate) predicate;
+			if ( junction.getOperator() == AND && !junction.isNegated() ) {
+				// the other conjuncts can only further restrict the entities
+				for ( SqmPredicate conjunct : junction.getPredicates() ) {
+					final SqmKeyRestriction restriction = from( conjunct, root, persister );
+					if ( restriction != null ) {
+						return restriction;
+					}
+				}
+			}
+		}
+		else if ( predicate instanceof SqmComparisonPredicate ) {
+			final SqmComparisonPredicate comparison = (SqmComparisonPredicate) predicate;
+			if ( comparison.getSqmOperator() == ComparisonOperator.EQUAL && !comparison.isNegated() ) {
+				final SqmKeyRestriction restriction = from(
+						comparison.getLeftHandExpression(),
+						List.of( comparison.getRightHandExpression() ),
+						root,
+						persister
+				);
+				return restriction != null
+						? restriction
+						: from( comparison.getRightHandExpression(), List.of( comparison.getLeftHandExpression() ), root, persister );
+			}
+		}
+		else if ( predicate instanceof SqmInListPredicate ) {
+			final SqmInListPredicate<?> inList = (SqmInListPredicate<?>) predicate;
+			if ( !inList.isNegated() ) {
+				return from( inList.getTestExpression(), inList.getListExpressions(), root, persister );
+			}
+		}
+		return null;
+	}
+
+	private static @Nullable SqmKeyRestriction from(
+			SqmExpression<?> keyPath,
+			List<? extends SqmExpression<?>> keyExpressions,
+			SqmRoot<?> root,
+			EntityPersister persister) {
+		if ( !( keyPath instanceof SqmPath ) || ( (SqmPath<?>) keyPath ).getLhs() != root ) {
+			return null;
+		}
+		for ( SqmExpression<?> keyExpression : keyExpressions ) {
+			if ( !( keyExpression instanceof SqmParameter || keyExpression instanceof SqmLiteral ) ) {
+				return null;
+			}
+		}
+		final Object pathSource = ( (SqmPath<?>) keyPath ).getReferencedPathSource();
+		if ( pathSource instanceof SingularPersistentAttribute ) {
+			final SingularPersistentAttribute<?, ?> attribute = (SingularPersistentAttribute<?, ?>) pathSource;
+			if ( attribute.isId() ) {
+				return new SqmKeyRestriction( persister, false, new ArrayList<>( keyExpressions ) );
+			}
+			final AttributeMapping naturalIdAttribute = KeyBasedQuerySpaces.getKeyableNaturalIdAttribute( persister );
+			if ( naturalIdAttribute != null && naturalIdAttribute.getAttributeName().equals( attribute.getName() ) ) {
+				return new SqmKeyRestriction( persister, true, new ArrayList<>( keyExpressions ) );
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve the spaces which determine whether cached results of the query are
+	 * up-to-date, for the given parameter bindings
+	 *
+	 * @return the spaces, or {@code null} if the query reads tables of other entities,
+	 * or if a key can't name a space
+	 */
+	@Nullable Set<String> resolveQuerySpaces(
+			Set<String> affectedTableNames,
+			QueryParameterBindings parameterBindings,
+			DomainParameterXref domainParameterXref) {
+		if ( !Arrays.asList( persister.getSynchronizedQuerySpaces() ).containsAll( affectedTableNames ) ) {
+			// for example, the fetches of eager associations
+			return null;
+		}
+		final Set<String> spaces = new HashSet<>( KeyBasedQuerySpaces.bulkSpaces( affectedTableNames ) );
+		for ( SqmExpression<?> keyExpression : keyExpressions ) {
+			if ( keyExpression instanceof SqmLiteral ) {
+				if ( !addKeySpace( ( (SqmLiteral<?>) keyExpression ).getLiteralValue(), spaces ) ) {
+					return null;
+				}
+			}
+			else {
+				final QueryParameterBinding<?> binding = parameterBindings.getBinding(
+						domainParameterXref.getQueryParameter( (SqmParameter<?>) keyExpression )
+				);
+				if ( binding.isMultiValued() ) {
+					for ( Object value : binding.getBindValues() ) {
+						if ( !addKeySpace( value, spaces ) ) {
+							return null;
+						}
+					}
+				}
+				else if ( !addKeySpace( binding.getBindValue(), spaces ) ) {
+					return null;
+				}
+			}
+		}
+		return spaces;
+	}
+
+	private boolean addKeySpace(Object key, Set<String> spaces) {
+		if ( key == null ) {
+			// matches nothing
+			return true;
+		}
+		else if ( KeyBasedQuerySpaces.isKeyableValue( key ) ) {
+			spaces.add( naturalId
+					? KeyBasedQuerySpaces.naturalIdSpace( persister, key )
+					: KeyBasedQuerySpaces.idSpace( persister, key ) );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static class SubQueryDetector extends BaseSemanticQueryWalker {
+		private boolean hasSubQuery;
+
+		static boolean hasSubQuery(SqmSelectStatement<?> sqm) {
+			final SubQueryDetector detector = new SubQueryDetector();
+			detector.visitSelectStatement( sqm );
+			return detector.hasSubQuery;
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			hasSubQuery = true;
+			return expression;
+		}
+	}
+}
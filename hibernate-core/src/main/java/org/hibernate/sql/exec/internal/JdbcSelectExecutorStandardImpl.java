@@ -16,6 +16,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.sql.exec.SqlExecLogger;
@@ -166,15 +168,19 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final boolean stats;
 		long startTime = 0;
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent queryExecutionEvent;
 		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
 				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
 			stats = statistics.isStatisticsEnabled();
 			if ( stats ) {
 				startTime = System.nanoTime();
 			}
+			queryExecutionEvent = eventManager.beginQueryExecutionEvent();
 		}
 		else {
 			stats = false;
+			queryExecutionEvent = null;
 		}
 
 		/*
@@ -202,33 +208,43 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			}
 		};
 
-		final JdbcValuesSourceProcessingStateStandardImpl valuesProcessingState = new JdbcValuesSourceProcessingStateStandardImpl(
-				executionContext,
-				processingOptions
-		);
+		final T result;
+		try {
+			final JdbcValuesSourceProcessingStateStandardImpl valuesProcessingState = new JdbcValuesSourceProcessingStateStandardImpl(
+					executionContext,
+					processingOptions
+			);
 
-		final RowReader<R> rowReader = ResultsHelper.createRowReader(
-				session.getFactory(),
-				rowTransformer,
-				domainResultType,
-				jdbcValues
-		);
+			final RowReader<R> rowReader = ResultsHelper.createRowReader(
+					session.getFactory(),
+					rowTransformer,
+					domainResultType,
+					jdbcValues
+			);
 
-		final RowProcessingStateStandardImpl rowProcessingState = new RowProcessingStateStandardImpl(
-				valuesProcessingState,
-				executionContext,
-				rowReader,
-				jdbcValues
-		);
+			final RowProcessingStateStandardImpl rowProcessingState = new RowProcessingStateStandardImpl(
+					valuesProcessingState,
+					executionContext,
+					rowReader,
+					jdbcValues
+			);
 
-		final T result = resultsConsumer.consume(
-				jdbcValues,
-				session,
-				processingOptions,
-				valuesProcessingState,
-				rowProcessingState,
-				rowReader
-		);
+			result = resultsConsumer.consume(
+					jdbcValues,
+					session,
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+		}
+		catch (RuntimeException e) {
+			if ( jdbcValues instanceof JdbcValuesResultSetImpl ) {
+				// the results are put when the consumer finishes up, unless it failed earlier
+				( (JdbcValuesResultSetImpl) jdbcValues ).abandonQueryCachePut( session );
+			}
+			throw e;
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
@@ -239,6 +255,14 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					milliseconds
 			);
 		}
+		if ( queryExecutionEvent != null ) {
+			eventManager.completeQueryExecutionEvent(
+					queryExecutionEvent,
+					session,
+					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					getResultSize( result )
+			);
+		}
 
 		return result;
 	}
@@ -288,12 +312,14 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					session
 			);
 
+			final Set<String> queryResultsCacheSpaces = executionContext.getQueryResultsCacheSpaces();
 			cachedResults = queryCache.get(
 					// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
 					queryResultsCacheKey,
 					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
 					//		atm we do not even collect querySpaces, but we need to
-					querySpaces,
+					queryResultsCacheSpaces == null ? querySpaces : queryResultsCacheSpaces,
+					cacheMode.isPutEnabled(),
 					session
 			);
 
@@ -334,29 +360,40 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		}
 
 		if ( cachedResults == null ) {
-			final CachedJdbcValuesMetadata metadataForCache;
-			final JdbcValuesMapping jdbcValuesMapping;
-			if ( queryResultsCacheKey == null ) {
-				jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
-				metadataForCache = null;
+			try {
+				final CachedJdbcValuesMetadata metadataForCache;
+				final JdbcValuesMapping jdbcValuesMapping;
+				if ( queryResultsCacheKey == null ) {
+					jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
+					metadataForCache = null;
+				}
+				else {
+					// If we need to put the values into the cache, we need to be able to capture the JdbcValuesMetadata
+					final CapturingJdbcValuesMetadata capturingMetadata = new CapturingJdbcValuesMetadata( resultSetAccess );
+					jdbcValuesMapping = mappingProducer.resolve( capturingMetadata, session.getLoadQueryInfluencers(), factory );
+					metadataForCache = capturingMetadata.resolveMetadataForCache();
+				}
+
+				return new JdbcValuesResultSetImpl(
+						resultSetAccess,
+						queryResultsCacheKey,
+						queryIdentifier,
+						executionContext.getQueryOptions(),
+						resultSetAccess.usesFollowOnLocking(),
+						jdbcValuesMapping,
+						metadataForCache,
+						executionContext
+				);
 			}
-			else {
-				// If we need to put the values into the cache, we need to be able to capture the JdbcValuesMetadata
-				final CapturingJdbcValuesMetadata capturingMetadata = new CapturingJdbcValuesMetadata( resultSetAccess );
-				jdbcValuesMapping = mappingProducer.resolve( capturingMetadata, session.getLoadQueryInfluencers(), factory );
-				metadataForCache = capturingMetadata.resolveMetadataForCache();
+			catch (RuntimeException e) {
+				if ( queryResultsCacheKey != null ) {
+					// this session is not going to put the results it missed
+					factory.getCache()
+							.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() )
+							.abandonPut( queryResultsCacheKey, session );
+				}
+				throw e;
 			}
-
-			return new JdbcValuesResultSetImpl(
-					resultSetAccess,
-					queryResultsCacheKey,
-					queryIdentifier,
-					executionContext.getQueryOptions(),
-					resultSetAccess.usesFollowOnLocking(),
-					jdbcValuesMapping,
-					metadataForCache,
-					executionContext
-			);
 		}
 		else {
 			final JdbcValuesMapping jdbcValuesMapping;
@@ -6,6 +6,9 @@
  */
 package org.hibernate.sql.exec.spi;
 
+import java.util.Set;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -105,4 +108,18 @@ public interface ExecutionContext {
 		return false;
 	}
 
+	/**
+	 * The spaces whose {@linkplain org.hibernate.cache.spi.TimestampsCache timestamps}
+	 * determine whether cached results of the query are up-to-date, or {@code null}
+	 * if these are the tables read by the query.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default Set<String> getQueryResultsCacheSpaces() {
+		return null;
+	}
+
 }
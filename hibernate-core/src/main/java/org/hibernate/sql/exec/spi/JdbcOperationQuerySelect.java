@@ -186,7 +186,30 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 				}
 			}
 		}
+		return isCompatibleWithLimit( queryOptions );
+	}
+
+	/**
+	 * Whether the SQL of this select is compatible with the limit of the given
+	 * query options, which does not require the parameter bindings.  A select
+	 * which is not compatible with the limit is not compatible with any
+	 * {@linkplain #isCompatibleWith parameter bindings} either.
+	 *
+	 * @since 6.6
+	 */
+	public boolean isCompatibleWithLimit(QueryOptions queryOptions) {
 		final Limit limit = queryOptions.getLimit();
+		// The rendered SQL may depend on the presence of the limit parameters, see isCompatibleWith()
+		if ( offsetParameter != null && appliedParameters.containsKey( offsetParameter )
+				&& appliedParameters.get( offsetParameter ) == null
+				&& ( limit == null || limit.getFirstRowJpa() == 0 ) ) {
+			return false;
+		}
+		if ( limitParameter != null && appliedParameters.containsKey( limitParameter )
+				&& appliedParameters.get( limitParameter ) == null
+				&& ( limit == null || limit.getMaxRowsJpa() == Integer.MAX_VALUE ) ) {
+			return false;
+		}
 		if ( offsetParameter == null && limitParameter == null ) {
 			if ( limit != null && !limit.isEmpty() ) {
 				return false;
@@ -26,4 +26,13 @@ public interface QueryCachePutManager {
 	default void finishUp(int resultCount, SharedSessionContractImplementor session) {
 		finishUp( session );
 	}
+
+	/**
+	 * Called when the execution of the query failed before the results
+	 * were {@linkplain #finishUp(int, SharedSessionContractImplementor) put}.
+	 *
+	 * @since 6.6
+	 */
+	default void abandon(SharedSessionContractImplementor session) {
+	}
 }
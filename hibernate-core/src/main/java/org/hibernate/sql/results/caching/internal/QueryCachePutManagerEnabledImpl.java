@@ -14,12 +14,16 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
-import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * QueryCachePutManager implementation for cases where we will be putting
  * Query results into the cache.
+ * <p>
+ * The cached results are a list of the optional {@link CachedJdbcValuesMetadata},
+ * the rows, and the result count, which is stored in the compact
+ * {@link ColumnarCachedResults} form when possible.
  *
  * @author Steve Ebersole
  */
@@ -28,7 +32,9 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
-	private final List<Object> dataToCache = new ArrayList<>();
+	private final CachedJdbcValuesMetadata metadataForCache;
+	private final List<Object> rowsToCache = new ArrayList<>();
+	private boolean finished;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -40,25 +46,30 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
-		if ( metadataForCache != null ) {
-			dataToCache.add( metadataForCache );
-		}
+		this.metadataForCache = metadataForCache;
 	}
 
 	@Override
 	public void registerJdbcRow(Object values) {
-		dataToCache.add( values );
+		rowsToCache.add( values );
 	}
 
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
-		finishUp( dataToCache.size() - 1, session );
+		finishUp( metadataForCache == null ? rowsToCache.size() - 1 : rowsToCache.size(), session );
 	}
 
 	@Override
 	public void finishUp(int resultCount, SharedSessionContractImplementor session) {
-		if ( !dataToCache.isEmpty() ) {
-			dataToCache.add( resultCount );
+		finished = true;
+		final List<?> dataToCache;
+		if ( metadataForCache == null && rowsToCache.isEmpty() ) {
+			dataToCache = rowsToCache;
+		}
+		else {
+			final ColumnarCachedResults columnarResults =
+					ColumnarCachedResults.from( metadataForCache, rowsToCache, resultCount );
+			dataToCache = columnarResults == null ? legacyDataToCache( resultCount ) : columnarResults;
 		}
 		final boolean put = queryCache.put(
 				queryKey,
@@ -69,4 +80,22 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
 	}
+
+	@Override
+	public void abandon(SharedSessionContractImplementor session) {
+		if ( !finished ) {
+			finished = true;
+			queryCache.abandonPut( queryKey, session );
+		}
+	}
+
+	private List<Object> legacyDataToCache(int resultCount) {
+		final List<Object> dataToCache = new ArrayList<>( rowsToCache.size() + 2 );
+		if ( metadataForCache != null ) {
+			dataToCache.add( metadataForCache );
+		}
+		dataToCache.addAll( rowsToCache );
+		dataToCache.add( resultCount );
+		return dataToCache;
+	}
 }
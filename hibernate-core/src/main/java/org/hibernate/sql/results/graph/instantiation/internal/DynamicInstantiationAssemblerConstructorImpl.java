@@ -40,16 +40,34 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 		return resultType;
 	}
 
+	/**
+	 * The number of constructor arguments, i.e. the size of the buffer
+	 * expected by {@link #assemble(RowProcessingState, Object[])}.
+	 */
+	public int getNumberOfArguments() {
+		return argumentReaders.size();
+	}
+
 	@Override
 	public R assemble(RowProcessingState rowProcessingState) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
-		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState );
+		return assemble( rowProcessingState, new Object[ argumentReaders.size() ] );
+	}
+
+	/**
+	 * Assemble the result reading the constructor arguments into the given buffer.
+	 * <p>
+	 * Since the arguments are spread over the constructor parameters, the buffer is
+	 * never visible to the instantiated object and may be reused for every row of
+	 * the same result set.
+	 */
+	public R assemble(RowProcessingState rowProcessingState, Object[] argumentBuffer) {
+		assert argumentBuffer.length == argumentReaders.size();
+		for ( int i = 0; i < argumentBuffer.length; i++ ) {
+			argumentBuffer[i] = argumentReaders.get( i ).assemble( rowProcessingState );
 		}
 
 		try {
-			return targetConstructor.newInstance( args );
+			return targetConstructor.newInstance( argumentBuffer );
 		}
 		catch (InvocationTargetException e) {
 			throw new InstantiationException( "Error instantiating class '"
@@ -44,4 +44,9 @@ public class RowTransformerCheckingImpl<R> implements RowTransformer<R> {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
 }
@@ -68,4 +68,9 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
 }
@@ -40,4 +40,9 @@ public class RowTransformerSingularReturnImpl<R> implements RowTransformer<R> {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
 }
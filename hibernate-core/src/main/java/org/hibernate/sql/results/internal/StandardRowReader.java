@@ -16,6 +16,7 @@ import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
+import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiationAssemblerConstructorImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
@@ -45,6 +46,14 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
 
+	// Specializations for results without initializers, i.e. pure scalar and dynamic
+	// instantiation (DTO) projections: rather than allocating an intermediate array
+	// per row, the values are read into a buffer owned by this (per-execution) reader
+	private final boolean hasInitializers;
+	private final Object @Nullable[] rowBuffer;
+	private final @Nullable DynamicInstantiationAssemblerConstructorImpl<T> constructorAssembler;
+	private final Object @Nullable[] constructorArgumentBuffer;
+
 	private static final Logger LOGGER = LoadingLogger.LOGGER;
 
 	public StandardRowReader(
@@ -97,6 +106,26 @@ public class StandardRowReader<T> implements RowReader<T> {
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+
+		this.hasInitializers = resultInitializers.length != 0 || initializers.length != 0;
+		this.rowBuffer = componentType == ComponentType.OBJECT
+				&& resultElementClass == Object.class
+				&& this.rowTransformer != null
+				&& !this.rowTransformer.retainsRow()
+				? new Object[resultAssemblers.length]
+				: null;
+		if ( !hasInitializers
+				&& this.rowTransformer == null
+				&& resultAssemblers.length == 1
+				&& resultAssemblers[0] instanceof DynamicInstantiationAssemblerConstructorImpl ) {
+			//noinspection unchecked
+			this.constructorAssembler = (DynamicInstantiationAssemblerConstructorImpl<T>) resultAssemblers[0];
+			this.constructorArgumentBuffer = new Object[constructorAssembler.getNumberOfArguments()];
+		}
+		else {
+			this.constructorAssembler = null;
+			this.constructorArgumentBuffer = null;
+		}
 	}
 
 	@Override
@@ -138,6 +167,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	@Override
 	public T readRow(RowProcessingState rowProcessingState) {
+		if ( !hasInitializers ) {
+			return readRowWithoutInitializers( rowProcessingState );
+		}
+
 		coordinateInitializers( rowProcessingState );
 
 		final T result;
@@ -150,14 +183,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 				result = (T) resultAssemblers[0].assemble( rowProcessingState );
 			}
 			else {
-				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
-				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
-				}
-				//noinspection unchecked
-				result = rowTransformer == null
-						? (T) resultRow
-						: rowTransformer.transformRow( resultRow );
+				result = readObjectRow( rowProcessingState );
 			}
 		}
 
@@ -165,6 +191,35 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return result;
 	}
 
+	private T readRowWithoutInitializers(RowProcessingState rowProcessingState) {
+		if ( componentType != ComponentType.OBJECT ) {
+			return readPrimitiveRow( rowProcessingState );
+		}
+		else if ( constructorAssembler != null ) {
+			return constructorAssembler.assemble( rowProcessingState, constructorArgumentBuffer );
+		}
+		else if ( resultAssemblers.length == 1 && rowTransformer == null ) {
+			//noinspection unchecked
+			return (T) resultAssemblers[0].assemble( rowProcessingState );
+		}
+		else {
+			return readObjectRow( rowProcessingState );
+		}
+	}
+
+	private T readObjectRow(RowProcessingState rowProcessingState) {
+		final Object[] resultRow = rowBuffer == null
+				? (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length )
+				: rowBuffer;
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+		}
+		//noinspection unchecked
+		return rowTransformer == null
+				? (T) resultRow
+				: rowTransformer.transformRow( resultRow );
+	}
+
 	private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 		// The following is ugly, but unfortunately necessary to not hurt performance.
 		// This implementation was micro-benchmarked and discussed with Francesco Nigro,
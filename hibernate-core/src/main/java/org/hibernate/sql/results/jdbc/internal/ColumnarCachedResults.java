@@ -0,0 +1,318 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Immutable columnar form of the results of a query put into the query cache.
+ * <p>
+ * Each column of the cached rows is stored in the most compact encoding its
+ * values allow: a {@code long[]} or an {@code int[]} for numeric values like
+ * identifiers, a dictionary of distinct strings with an {@code int[]} of codes
+ * for repetitive strings, and an {@code Object[]} otherwise.
+ * <p>
+ * For compatibility with the other consumers of cached results, this is also a
+ * read-only {@link List} with the layout described by
+ * {@link org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl},
+ * that is, the optional {@link CachedJdbcValuesMetadata}, the rows, and the result
+ * count. {@link JdbcValuesCacheHit} reads the columns directly instead, without
+ * materializing the rows.
+ */
+public final class ColumnarCachedResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final @Nullable CachedJdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final int resultCount;
+	/**
+	 * Whether the cached rows are arrays of values, or single values
+	 */
+	private final boolean arrayRows;
+	private final Column[] columns;
+
+	private ColumnarCachedResults(
+			@Nullable CachedJdbcValuesMetadata metadata,
+			int rowCount,
+			int resultCount,
+			boolean arrayRows,
+			Column[] columns) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.resultCount = resultCount;
+		this.arrayRows = arrayRows;
+		this.columns = columns;
+	}
+
+	/**
+	 * Encode the given rows in columns, if they all have the same shape.
+	 *
+	 * @param metadata the metadata to cache along with the rows, if any
+	 * @param rows the rows, each being either an {@code Object[]} or a single value
+	 * @param resultCount the number of results of the query
+	 *
+	 * @return the columnar results, or {@code null} if the rows can't be encoded
+	 */
+	public static @Nullable ColumnarCachedResults from(
+			@Nullable CachedJdbcValuesMetadata metadata,
+			List<?> rows,
+			int resultCount) {
+		final int rowCount = rows.size();
+		if ( rowCount == 0 ) {
+			return new ColumnarCachedResults( metadata, 0, resultCount, false, new Column[0] );
+		}
+		final Object firstRow = rows.get( 0 );
+		final boolean arrayRows = firstRow != null && firstRow.getClass() == Object[].class;
+		final int columnCount = arrayRows ? ( (Object[]) firstRow ).length : 1;
+		final Object[][] columnValues = new Object[columnCount][rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object row = rows.get( i );
+			if ( arrayRows ) {
+				if ( row == null || row.getClass() != Object[].class || ( (Object[]) row ).length != columnCount ) {
+					return null;
+				}
+				final Object[] values = (Object[]) row;
+				for ( int j = 0; j < columnCount; j++ ) {
+					columnValues[j][i] = values[j];
+				}
+			}
+			else {
+				if ( row != null && row.getClass() == Object[].class ) {
+					return null;
+				}
+				columnValues[0][i] = row;
+			}
+		}
+		final Column[] columns = new Column[columnCount];
+		for ( int j = 0; j < columnCount; j++ ) {
+			columns[j] = encode( columnValues[j] );
+		}
+		return new ColumnarCachedResults( metadata, rowCount, resultCount, arrayRows, columns );
+	}
+
+	public @Nullable CachedJdbcValuesMetadata getMetadata() {
+		return metadata;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getResultCount() {
+		return resultCount;
+	}
+
+	/**
+	 * The value at the given index of the cached row at the given position
+	 */
+	public Object getValue(int row, int cacheIndex) {
+		assert arrayRows || cacheIndex == 0;
+		return columns[cacheIndex].get( row );
+	}
+
+	// List view
+
+	@Override
+	public int size() {
+		return ( metadata == null ? 0 : 1 ) + rowCount + 1;
+	}
+
+	@Override
+	public Object get(int index) {
+		final int offset = metadata == null ? 0 : 1;
+		if ( index < 0 || index >= size() ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size() );
+		}
+		else if ( index < offset ) {
+			return metadata;
+		}
+		else if ( index == offset + rowCount ) {
+			return resultCount;
+		}
+		else {
+			return getRow( index - offset );
+		}
+	}
+
+	private Object getRow(int row) {
+		if ( arrayRows ) {
+			final Object[] values = new Object[columns.length];
+			for ( int j = 0; j < columns.length; j++ ) {
+				values[j] = columns[j].get( row );
+			}
+			return values;
+		}
+		else {
+			return columns[0].get( row );
+		}
+	}
+
+	// Column encodings
+
+	private static Column encode(Object[] values) {
+		Class<?> type = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( type == null ) {
+					type = value.getClass();
+				}
+				else if ( type != value.getClass() ) {
+					return new ObjectColumn( values );
+				}
+			}
+		}
+		if ( type == Long.class ) {
+			return LongColumn.from( values );
+		}
+		else if ( type == Integer.class ) {
+			return IntColumn.from( values );
+		}
+		else if ( type == String.class ) {
+			final DictionaryColumn column = DictionaryColumn.from( values );
+			return column == null ? new ObjectColumn( values ) : column;
+		}
+		else {
+			return new ObjectColumn( values );
+		}
+	}
+
+	private static @Nullable BitSet nulls(Object[] values) {
+		BitSet nulls = null;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == null ) {
+				if ( nulls == null ) {
+					nulls = new BitSet( values.length );
+				}
+				nulls.set( i );
+			}
+		}
+		return nulls;
+	}
+
+	private interface Column extends Serializable {
+		Object get(int row);
+	}
+
+	private static final class LongColumn implements Column {
+		private final long[] values;
+		private final @Nullable BitSet nulls;
+
+		private LongColumn(long[] values, @Nullable BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		static LongColumn from(Object[] values) {
+			final long[] longs = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					longs[i] = (Long) values[i];
+				}
+			}
+			return new LongColumn( longs, nulls( values ) );
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class IntColumn implements Column {
+		private final int[] values;
+		private final @Nullable BitSet nulls;
+
+		private IntColumn(int[] values, @Nullable BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		static IntColumn from(Object[] values) {
+			final int[] ints = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					ints[i] = (Integer) values[i];
+				}
+			}
+			return new IntColumn( ints, nulls( values ) );
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class DictionaryColumn implements Column {
+		private final String[] dictionary;
+		/**
+		 * The index of the value in the dictionary, or {@code -1} for null
+		 */
+		private final int[] codes;
+
+		private DictionaryColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		/**
+		 * @return the column, or {@code null} if the values are too distinct to
+		 * benefit from a dictionary
+		 */
+		static @Nullable DictionaryColumn from(Object[] values) {
+			final int maxDictionarySize = values.length / 2;
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			final List<String> dictionary = new ArrayList<>();
+			final int[] codes = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				final String value = (String) values[i];
+				if ( value == null ) {
+					codes[i] = -1;
+				}
+				else {
+					Integer code = codesByValue.get( value );
+					if ( code == null ) {
+						if ( dictionary.size() == maxDictionarySize ) {
+							return null;
+						}
+						code = dictionary.size();
+						codesByValue.put( value, code );
+						dictionary.add( value );
+					}
+					codes[i] = code;
+				}
+			}
+			return new DictionaryColumn( dictionary.toArray( new String[0] ), codes );
+		}
+
+		@Override
+		public Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private static final class ObjectColumn implements Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		public Object get(int row) {
+			return values[row];
+		}
+	}
+}
@@ -19,6 +19,7 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	private ColumnarCachedResults columnarResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -29,9 +30,19 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
-		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
-		this.numberOfRows = cachedResults.size() - offset - 1;
-		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
+		if ( cachedResults instanceof ColumnarCachedResults ) {
+			// read the columns directly
+			this.columnarResults = (ColumnarCachedResults) cachedResults;
+			this.offset = 0;
+			this.numberOfRows = columnarResults.getRowCount();
+			this.resultCount = columnarResults.getResultCount();
+		}
+		else {
+			this.columnarResults = null;
+			this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
+			this.numberOfRows = cachedResults.size() - offset - 1;
+			this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
+		}
 		this.resolvedMapping = resolvedMapping;
 		this.valueIndexesToCacheIndexes = resolvedMapping.getValueIndexesToCacheIndexes();
 	}
@@ -172,6 +183,12 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarResults != null ) {
+			return columnarResults.getValue(
+					position,
+					valueIndexesToCacheIndexes == null ? valueIndex : valueIndexesToCacheIndexes[valueIndex]
+			);
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -188,6 +205,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		columnarResults = null;
 	}
 
 	@Override
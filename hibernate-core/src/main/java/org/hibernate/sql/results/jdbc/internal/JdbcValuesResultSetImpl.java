@@ -337,6 +337,15 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		resultSetAccess.release();
 	}
 
+	/**
+	 * Called when the execution of the query failed before {@link #finishUp}
+	 */
+	public void abandonQueryCachePut(SharedSessionContractImplementor session) {
+		if ( queryCachePutManager != null ) {
+			queryCachePutManager.abandon( session );
+		}
+	}
+
 	@Override
 	public JdbcValuesMapping getValuesMapping() {
 		return valuesMapping;
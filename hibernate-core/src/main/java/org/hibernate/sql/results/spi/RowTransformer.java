@@ -30,4 +30,13 @@ public interface RowTransformer<T> {
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Does the transformed result keep a reference to the {@code row} array passed
+	 * to {@link #transformRow}?  If not, the caller may reuse a single array for
+	 * all rows instead of allocating one per row.
+	 */
+	default boolean retainsRow() {
+		return true;
+	}
 }
@@ -50,4 +50,17 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The number of instances of this entity currently batch fetched
+	 * together, as learned by adaptive batch fetching, or zero if the
+	 * batch size was not adjusted since the last Statistics clearing.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 6.6
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
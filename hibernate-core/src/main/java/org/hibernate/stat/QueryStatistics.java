@@ -105,4 +105,25 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of executions of this query which reused a SQL
+	 * translation of the cached query plan.
+	 *
+	 * @since 6.6
+	 */
+	default long getTranslationCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of times this query was translated to SQL, because
+	 * no SQL translation of the query plan was compatible with the
+	 * limit, lock options, or parameter bindings of the execution.
+	 *
+	 * @since 6.6
+	 */
+	default long getTranslationCacheMissCount() {
+		return 0;
+	}
 }
@@ -182,6 +182,33 @@ public interface Statistics {
      */
 	long getQueryCachePutCount();
 
+	/**
+	 * The global number of cached queries retrieved from the cache after
+	 * waiting for another session to execute the query, instead of executing
+	 * it again.  These are included in the {@linkplain #getQueryCacheHitCount
+	 * hit count}.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_LOAD_TIMEOUT
+	 *
+	 * @since 6.6
+	 */
+	default long getQueryCacheCoalescedCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of cached queries retrieved from the cache which were
+	 * no longer up-to-date, while another session executed the query.  These
+	 * are included in the {@linkplain #getQueryCacheHitCount hit count}.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_STALE_WHILE_REVALIDATE
+	 *
+	 * @since 6.6
+	 */
+	default long getQueryCacheStaleHitCount() {
+		return 0;
+	}
+
 	/**
 	 * The global number of natural id queries executed against the
 	 * database.
@@ -305,6 +332,23 @@ public interface Statistics {
 	 */
 	long getCollectionRecreateCount();
 
+	/**
+	 * The global number of entities and collections which were fetched
+	 * by a {@linkplain org.hibernate.annotations.BatchSize batch fetch}
+	 * or {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT subselect
+	 * fetch} of another instance, instead of by a separate SQL statement.
+	 * <p>
+	 * This is the number of round trips to the database which were avoided,
+	 * assuming that every instance fetched in advance is eventually used.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#AUTO_FETCH
+	 *
+	 * @since 6.6
+	 */
+	default long getAvoidedFetchCount() {
+		return 0;
+	}
+
 	/**
 	 * The {@link Instant} at which this instance of {@code Statistics}
 	 * was created, or since the last time {@link #clear()} was called.
@@ -26,6 +26,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -60,6 +61,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -84,6 +89,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -93,7 +102,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -37,6 +37,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
+	private final LongAdder translationCacheHitCount = new LongAdder();
+	private final LongAdder translationCacheMissCount = new LongAdder();
 
 
 	private final Lock readLock;
@@ -154,6 +156,20 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * SQL translation of the query plan reused
+	 */
+	public long getTranslationCacheHitCount() {
+		return translationCacheHitCount.sum();
+	}
+
+	/**
+	 * Query plan translated to SQL
+	 */
+	public long getTranslationCacheMissCount() {
+		return translationCacheMissCount.sum();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -207,6 +223,14 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheMissCount.increment();
 	}
 
+	void incrementTranslationCacheHitCount() {
+		translationCacheHitCount.increment();
+	}
+
+	void incrementTranslationCacheMissCount() {
+		translationCacheMissCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -215,6 +239,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
+				+ ",translationCacheHitCount=" + this.translationCacheHitCount
+				+ ",translationCacheMissCount=" + this.translationCacheMissCount
 				+ ",executionCount=" + this.executionCount
 				+ ",executionRowCount=" + this.executionRowCount
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
@@ -76,6 +76,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder collectionRemoveCount = new LongAdder();
 	private final LongAdder collectionRecreateCount = new LongAdder();
 	private final LongAdder collectionFetchCount = new LongAdder();
+	private final LongAdder avoidedFetchCount = new LongAdder();
 
 	private final LongAdder secondLevelCacheHitCount = new LongAdder();
 	private final LongAdder secondLevelCacheMissCount = new LongAdder();
@@ -95,6 +96,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryCacheHitCount = new LongAdder();
 	private final LongAdder queryCacheMissCount = new LongAdder();
 	private final LongAdder queryCachePutCount = new LongAdder();
+	private final LongAdder queryCacheCoalescedCount = new LongAdder();
+	private final LongAdder queryCacheStaleHitCount = new LongAdder();
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
@@ -184,6 +187,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		collectionRecreateCount.reset();
 		collectionLoadCount.reset();
 		collectionFetchCount.reset();
+		avoidedFetchCount.reset();
 
 		queryExecutionCount.reset();
 		queryCacheHitCount.reset();
@@ -191,6 +195,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryExecutionMaxTimeQueryString = null;
 		queryCacheMissCount.reset();
 		queryCachePutCount.reset();
+		queryCacheCoalescedCount.reset();
+		queryCacheStaleHitCount.reset();
 
 		updateTimestampsCacheMissCount.reset();
 		updateTimestampsCacheHitCount.reset();
@@ -299,6 +305,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityBatchFetchSizeAdjusted(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public long getAvoidedFetchCount() {
+		return avoidedFetchCount.sum();
+	}
+
+	@Override
+	public void fetchesAvoided(int count) {
+		avoidedFetchCount.add( count );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -692,6 +713,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryCachePutCount.sum();
 	}
 
+	@Override
+	public long getQueryCacheCoalescedCount() {
+		return queryCacheCoalescedCount.sum();
+	}
+
+	@Override
+	public long getQueryCacheStaleHitCount() {
+		return queryCacheStaleHitCount.sum();
+	}
+
 	@Override
 	public @Nullable String getQueryExecutionMaxTimeQueryString() {
 		return queryExecutionMaxTimeQueryString;
@@ -763,6 +794,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryCacheCoalesced() {
+		queryCacheCoalescedCount.increment();
+	}
+
+	@Override
+	public void queryCacheStaleHit() {
+		queryCacheStaleHitCount.increment();
+	}
+
 	@Override
 	public long getQueryPlanCacheHitCount() {
 		return queryPlanCacheHitCount.sum();
@@ -800,6 +841,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryTranslationCacheHit(String query) {
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementTranslationCacheHitCount();
+		}
+	}
+
+	@Override
+	public void queryTranslationCacheMiss(String query) {
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementTranslationCacheMissCount();
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -959,6 +1014,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",collections removed=" + collectionRemoveCount +
 				",collections recreated=" + collectionRecreateCount +
 				",collections fetched=" + collectionFetchCount +
+				",fetches avoided=" + avoidedFetchCount +
 				",naturalId queries executed to database=" + naturalIdQueryExecutionCount +
 				",naturalId cache puts=" + naturalIdCachePutCount +
 				",naturalId cache hits=" + naturalIdCacheHitCount +
@@ -968,6 +1024,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",query cache puts=" + queryCachePutCount +
 				",query cache hits=" + queryCacheHitCount +
 				",query cache misses=" + queryCacheMissCount +
+				",query cache coalesced hits=" + queryCacheCoalescedCount +
+				",query cache stale hits=" + queryCacheStaleHitCount +
 				",update timestamps cache puts=" + updateTimestampsCachePutCount +
 				",update timestamps cache hits=" + updateTimestampsCacheHitCount +
 				",update timestamps cache misses=" + updateTimestampsCacheMissCount +
@@ -227,6 +227,24 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryCacheMiss(String hql, String regionName);
 
+	/**
+	 * Callback indicating a get from the query cache resulted in a hit after
+	 * waiting for another session to execute the query.
+	 *
+	 * @since 6.6
+	 */
+	default void queryCacheCoalesced() {
+	}
+
+	/**
+	 * Callback indicating a get from the query cache returned results which
+	 * are no longer up-to-date, while another session executes the query.
+	 *
+	 * @since 6.6
+	 */
+	default void queryCacheStaleHit() {
+	}
+
 	/**
 	 * Callback indicating execution of a sql/hql query
 	 *
@@ -279,6 +297,51 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an execution of a query reused a SQL
+	 * translation of its query plan.
+	 *
+	 * @param query The query
+	 *
+	 * @since 6.6
+	 */
+	default void queryTranslationCacheHit(String query) {
+	}
+
+	/**
+	 * Callback indicating that a query was translated to SQL, because
+	 * no translation of its query plan could be reused.
+	 *
+	 * @param query The query
+	 *
+	 * @since 6.6
+	 */
+	default void queryTranslationCacheMiss(String query) {
+	}
+
+	/**
+	 * Callback indicating that adaptive batch fetching changed the
+	 * number of instances of an entity which are fetched together.
+	 *
+	 * @param entityName The name of the entity
+	 * @param batchSize The new batch size
+	 *
+	 * @since 6.6
+	 */
+	default void entityBatchFetchSizeAdjusted(String entityName, int batchSize) {
+	}
+
+	/**
+	 * Callback indicating that entities or collections were fetched by a
+	 * batch fetch or subselect fetch of another instance.
+	 *
+	 * @param count The number of instances fetched along with the requested one
+	 *
+	 * @since 6.6
+	 */
+	default void fetchesAvoided(int count) {
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
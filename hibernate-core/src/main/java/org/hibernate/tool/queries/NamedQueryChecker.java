@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.tool.queries;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.NamedQueryManifest;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * Checks the named queries of a domain model at build time, and writes a
+ * {@linkplain NamedQueryManifest manifest} of the named HQL queries next to
+ * the compiled classes, so that they are not interpreted again by the startup
+ * check when the application is deployed.
+ * <p>
+ * The domain model is booted without access to a database, so the settings
+ * must at least specify the {@linkplain JdbcSettings#DIALECT dialect}.  Since
+ * the functions registered by the dialect usually depend on the version of the
+ * database, the {@linkplain JdbcSettings#JAKARTA_HBM2DDL_DB_VERSION version} used
+ * at runtime should be specified too.  The manifest is only used at runtime if the
+ * domain model, the dialect, the registered functions, and the settings affecting
+ * the interpretation of queries are the same as at build time.  The queries listed
+ * by the manifest are then interpreted in the background.
+ *
+ * @since 6.6
+ */
+@Incubating
+public class NamedQueryChecker {
+	private final ClassLoader classLoader;
+	private final Map<String, Object> settings;
+
+	/**
+	 * @param classLoader The class loader for the compiled classes and their dependencies
+	 * @param settings The configuration settings used to boot the domain model
+	 */
+	public NamedQueryChecker(ClassLoader classLoader, Map<String, Object> settings) {
+		this.classLoader = classLoader;
+		this.settings = settings;
+	}
+
+	/**
+	 * Check the named queries of the domain model made of the given classes, and of
+	 * {@code META-INF/orm.xml}, if any.
+	 *
+	 * @param classNames The names of the compiled classes, those which are not annotated
+	 * {@link Entity @Entity}, {@link Embeddable @Embeddable} or
+	 * {@link MappedSuperclass @MappedSuperclass} are ignored
+	 * @param outputDirectory The root directory of the compiled classes, to which the
+	 * manifest is written
+	 *
+	 * @return The number of named HQL queries listed by the manifest
+	 *
+	 * @throws org.hibernate.query.NamedQueryValidationException if a named query is invalid
+	 */
+	public int check(Collection<String> classNames, File outputDirectory) {
+		final Path manifestFile = outputDirectory.toPath().resolve( NamedQueryManifest.RESOURCE_NAME );
+		try {
+			// the manifest of a previous build must not be picked up
+			Files.deleteIfExists( manifestFile );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to delete named query manifest: " + manifestFile, e );
+		}
+
+		final BootstrapServiceRegistry bootstrapServiceRegistry =
+				new BootstrapServiceRegistryBuilder().applyClassLoader( classLoader ).build();
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder( bootstrapServiceRegistry )
+				.applySetting( JdbcSettings.ALLOW_METADATA_ON_BOOT, false )
+				.applySettings( settings )
+				// the queries are checked explicitly below
+				.applySetting( QuerySettings.QUERY_STARTUP_CHECKING, false )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			for ( String className : classNames ) {
+				final Class<?> type = loadClass( className );
+				if ( type != null && isDomainClass( type ) ) {
+					metadataSources.addAnnotatedClass( type );
+				}
+			}
+			if ( classLoader.getResource( "META-INF/orm.xml" ) != null ) {
+				metadataSources.addResource( "META-INF/orm.xml" );
+			}
+
+			final SessionFactoryImplementor sessionFactory =
+					(SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+			try {
+				sessionFactory.getQueryEngine().validateNamedQueries();
+				final NamedQueryManifest manifest = NamedQueryManifest.from( sessionFactory );
+				writeManifest( manifest, manifestFile );
+				return manifest.getNumberOfQueries();
+			}
+			finally {
+				sessionFactory.close();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private Class<?> loadClass(String className) {
+		try {
+			return Class.forName( className, false, classLoader );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			// not part of the domain model
+			return null;
+		}
+	}
+
+	private static boolean isDomainClass(Class<?> type) {
+		return type.isAnnotationPresent( Entity.class )
+				|| type.isAnnotationPresent( Embeddable.class )
+				|| type.isAnnotationPresent( MappedSuperclass.class );
+	}
+
+	private static void writeManifest(NamedQueryManifest manifest, Path manifestFile) {
+		try {
+			Files.createDirectories( manifestFile.getParent() );
+			try ( OutputStream output = Files.newOutputStream( manifestFile ) ) {
+				manifest.write( output );
+			}
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to write named query manifest: " + manifestFile, e );
+		}
+	}
+}
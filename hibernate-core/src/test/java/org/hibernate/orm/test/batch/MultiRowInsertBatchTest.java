@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.BaseSessionEventListener;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests coalescing of batched inserts into multi-row insert statements
+ */
+@DomainModel( annotatedClasses = MultiRowInsertBatchTest.Measurement.class )
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = MULTI_ROW_INSERTS, value = "true" ),
+		@Setting( name = AUTO_SESSION_EVENTS_LISTENER,
+				value = "org.hibernate.orm.test.batch.MultiRowInsertBatchTest$BatchCountingListener" )
+} )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsValuesListForInsert.class )
+public class MultiRowInsertBatchTest {
+
+	@Test
+	public void testInsertsAreCoalesced(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Measurement( i, "sensor-" + i, i * 1.5 ) );
+			}
+		} );
+
+		// the statement for 10 rows is prepared once and executed twice,
+		// followed by a statement for the remaining 5 rows
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		statementInspector.assertIsInsert( 0 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "?", 30 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 1, "?", 15 );
+
+		scope.inTransaction( (session) -> {
+			final List<Measurement> measurements = session.createSelectionQuery( "from Measurement order by id", Measurement.class )
+					.list();
+			assertThat( measurements ).hasSize( 25 );
+			assertThat( measurements ).extracting( Measurement::getId ).doesNotHaveDuplicates();
+			assertThat( measurements.get( 0 ).getSensor() ).isEqualTo( "sensor-1" );
+			assertThat( measurements.get( 24 ).getSensor() ).isEqualTo( "sensor-25" );
+			assertThat( measurements.get( 24 ).getReading() ).isEqualTo( 37.5 );
+		} );
+	}
+
+	@Test
+	public void testStatementsReportedAsBatches(SessionFactoryScope scope) {
+		BatchCountingListener.batchExecutions.set( 0 );
+		BatchCountingListener.statementExecutions.set( 0 );
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Measurement( i, "sensor-" + i, i * 1.5 ) );
+			}
+		} );
+
+		assertThat( BatchCountingListener.batchExecutions.get() ).isEqualTo( 3 );
+		assertThat( BatchCountingListener.statementExecutions.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testNullValues(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Measurement( 1, null, 1.0 ) );
+			session.persist( new Measurement( 2, "sensor-2", 2.0 ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.find( Measurement.class, 1 ).getSensor() ).isNull();
+			assertThat( session.find( Measurement.class, 2 ).getSensor() ).isEqualTo( "sensor-2" );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	public static class BatchCountingListener extends BaseSessionEventListener {
+		static final AtomicInteger batchExecutions = new AtomicInteger();
+		static final AtomicInteger statementExecutions = new AtomicInteger();
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			batchExecutions.incrementAndGet();
+		}
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			statementExecutions.incrementAndGet();
+		}
+	}
+
+	@Entity( name = "Measurement" )
+	@Table( name = "measurements" )
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private String sensor;
+		private double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String sensor, double reading) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getSensor() {
+			return sensor;
+		}
+
+		public double getReading() {
+			return reading;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.DIALECT;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests that multi-row insert statements respect
+ * {@link org.hibernate.dialect.Dialect#getMultiRowInsertRowCountLimit()}
+ */
+@DomainModel( annotatedClasses = MultiRowInsertRowCountLimitTest.Reading.class )
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				provider = MultiRowInsertRowCountLimitTest.TestSettingProvider.class,
+				settingName = DIALECT
+		),
+		settings = {
+				@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = MULTI_ROW_INSERTS, value = "true" )
+		}
+)
+@RequiresDialect( H2Dialect.class )
+public class MultiRowInsertRowCountLimitTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public int getMultiRowInsertRowCountLimit() {
+			return 4;
+		}
+	}
+
+	@Test
+	public void testRowCountLimit(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Reading( i, i * 0.5 ) );
+			}
+		} );
+
+		// the statement for 4 rows is prepared once and executed twice,
+		// followed by a statement for the remaining 2 rows
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "?", 8 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 1, "?", 4 );
+
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Reading" ).executeUpdate() );
+	}
+
+	@Entity( name = "Reading" )
+	public static class Reading {
+		@Id
+		private Integer id;
+		private double value;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, double value) {
+			this.id = id;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.jdbc.JdbcSpies;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CONNECTION_PROVIDER;
+import static org.hibernate.cfg.AvailableSettings.PIPELINED_EXECUTION;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests that the connection isn't used by non-batched mutations while a batch
+ * is executing in the background
+ *
+ * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+ */
+@DomainModel( annotatedClasses = {
+		PipelinedBatchConnectionUseTest.Folder.class,
+		PipelinedBatchConnectionUseTest.Ticket.class
+} )
+@SessionFactory
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "5" ),
+		@Setting( name = PIPELINED_EXECUTION, value = "true" ),
+		@Setting( name = CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.batch.PipelinedBatchConnectionUseTest$SlowBatchConnectionProvider" )
+} )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsIdentityColumns.class )
+public class PipelinedBatchConnectionUseTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Folder" ).executeUpdate();
+			session.createMutationQuery( "delete from Ticket" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testIdentityInsertWhileBatchIsPending(SessionFactoryScope scope) {
+		final SlowBatchConnectionProvider connectionProvider = connectionProvider( scope );
+		connectionProvider.concurrentCalls.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Folder( i, "folder-" + i ) );
+			}
+			// the queued inserts fill the batch, which is handed over to the background,
+			// and then the insert of the ticket is executed immediately, without a batch
+			session.persist( new Ticket( "ticket" ) );
+		} );
+
+		assertThat( connectionProvider.concurrentCalls ).isEmpty();
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Folder", Long.class ).getSingleResult() )
+					.isEqualTo( 5L );
+			assertThat( session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult() )
+					.isEqualTo( 1L );
+		} );
+	}
+
+	private static SlowBatchConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (SlowBatchConnectionProvider) scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+
+	/**
+	 * Keeps batch executions busy for a while, and records the JDBC calls made
+	 * by any other thread in the meantime
+	 */
+	public static class SlowBatchConnectionProvider extends ConnectionProviderDelegate {
+		private final List<String> concurrentCalls = new CopyOnWriteArrayList<>();
+		private volatile Thread executingThread;
+
+		private final JdbcSpies.SpyContext spyContext = new JdbcSpies.SpyContext().registerCallback(
+				(spy, method, args, result) -> {
+					final Thread executing = executingThread;
+					if ( executing != null && executing != Thread.currentThread() ) {
+						concurrentCalls.add( method.getName() );
+					}
+					if ( method.getName().equals( "executeBatch" ) ) {
+						executingThread = Thread.currentThread();
+						try {
+							Thread.sleep( 200 );
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						finally {
+							executingThread = null;
+						}
+					}
+				}
+		);
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return JdbcSpies.spy( super.getConnection(), spyContext );
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( spyContext.getSpiedInstance( connection ) );
+		}
+	}
+
+	@Entity( name = "Folder" )
+	public static class Folder {
+		@Id
+		Integer id;
+		String name;
+
+		public Folder() {
+		}
+
+		public Folder(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Ticket" )
+	public static class Ticket {
+		@Id
+		@GeneratedValue( strategy = GenerationType.IDENTITY )
+		Long id;
+		String title;
+
+		public Ticket() {
+		}
+
+		public Ticket(String title) {
+			this.title = title;
+		}
+	}
+}
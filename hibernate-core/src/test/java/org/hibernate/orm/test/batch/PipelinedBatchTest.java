@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.PostPersist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.PIPELINED_EXECUTION;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests for {@link org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION}
+ */
+@DomainModel( annotatedClasses = {
+		PipelinedBatchTest.Folder.class,
+		PipelinedBatchTest.Document.class,
+		PipelinedBatchTest.Note.class
+} )
+@SessionFactory
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "5" ),
+		@Setting( name = PIPELINED_EXECUTION, value = "true" ),
+		@Setting( name = ORDER_INSERTS, value = "true" ),
+		@Setting( name = CHECK_NULLABILITY, value = "false" )
+} )
+public class PipelinedBatchTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Document" ).executeUpdate();
+			session.createMutationQuery( "delete from Folder" ).executeUpdate();
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertUpdateAndDelete(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				final Folder folder = new Folder( i, "folder-" + i );
+				session.persist( folder );
+				for ( int j = 1; j <= 4; j++ ) {
+					session.persist( new Document( i * 10 + j, "document-" + j, folder ) );
+				}
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Document", Long.class ).getSingleResult() )
+					.isEqualTo( 48L );
+			session.createSelectionQuery( "from Document where id < 70", Document.class ).getResultList()
+					.forEach( (document) -> document.name = "renamed" );
+			// the query needs the pending batches to be executed first
+			assertThat( session.createSelectionQuery( "select count(*) from Document where name = 'renamed'", Long.class )
+								.getSingleResult() ).isEqualTo( 24L );
+			session.createSelectionQuery( "from Document where id > 100", Document.class ).getResultList()
+					.forEach( session::remove );
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Document", Long.class ).getSingleResult() )
+					.isEqualTo( 40L );
+			assertThat( session.find( Document.class, 11 ).name ).isEqualTo( "renamed" );
+			assertThat( session.find( Document.class, 71 ).name ).isEqualTo( "document-1" );
+		} );
+	}
+
+	@Test
+	public void testFailureOfBackgroundExecution(SessionFactoryScope scope) {
+		assertThatThrownBy( () -> scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				// the violation of the not null constraint is in the first batch
+				session.persist( new Folder( i, i == 2 ? null : "folder-" + i ) );
+			}
+		} ) ).isInstanceOf( PersistenceException.class );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Folder", Long.class ).getSingleResult() )
+					.isEqualTo( 0L );
+		} );
+	}
+
+	@Test
+	public void testFailureAfterBackgroundExecution(SessionFactoryScope scope) {
+		// the callback fails while the first batch may still be executing,
+		// and the rollback must wait for it
+		assertThatThrownBy( () -> scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new Note( i ) );
+			}
+		} ) ).hasStackTraceContaining( "Failure after the execution of the first batch" );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Note", Long.class ).getSingleResult() )
+					.isEqualTo( 0L );
+		} );
+	}
+
+	@Entity( name = "Folder" )
+	public static class Folder {
+		@Id
+		Integer id;
+		@Column( nullable = false )
+		String name;
+
+		public Folder() {
+		}
+
+		public Folder(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Document" )
+	public static class Document {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Folder folder;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String name, Folder folder) {
+			this.id = id;
+			this.name = name;
+			this.folder = folder;
+		}
+	}
+
+	@Entity( name = "Note" )
+	public static class Note {
+		@Id
+		Integer id;
+
+		public Note() {
+		}
+
+		public Note(Integer id) {
+			this.id = id;
+		}
+
+		@PostPersist
+		void failAfterFirstBatch() {
+			if ( id == 7 ) {
+				throw new IllegalStateException( "Failure after the execution of the first batch" );
+			}
+		}
+	}
+}
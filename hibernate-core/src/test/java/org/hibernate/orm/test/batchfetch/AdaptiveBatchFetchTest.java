@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.stat.EntityStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#ADAPTIVE_BATCH_FETCH}
+ */
+@DomainModel( annotatedClasses = {
+		AdaptiveBatchFetchTest.Employee.class,
+		AdaptiveBatchFetchTest.Department.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = FetchSettings.ADAPTIVE_BATCH_FETCH, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class AdaptiveBatchFetchTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 20; i++ ) {
+				final Department department = new Department();
+				department.id = i;
+				department.name = "Department " + i;
+				session.persist( department );
+				final Employee employee = new Employee();
+				employee.id = i;
+				employee.department = department;
+				session.persist( employee );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchSize(SessionFactoryScope scope) {
+		final EntityStatistics statistics =
+				scope.getSessionFactory().getStatistics().getEntityStatistics( Department.class.getName() );
+
+		// only the first department of each session is used, even though
+		// the batch load initializes the proxies of the other departments
+		for ( int i = 0; i < 12; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Employee> employees =
+						session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+				assertThat( employees.get( 0 ).getDepartment().getName() ).isEqualTo( "Department 1" );
+			} );
+		}
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 2 );
+
+		// all the departments are used
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Employee> employees =
+						session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+				for ( Employee employee : employees ) {
+					assertThat( employee.getDepartment().getName() ).isEqualTo( "Department " + employee.getId() );
+				}
+			} );
+		}
+		assertThat( statistics.getBatchFetchSize() ).isGreaterThan( 2 ).isLessThanOrEqualTo( 16 );
+	}
+
+	@Entity( name = "Employee" )
+	public static class Employee {
+		@Id
+		Long id;
+		@ManyToOne( fetch = FetchType.LAZY )
+		Department department;
+
+		public Long getId() {
+			return id;
+		}
+
+		public Department getDepartment() {
+			return department;
+		}
+	}
+
+	@Entity( name = "Department" )
+	@BatchSize( size = 16 )
+	public static class Department {
+		@Id
+		Long id;
+		String name;
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#AUTO_FETCH}
+ */
+@DomainModel( annotatedClasses = {
+		AutoFetchTest.Book.class,
+		AutoFetchTest.Author.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = FetchSettings.AUTO_FETCH, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+public class AutoFetchTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				final Author author = new Author();
+				author.id = i;
+				author.name = "Author " + i;
+				author.genres.add( "Genre " + i );
+				author.genres.add( "Genre " + ( i + 1 ) );
+				session.persist( author );
+				final Book book = new Book();
+				book.id = i;
+				book.author = author;
+				session.persist( book );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createSelectionQuery( "from Author", Author.class ).getResultList()
+					.forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testManyToOne(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final List<Book> books =
+					session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+			assertThat( books ).hasSize( 10 );
+			for ( Book book : books ) {
+				assertThat( book.author.name ).isEqualTo( "Author " + book.id );
+			}
+		} );
+
+		statementInspector.assertExecutedCount( 2 );
+		assertThat( statistics.getAvoidedFetchCount() ).isEqualTo( 9 );
+	}
+
+	@Test
+	public void testCollection(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( "from Author where id > 5", Author.class )
+					.getResultList();
+			assertThat( authors ).hasSize( 5 )
+					.noneMatch( author -> Hibernate.isInitialized( author.genres ) );
+			for ( Author author : authors ) {
+				assertThat( author.genres ).contains( "Genre " + author.id );
+			}
+		} );
+
+		statementInspector.assertExecutedCount( 2 );
+		assertThat( statistics.getAvoidedFetchCount() ).isEqualTo( 4 );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Long id;
+		@ManyToOne( fetch = FetchType.LAZY )
+		Author author;
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+		@ElementCollection
+		Set<String> genres = new HashSet<>();
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.HQLSelect;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.query.named.NamedObjectRepository;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link MappingSettings#PARALLEL_PERSISTER_CREATION} with entities and
+ * collections loaded by named queries
+ */
+@DomainModel( annotatedClasses = {
+		ParallelPersisterCreationNamedLoaderTest.Red.class,
+		ParallelPersisterCreationNamedLoaderTest.Green.class,
+		ParallelPersisterCreationNamedLoaderTest.Blue.class,
+		ParallelPersisterCreationNamedLoaderTest.Cyan.class,
+		ParallelPersisterCreationNamedLoaderTest.Magenta.class,
+		ParallelPersisterCreationNamedLoaderTest.Yellow.class,
+		ParallelPersisterCreationNamedLoaderTest.Palette.class
+} )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = MappingSettings.PARALLEL_PERSISTER_CREATION, value = "true" ) )
+public class ParallelPersisterCreationNamedLoaderTest {
+
+	@Test
+	public void testNamedLoadersRegistered(SessionFactoryScope scope) {
+		final NamedObjectRepository namedObjectRepository =
+				scope.getSessionFactory().getQueryEngine().getNamedObjectRepository();
+		int loaders = 0;
+		for ( PersistentClass entityBinding : scope.getMetadataImplementor().getEntityBindings() ) {
+			assertThat( entityBinding.getLoaderName() ).isNotNull();
+			assertThat( namedObjectRepository.getSqmQueryMemento( entityBinding.getLoaderName() ) ).isNotNull();
+			loaders++;
+		}
+		for ( Collection collectionBinding : scope.getMetadataImplementor().getCollectionBindings() ) {
+			assertThat( collectionBinding.getLoaderName() ).isNotNull();
+			assertThat( namedObjectRepository.getSqmQueryMemento( collectionBinding.getLoaderName() ) ).isNotNull();
+			loaders++;
+		}
+		assertThat( loaders ).isEqualTo( 8 );
+	}
+
+	@Test
+	public void testNamedLoadersUsed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Palette palette = new Palette();
+			palette.id = 1L;
+			session.persist( palette );
+			final Red red = new Red();
+			red.id = 1L;
+			red.palette = palette;
+			session.persist( red );
+			final Red deletedRed = new Red();
+			deletedRed.id = 2L;
+			deletedRed.deleted = true;
+			deletedRed.palette = palette;
+			session.persist( deletedRed );
+			final Yellow deletedYellow = new Yellow();
+			deletedYellow.id = 1L;
+			deletedYellow.deleted = true;
+			session.persist( deletedYellow );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Red.class, 1L ) ).isNotNull();
+			assertThat( session.find( Red.class, 2L ) ).isNull();
+			assertThat( session.find( Yellow.class, 1L ) ).isNull();
+			assertThat( session.find( Palette.class, 1L ).reds ).hasSize( 1 );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Red" ).executeUpdate();
+			session.createMutationQuery( "delete from Yellow" ).executeUpdate();
+			session.createMutationQuery( "delete from Palette" ).executeUpdate();
+		} );
+	}
+
+	@MappedSuperclass
+	public static abstract class Color {
+		@Id
+		Long id;
+		boolean deleted;
+	}
+
+	@Entity( name = "Red" )
+	@HQLSelect( query = "from Red where id = ?1 and deleted = false" )
+	public static class Red extends Color {
+		@ManyToOne
+		Palette palette;
+	}
+
+	@Entity( name = "Green" )
+	@HQLSelect( query = "from Green where id = ?1 and deleted = false" )
+	public static class Green extends Color {
+	}
+
+	@Entity( name = "Blue" )
+	@HQLSelect( query = "from Blue where id = ?1 and deleted = false" )
+	public static class Blue extends Color {
+	}
+
+	@Entity( name = "Cyan" )
+	@HQLSelect( query = "from Cyan where id = ?1 and deleted = false" )
+	public static class Cyan extends Color {
+	}
+
+	@Entity( name = "Magenta" )
+	@HQLSelect( query = "from Magenta where id = ?1 and deleted = false" )
+	public static class Magenta extends Color {
+	}
+
+	@Entity( name = "Yellow" )
+	@HQLSelect( query = "from Yellow where id = ?1 and deleted = false" )
+	public static class Yellow extends Color {
+	}
+
+	@Entity( name = "Palette" )
+	@HQLSelect( query = "from Palette where id = ?1" )
+	public static class Palette {
+		@Id
+		Long id;
+		@OneToMany( mappedBy = "palette" )
+		@HQLSelect( query = "from Red where palette.id = ?1 and deleted = false" )
+		List<Red> reds = new ArrayList<>();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappingSettings#PARALLEL_PERSISTER_CREATION}
+ */
+@DomainModel( annotatedClasses = {
+		ParallelPersisterCreationTest.Shelf.class,
+		ParallelPersisterCreationTest.Item.class,
+		ParallelPersisterCreationTest.Book.class,
+		ParallelPersisterCreationTest.Magazine.class
+} )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = MappingSettings.PARALLEL_PERSISTER_CREATION, value = "true" ) )
+public class ParallelPersisterCreationTest {
+
+	@Test
+	public void testPersisters(SessionFactoryScope scope) {
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( metamodel.getEntityDescriptor( Shelf.class ) ).isNotNull();
+		assertThat( metamodel.getEntityDescriptor( Book.class ).getSuperMappingType().getEntityName() )
+				.isEqualTo( "Item" );
+		assertThat( metamodel.getEntityDescriptor( Magazine.class ).getSuperMappingType().getEntityName() )
+				.isEqualTo( "Item" );
+		assertThat( metamodel.getCollectionDescriptor( Shelf.class.getName() + ".items" ) ).isNotNull();
+	}
+
+	@Test
+	public void testUsage(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = new Shelf();
+			shelf.id = 1L;
+			final Book book = new Book();
+			book.id = 1L;
+			book.shelf = shelf;
+			final Magazine magazine = new Magazine();
+			magazine.id = 2L;
+			magazine.shelf = shelf;
+			shelf.items.add( book );
+			shelf.items.add( magazine );
+			session.persist( shelf );
+			session.persist( book );
+			session.persist( magazine );
+		} );
+		scope.inTransaction( session -> {
+			final Shelf shelf = session.find( Shelf.class, 1L );
+			assertThat( shelf.items ).hasSize( 2 );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Shelf" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Shelf" )
+	public static class Shelf {
+		@Id
+		Long id;
+		@OneToMany( mappedBy = "shelf" )
+		List<Item> items = new ArrayList<>();
+	}
+
+	@Entity( name = "Item" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Item {
+		@Id
+		Long id;
+		@ManyToOne
+		Shelf shelf;
+	}
+
+	@Entity( name = "Book" )
+	public static class Book extends Item {
+		String isbn;
+	}
+
+	@Entity( name = "Magazine" )
+	public static class Magazine extends Item {
+		int issue;
+	}
+}
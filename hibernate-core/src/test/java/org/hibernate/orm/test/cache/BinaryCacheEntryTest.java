@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BinaryCacheEntry}
+ */
+@DomainModel( annotatedClasses = BinaryCacheEntryTest.Customer.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_BINARY_CACHE_ENTRIES, value = "true" )
+} )
+public class BinaryCacheEntryTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer referrer = new Customer( 1L, "Gavin", 30 );
+			session.persist( referrer );
+
+			final Customer customer = new Customer( 2L, "Steve", 40 );
+			customer.active = true;
+			customer.balance = -12.75d;
+			customer.birthDate = LocalDate.of( 1984, 5, 6 );
+			customer.address = new Address( "Main Street", 12345 );
+			customer.referrer = referrer;
+			session.persist( customer );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "update Customer set referrer = null" ).executeUpdate() );
+		scope.inTransaction( session -> session.createMutationQuery( "delete Customer" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 2L );
+			assertThat( customer.name ).isEqualTo( "Steve" );
+			assertThat( customer.age ).isEqualTo( 40 );
+			assertThat( customer.active ).isTrue();
+			assertThat( customer.balance ).isEqualTo( -12.75d );
+			assertThat( customer.birthDate ).isEqualTo( LocalDate.of( 1984, 5, 6 ) );
+			assertThat( customer.nickname ).isNull();
+			assertThat( customer.address.street ).isEqualTo( "Main Street" );
+			assertThat( customer.address.zip ).isEqualTo( 12345 );
+			assertThat( customer.referrer.id ).isEqualTo( 1L );
+			assertThat( customer.version ).isEqualTo( 0 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> {
+			final Customer referrer = session.find( Customer.class, 1L );
+			assertThat( referrer.name ).isEqualTo( "Gavin" );
+			assertThat( referrer.address ).isNull();
+			assertThat( referrer.referrer ).isNull();
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEntryFormat(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( BinaryCacheEntry.class );
+
+		final Object cached = getCachedValue( sessionFactory, persister, 2L );
+		assertThat( cached ).isInstanceOf( byte[].class );
+		final byte[] bytes = (byte[]) cached;
+
+		// the binary form is much more compact than the serialized form of the standard entry
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( bytes, sessionFactory );
+		assertThat( entry.getSubclass() ).isEqualTo( Customer.class.getName() );
+		assertThat( entry.getVersion() ).isEqualTo( 0 );
+		assertThat( bytes.length ).isLessThan( SerializationHelper.serialize( entry ).length / 2 );
+
+		// an entry written with a different layout is not read
+		final byte[] otherLayout = bytes.clone();
+		otherLayout[1] ^= 0x5A;
+		assertThat( persister.getCacheEntryStructure().destructure( otherLayout, sessionFactory ) ).isNull();
+		final byte[] otherLayoutLowBits = bytes.clone();
+		otherLayoutLowBits[16] ^= 0x5A;
+		assertThat( persister.getCacheEntryStructure().destructure( otherLayoutLowBits, sessionFactory ) ).isNull();
+
+		// an entry which does not match the length of its layout is not read
+		final byte[] truncated = Arrays.copyOf( bytes, bytes.length - 1 );
+		assertThat( persister.getCacheEntryStructure().destructure( truncated, sessionFactory ) ).isNull();
+		final byte[] extended = Arrays.copyOf( bytes, bytes.length + 1 );
+		assertThat( persister.getCacheEntryStructure().destructure( extended, sessionFactory ) ).isNull();
+		final byte[] truncatedHeader = Arrays.copyOf( bytes, 5 );
+		assertThat( persister.getCacheEntryStructure().destructure( truncatedHeader, sessionFactory ) ).isNull();
+	}
+
+	@Test
+	public void testCorruptedEntry(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+		final byte[] bytes = (byte[]) getCachedValue( sessionFactory, persister, 2L );
+
+		// whatever the corrupted byte after the header, a bad tag or a negative
+		// length for example, reading the entry does not fail
+		for ( int i = 17; i < bytes.length; i++ ) {
+			final byte[] corrupted = bytes.clone();
+			corrupted[i] = (byte) 0xFF;
+			final Object entry = persister.getCacheEntryStructure().destructure( corrupted, sessionFactory );
+			assertThat( entry ).satisfiesAnyOf(
+					value -> assertThat( value ).isNull(),
+					value -> assertThat( value ).isInstanceOf( CacheEntry.class )
+			);
+		}
+	}
+
+	private static Object getCachedValue(SessionFactoryImplementor sessionFactory, EntityPersister persister, Object id) {
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object key = cacheAccess.generateCacheKey( id, persister, sessionFactory, null );
+		final DomainDataRegionTemplate region = (DomainDataRegionTemplate) cacheAccess.getRegion();
+		final Object value = region.getCacheStorageAccess().getFromCache( key, null );
+		return ( (AbstractReadWriteAccess.Item) value ).getValue();
+	}
+
+	@Entity( name = "Customer" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Customer {
+		@Id
+		Long id;
+		String name;
+		String nickname;
+		int age;
+		boolean active;
+		double balance;
+		LocalDate birthDate;
+		@Embedded
+		Address address;
+		@ManyToOne( fetch = FetchType.LAZY )
+		Customer referrer;
+		@Version
+		int version;
+
+		Customer() {
+		}
+
+		Customer(Long id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	@Embeddable
+	public static class Address implements Serializable {
+		String street;
+		Integer zip;
+
+		Address() {
+		}
+
+		Address(String street, Integer zip) {
+			this.street = street;
+			this.zip = zip;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.cache.internal.CompactValueSerializer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CompactValueSerializer}
+ */
+public class CompactValueSerializerTest {
+
+	@Test
+	public void testStringRoundTrip() {
+		final String[] values = {
+				"",
+				"plain ascii",
+				"\u0000 nul",
+				"caf\u00e9 \u20ac",
+				"surrogate pair \uD83D\uDCA9",
+				"unpaired high \uD83D surrogate",
+				"unpaired low \uDCA9 surrogate",
+				"reversed \uDCA9\uD83D pair",
+				"\uD800",
+				"\uFFFF"
+		};
+		for ( String value : values ) {
+			assertThat( roundTrip( value ) ).isEqualTo( value );
+		}
+	}
+
+	@Test
+	public void testCorruptedString() {
+		final CompactValueSerializer.Output output = new CompactValueSerializer.Output();
+		output.writeString( "\u20ac" );
+		final byte[] bytes = output.toByteArray();
+		// the length of the encoded string, zig-zag encoded, is reduced
+		// from 3 bytes to 2, truncating the three byte char
+		bytes[0] = 4;
+		assertThatThrownBy( () -> new CompactValueSerializer.Input( bytes ).readString() )
+				.isInstanceOf( IndexOutOfBoundsException.class );
+	}
+
+	private static Object roundTrip(Object value) {
+		final CompactValueSerializer.Output output = new CompactValueSerializer.Output();
+		CompactValueSerializer.writeValue( value, output );
+		final CompactValueSerializer.Input input = new CompactValueSerializer.Input( output.toByteArray() );
+		final Object result = CompactValueSerializer.readValue( input );
+		assertThat( input.isExhausted() ).isTrue();
+		return result;
+	}
+}
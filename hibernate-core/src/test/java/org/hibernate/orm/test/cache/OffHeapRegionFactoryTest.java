@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.internal.OffHeapStore;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OffHeapRegionFactory}
+ */
+@DomainModel( annotatedClasses = OffHeapRegionFactoryTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory" ),
+		@Setting( name = AvailableSettings.OFF_HEAP_CACHE_MAX_SIZE, value = "16MB" )
+} )
+public class OffHeapRegionFactoryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "from Book", Book.class )
+				.getResultList()
+				.forEach( session::remove ) );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityAndCollectionCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = new Book( 1L, "Hibernate in Action", 1.5d );
+			book.tags.add( "java" );
+			book.tags.add( "orm" );
+			session.persist( book );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.rating ).isEqualTo( 1.5d );
+			assertThat( book.version ).isEqualTo( 0 );
+			assertThat( book.tags ).containsExactlyInAnyOrder( "java", "orm" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.tags ).containsExactlyInAnyOrder( "java", "orm" );
+			book.title = "Java Persistence with Hibernate";
+		} );
+		// the entity and the collection
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+
+		final OffHeapStore store = getStore( scope, "books" );
+		// the entity and the collection
+		assertThat( store.getElementCount() ).isEqualTo( 2 );
+		assertThat( store.getOffHeapSize() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", 4d ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", 5d ) );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<String> titles = session.createQuery( "select title from Book order by id", String.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( titles ).containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+			} );
+		}
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStoreIsBounded() {
+		final long maxSize = 1024L * 1024;
+		final OffHeapStore store = new OffHeapStore( maxSize, 4 );
+		final byte[] value = new byte[500];
+
+		for ( int i = 0; i < 100; i++ ) {
+			store.putSerialized( "popular-" + i, value );
+		}
+		for ( int j = 0; j < 5; j++ ) {
+			for ( int i = 0; i < 100; i++ ) {
+				store.get( "popular-" + i );
+			}
+		}
+		// a scan over entries used only once should not flush the popular ones
+		for ( int i = 0; i < 4_000; i++ ) {
+			store.putSerialized( i, value );
+		}
+
+		assertThat( store.getOffHeapSize() ).isLessThanOrEqualTo( maxSize );
+		assertThat( store.getElementCount() ).isLessThan( 4_100 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( (byte[]) store.get( "popular-" + i ) ).isEqualTo( value );
+		}
+
+		store.clear();
+		assertThat( store.getElementCount() ).isEqualTo( 0 );
+		assertThat( store.getOffHeapSize() ).isEqualTo( 0 );
+	}
+
+	private static OffHeapStore getStore(SessionFactoryScope scope, String regionName) {
+		final DomainDataRegionTemplate region =
+				(DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( regionName );
+		return ( (OffHeapStorageAccess) region.getCacheStorageAccess() ).getStore();
+	}
+
+	@Entity( name = "Book" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "books" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		double rating;
+		@Version
+		int version;
+		@ElementCollection
+		@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "books" )
+		Set<String> tags = new HashSet<>();
+
+		Book() {
+		}
+
+		Book(Long id, String title, double rating) {
+			this.id = id;
+			this.title = title;
+			this.rating = rating;
+		}
+	}
+}
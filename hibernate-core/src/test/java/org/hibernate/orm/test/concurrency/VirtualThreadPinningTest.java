@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.concurrency;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs representative workloads on virtual threads, and fails if JFR reports
+ * that a virtual thread was pinned to its carrier thread while blocked under
+ * a monitor held by Hibernate.
+ * <p>
+ * Only runs on JDK 21 or later, where virtual threads are available.
+ */
+@DomainModel( annotatedClasses = VirtualThreadPinningTest.Ticket.class )
+@SessionFactory
+public class VirtualThreadPinningTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final int TASK_COUNT = 200;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Ticket" ).executeUpdate() );
+	}
+
+	@Test
+	public void testOptimizers() throws Exception {
+		for ( StandardOptimizerDescriptor descriptor : StandardOptimizerDescriptor.values() ) {
+			final Optimizer optimizer = OptimizerFactory.buildOptimizer( descriptor, Long.class, 10, 1 );
+			final SlowSequence sequence = new SlowSequence();
+			final List<RecordedEvent> pinnedEvents = runOnVirtualThreads( () -> optimizer.generate( sequence ) );
+			assertThat( pinnedEvents ).as( "Pinned virtual threads with %s", descriptor ).isEmpty();
+		}
+	}
+
+	@Test
+	public void testSessions(SessionFactoryScope scope) throws Exception {
+		final List<RecordedEvent> pinnedEvents = runOnVirtualThreads( () -> scope.inTransaction( session -> {
+			final Ticket ticket = new Ticket();
+			session.persist( ticket );
+			session.flush();
+			session.createSelectionQuery( "from Ticket where id = :id", Ticket.class )
+					.setParameter( "id", ticket.id )
+					.getSingleResult();
+		} ) );
+		assertThat( pinnedEvents ).isEmpty();
+	}
+
+	/**
+	 * Run the task {@value #TASK_COUNT} times on virtual threads, and return the
+	 * pinning events attributed to Hibernate, that is, those whose innermost
+	 * frame outside the JDK is in Hibernate code
+	 */
+	private static List<RecordedEvent> runOnVirtualThreads(Runnable task) throws Exception {
+		final ExecutorService executor;
+		try {
+			executor = (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			assumeTrue( false, "Virtual threads are not available" );
+			return null;
+		}
+
+		final Path dump = Files.createTempFile( "pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( int i = 0; i < TASK_COUNT; i++ ) {
+					futures.add( executor.submit( task ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get();
+				}
+			}
+			finally {
+				executor.shutdown();
+				executor.awaitTermination( 1, TimeUnit.MINUTES );
+				recording.stop();
+			}
+			recording.dump( dump );
+
+			final List<RecordedEvent> pinnedEvents = new ArrayList<>();
+			for ( RecordedEvent event : RecordingFile.readAllEvents( dump ) ) {
+				if ( PINNED_EVENT.equals( event.getEventType().getName() ) && isCausedByHibernate( event ) ) {
+					pinnedEvents.add( event );
+				}
+			}
+			return pinnedEvents;
+		}
+		finally {
+			Files.deleteIfExists( dump );
+		}
+	}
+
+	private static boolean isCausedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() != null ) {
+			for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+				final String className = frame.getMethod().getType().getName();
+				if ( !className.startsWith( "java." )
+						&& !className.startsWith( "jdk." )
+						&& !className.startsWith( "sun." ) ) {
+					return className.startsWith( "org.hibernate." );
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A sequence which blocks the calling thread, like a database round trip
+	 */
+	private static class SlowSequence implements AccessCallback {
+		private final AtomicLong value = new AtomicLong();
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			try {
+				Thread.sleep( 1 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			final IdentifierGeneratorHelper.BasicHolder holder = new IdentifierGeneratorHelper.BasicHolder( Long.class );
+			holder.initialize( value.addAndGet( 10 ) );
+			return holder;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+
+	@Entity( name = "Ticket" )
+	public static class Ticket {
+		@Id
+		@GeneratedValue( generator = "increment" )
+		@GenericGenerator( name = "increment", strategy = "increment" )
+		Long id;
+	}
+}
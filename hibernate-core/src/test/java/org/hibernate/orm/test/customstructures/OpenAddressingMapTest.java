@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenAddressingMapTest {
+
+	@Test
+	public void basicFunctionality() {
+		final Map<String, Object> map = new OpenAddressingMap<>();
+		assertThat( map.put( "a", 1 ) ).isNull();
+		assertThat( map.put( "b", 2 ) ).isNull();
+		assertThat( map.put( "a", 3 ) ).isEqualTo( 1 );
+		assertThat( map.put( "c", null ) ).isNull();
+		assertThat( map ).hasSize( 3 );
+		assertThat( map.get( "a" ) ).isEqualTo( 3 );
+		assertThat( map.containsKey( "c" ) ).isTrue();
+		assertThat( map.get( null ) ).isNull();
+
+		assertThat( map.remove( "b" ) ).isEqualTo( 2 );
+		assertThat( map.remove( "b" ) ).isNull();
+		assertThat( map ).hasSize( 2 ).containsEntry( "a", 3 ).doesNotContainKey( "b" );
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.get( "a" ) ).isNull();
+	}
+
+	@Test
+	public void compareWithHashMap() {
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final Map<Integer, Integer> map = new OpenAddressingMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			// colliding hash codes and a high rate of removals exercise the tombstones
+			final Integer key = random.nextInt( 500 ) * 1024;
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+			}
+			else {
+				assertThat( map.put( key, i ) ).isEqualTo( expected.put( key, i ) );
+			}
+			assertThat( map.size() ).isEqualTo( expected.size() );
+		}
+		assertThat( map ).isEqualTo( expected );
+		assertThat( map.keySet() ).isEqualTo( expected.keySet() );
+	}
+
+	@Test
+	public void iteratorRemoval() {
+		final Map<Integer, String> map = new OpenAddressingMap<>( 4 );
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, String.valueOf( i ) );
+		}
+		final Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+		int count = 0;
+		while ( iterator.hasNext() ) {
+			final Map.Entry<Integer, String> entry = iterator.next();
+			count++;
+			if ( entry.getKey() % 2 == 0 ) {
+				iterator.remove();
+			}
+			else {
+				entry.setValue( "odd" );
+			}
+		}
+		assertThat( count ).isEqualTo( 100 );
+		assertThat( map ).hasSize( 50 );
+		assertThat( map.values() ).containsOnly( "odd" );
+		assertThat( map.get( 51 ) ).isEqualTo( "odd" );
+		assertThat( map.get( 50 ) ).isNull();
+	}
+}
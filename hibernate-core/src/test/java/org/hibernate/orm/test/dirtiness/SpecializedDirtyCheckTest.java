@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the dirty check of entities which are not enhanced
+ */
+@DomainModel( annotatedClasses = SpecializedDirtyCheckTest.Document.class )
+@SessionFactory
+public class SpecializedDirtyCheckTest {
+
+	@Test
+	public void testFindDirty(SessionFactoryScope scope) {
+		final EntityPersister persister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Document.class );
+		final int title = propertyIndex( persister, "title" );
+		final int pages = propertyIndex( persister, "pages" );
+		final int created = propertyIndex( persister, "created" );
+		final int code = propertyIndex( persister, "code" );
+
+		scope.inSession( session -> {
+			final Object[] previous = new Object[persister.getPropertyNames().length];
+			previous[title] = "Hibernate";
+			previous[pages] = 100;
+			previous[created] = new Date( 0 );
+			previous[code] = "A";
+
+			final Object[] current = previous.clone();
+			current[title] = new String( "Hibernate" );
+			current[pages] = Integer.valueOf( 100 );
+			current[created] = new Date( 0 );
+			assertThat( persister.findDirty( current, previous, null, session ) ).isNull();
+
+			current[pages] = 101;
+			current[created] = new Date( 1 );
+			// not updatable
+			current[code] = "B";
+			assertThat( persister.findDirty( current, previous, null, session ) ).containsExactly( pages, created );
+
+			current[pages] = 100;
+			current[created] = previous[created];
+			current[title] = null;
+			assertThat( persister.findDirty( current, previous, null, session ) ).containsExactly( title );
+		} );
+	}
+
+	private static int propertyIndex(EntityPersister persister, String propertyName) {
+		return Arrays.asList( persister.getPropertyNames() ).indexOf( propertyName );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document();
+			document.id = 1L;
+			document.title = "Hibernate";
+			document.pages = 100;
+			document.code = "A";
+			session.persist( document );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			document.title = "Hibernate ORM";
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.title ).isEqualTo( "Hibernate ORM" );
+			assertThat( document.pages ).isEqualTo( 100 );
+			session.remove( document );
+		} );
+	}
+
+	@Entity( name = "Document" )
+	public static class Document {
+		@Id
+		Long id;
+		String title;
+		Integer pages;
+		@Temporal( TemporalType.TIMESTAMP )
+		Date created;
+		@Column( updatable = false )
+		String code;
+	}
+}
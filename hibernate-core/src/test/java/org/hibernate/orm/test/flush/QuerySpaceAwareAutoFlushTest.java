@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#QUERY_SPACE_AWARE_AUTO_FLUSH}
+ */
+@DomainModel( annotatedClasses = {
+		QuerySpaceAwareAutoFlushTest.Shelf.class,
+		QuerySpaceAwareAutoFlushTest.Book.class,
+		QuerySpaceAwareAutoFlushTest.Author.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = QuerySettings.QUERY_SPACE_AWARE_AUTO_FLUSH, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class QuerySpaceAwareAutoFlushTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = new Shelf();
+			shelf.id = 1L;
+			session.persist( shelf );
+			final Book book = new Book();
+			book.id = 1L;
+			book.title = "Hibernate";
+			session.persist( book );
+			final Author author = new Author();
+			author.id = 1L;
+			author.name = "Gavin";
+			session.persist( author );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.find( Shelf.class, 1L ).books.clear();
+			session.flush();
+			session.createMutationQuery( "delete from Shelf" ).executeUpdate();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUnrelatedQuery(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			session.find( Book.class, 1L ).title = "Hibernate ORM";
+			session.createSelectionQuery( "from Author", Author.class ).getResultList();
+			assertThat( statistics.getFlushCount() ).isEqualTo( 0 );
+
+			final List<String> titles = session.createSelectionQuery( "select title from Book", String.class )
+					.getResultList();
+			assertThat( titles ).containsExactly( "Hibernate ORM" );
+			assertThat( statistics.getFlushCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testCollectionTable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = session.find( Shelf.class, 1L );
+			shelf.books.add( session.find( Book.class, 1L ) );
+			final Number count = (Number) session.createNativeQuery( "select count(*) from Shelf_Book" )
+					.addSynchronizedQuerySpace( "Shelf_Book" )
+					.getSingleResult();
+			assertThat( count.intValue() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity( name = "Shelf" )
+	public static class Shelf {
+		@Id
+		Long id;
+		@ManyToMany
+		@JoinTable( name = "Shelf_Book" )
+		List<Book> books = new ArrayList<>();
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.orm.test.flush.SkipCleanEntriesFlushTest.recordFlushedEntities;
+
+/**
+ * Tests that enhanced entities whose dirtiness tracker did not record
+ * any change are skipped by the flush
+ */
+@DomainModel( annotatedClasses = SkipCleanEnhancedEntriesFlushTest.Street.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+@BytecodeEnhanced
+@EnhancementOptions( inlineDirtyChecking = true )
+public class SkipCleanEnhancedEntriesFlushTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.persist( new Street( i, "Street " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Street" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final List<Object> flushedEntities = recordFlushedEntities( scope );
+
+		scope.inTransaction( session -> {
+			final Street modified = session.find( Street.class, 1L );
+			session.find( Street.class, 2L );
+			session.find( Street.class, 3L );
+			assertThat( modified ).isInstanceOf( SelfDirtinessTracker.class );
+
+			modified.setName( "Via Roma" );
+
+			session.flush();
+			// only the entity with tracked changes was visited
+			assertThat( flushedEntities ).containsExactly( modified );
+
+			flushedEntities.clear();
+			session.flush();
+			// the changes were cleared from the tracker by the previous flush
+			assertThat( flushedEntities ).isEmpty();
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Street.class, 1L ).getName() ).isEqualTo( "Via Roma" );
+			assertThat( session.find( Street.class, 2L ).getName() ).isEqualTo( "Street 2" );
+			assertThat( session.find( Street.class, 3L ).getName() ).isEqualTo( "Street 3" );
+		} );
+	}
+
+	@Test
+	public void testRemove(SessionFactoryScope scope) {
+		final List<Object> flushedEntities = recordFlushedEntities( scope );
+
+		scope.inTransaction( session -> {
+			final Street street = session.find( Street.class, 1L );
+			session.find( Street.class, 2L );
+			session.remove( street );
+
+			session.flush();
+			assertThat( flushedEntities ).containsExactly( street );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Street.class, 1L ) ).isNull() );
+	}
+
+	@Entity( name = "Street" )
+	public static class Street {
+		@Id
+		Long id;
+		String name;
+
+		public Street() {
+		}
+
+		public Street(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
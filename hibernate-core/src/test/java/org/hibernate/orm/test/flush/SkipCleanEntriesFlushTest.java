@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.internal.DefaultFlushEntityEventListener;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Tests that entries which are known to be clean are skipped by the flush
+ * without affecting the changes that are flushed
+ */
+@DomainModel( annotatedClasses = {
+		SkipCleanEntriesFlushTest.Country.class,
+		SkipCleanEntriesFlushTest.City.class
+} )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class SkipCleanEntriesFlushTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Country country = new Country();
+			country.id = 1L;
+			country.name = "Italy";
+			session.persist( country );
+			for ( long i = 1; i <= 3; i++ ) {
+				final City city = new City();
+				city.id = i;
+				city.name = "City " + i;
+				session.persist( city );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from City" ).executeUpdate();
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final List<Object> flushedEntities = recordFlushedEntities( scope );
+
+		scope.inTransaction( session -> {
+			final Country country = session.find( Country.class, 1L );
+			final City readOnly = session.find( City.class, 1L );
+			session.setReadOnly( readOnly, true );
+			final City modified = session.find( City.class, 2L );
+			final City unmodified = session.find( City.class, 3L );
+
+			country.name = "Italia";
+			readOnly.name = "Rome";
+			modified.name = "Milan";
+
+			session.flush();
+			// the immutable and the read-only entities were not visited,
+			// but the other entities still need to be dirty checked
+			assertThat( flushedEntities ).containsExactlyInAnyOrder( modified, unmodified );
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Country.class, 1L ).name ).isEqualTo( "Italy" );
+			assertThat( session.find( City.class, 1L ).name ).isEqualTo( "City 1" );
+			assertThat( session.find( City.class, 2L ).name ).isEqualTo( "Milan" );
+			assertThat( session.find( City.class, 3L ).name ).isEqualTo( "City 3" );
+		} );
+	}
+
+	@Test
+	public void testRemoveReadOnly(SessionFactoryScope scope) {
+		final List<Object> flushedEntities = recordFlushedEntities( scope );
+
+		scope.inTransaction( session -> {
+			final City city = session.find( City.class, 1L );
+			session.setReadOnly( city, true );
+			session.remove( city );
+
+			session.flush();
+			assertThat( flushedEntities ).containsExactly( city );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( City.class, 1L ) ).isNull() );
+	}
+
+	/**
+	 * Replaces the flush entity listener by a spy recording the entities it is invoked for
+	 */
+	static List<Object> recordFlushedEntities(SessionFactoryScope scope) {
+		// the inline mock maker keeps the class of the spied listener,
+		// so it is still recognized as the default listener
+		final DefaultFlushEntityEventListener listener = spy( new DefaultFlushEntityEventListener() );
+		assertThat( listener.getClass() ).isSameAs( DefaultFlushEntityEventListener.class );
+
+		final List<Object> flushedEntities = new ArrayList<>();
+		doAnswer( invocation -> {
+			flushedEntities.add( ( (FlushEntityEvent) invocation.getArgument( 0 ) ).getEntity() );
+			return invocation.callRealMethod();
+		} ).when( listener ).onFlushEntity( any() );
+
+		scope.getSessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.setListeners( EventType.FLUSH_ENTITY, listener );
+		return flushedEntities;
+	}
+
+	@Entity( name = "Country" )
+	@Immutable
+	public static class Country {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity( name = "City" )
+	public static class City {
+		@Id
+		Long id;
+		String name;
+	}
+}
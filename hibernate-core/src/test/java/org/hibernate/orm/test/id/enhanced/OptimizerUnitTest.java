@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.Properties;
+
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -304,6 +307,75 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoPrefetchOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 4 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 4 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// two values left, so the next pool is prefetched
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// switch to the prefetched pool without hitting the sequence
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 6, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 7, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( (1+8), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerWithoutPrefetching() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Properties parameters = new Properties();
+		parameters.setProperty( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD, "0" );
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.POOLED_LO_PREFETCH,
+				Long.class,
+				3,
+				1,
+				parameters
+		);
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 1, sequence.getTimesCalled() );
+		}
+
+		// force a "clock over"
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +396,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING}
+ */
+@DomainModel( annotatedClasses = OpenAddressingPersistenceContextTest.Customer.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING, value = "true" ) )
+@SessionFactory
+public class OpenAddressingPersistenceContextTest {
+
+	@Test
+	public void testManyEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 1000; i++ ) {
+				final Customer customer = new Customer();
+				customer.id = i;
+				customer.name = "Customer " + i;
+				customer.tags.add( "tag " + i );
+				session.persist( customer );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Customer> customers = session.createSelectionQuery( "from Customer", Customer.class )
+					.getResultList();
+			assertThat( customers ).hasSize( 1000 );
+			for ( Customer customer : customers ) {
+				assertThat( session.find( Customer.class, customer.id ) ).isSameAs( customer );
+				assertThat( customer.tags ).containsExactly( "tag " + customer.id );
+			}
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1000 );
+			assertThat( persistenceContext.getCollectionsByKey() ).hasSize( 1000 );
+
+			for ( Customer customer : customers ) {
+				if ( customer.id % 2 == 0 ) {
+					session.remove( customer );
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Customer", Customer.class ).getResultList() )
+					.hasSize( 500 )
+					.allMatch( customer -> customer.id % 2 == 1 );
+			assertThat( session.find( Customer.class, 2L ) ).isNull();
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Customer", Customer.class ).getResultList()
+					.forEach( session::remove );
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	public static class Customer {
+		@Id
+		Long id;
+		String name;
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.JpaComplianceSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.function.StandardSQLFunction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.query.internal.NamedQueryManifest;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.tool.queries.NamedQueryChecker;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link NamedQueryManifest}, {@link NamedQueryChecker}, and the startup
+ * check of the named queries listed by a manifest
+ */
+@DomainModel( annotatedClasses = NamedQueryManifestTest.Book.class )
+@SessionFactory
+public class NamedQueryManifestTest {
+
+	@Test
+	public void testManifest(SessionFactoryScope scope, @TempDir Path directory) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Path file = directory.resolve( "manifest.properties" );
+		try ( OutputStream output = Files.newOutputStream( file ) ) {
+			NamedQueryManifest.from( sessionFactory ).write( output );
+		}
+
+		final NamedQueryManifest manifest = NamedQueryManifest.read( file.toUri().toURL() );
+		assertThat( manifest.getNumberOfQueries() ).isEqualTo( 1 );
+		assertThat( manifest.matches( sessionFactory ) ).isTrue();
+
+		final NamedSqmQueryMemento memento =
+				sessionFactory.getQueryEngine().getNamedObjectRepository().getSqmQueryMemento( "Book.byTitle" );
+		assertThat( manifest.contains( memento ) ).isTrue();
+	}
+
+	@Test
+	public void testChangedManifest(SessionFactoryScope scope, @TempDir Path directory) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Path file = directory.resolve( "manifest.properties" );
+		Files.writeString(
+				file,
+				"fingerprint=0123\nquery.Book.byTitle=0123\n"
+		);
+
+		final NamedQueryManifest manifest = NamedQueryManifest.read( file.toUri().toURL() );
+		assertThat( manifest.matches( sessionFactory ) ).isFalse();
+		final NamedSqmQueryMemento memento =
+				sessionFactory.getQueryEngine().getNamedObjectRepository().getSqmQueryMemento( "Book.byTitle" );
+		assertThat( manifest.contains( memento ) ).isFalse();
+	}
+
+	@Test
+	public void testChecker(@TempDir Path directory) {
+		final NamedQueryChecker checker = new NamedQueryChecker( getClass().getClassLoader(), settings() );
+		final int count = checker.check( List.of( Book.class.getName(), String.class.getName() ), directory.toFile() );
+		assertThat( count ).isEqualTo( 1 );
+		assertThat( Files.exists( directory.resolve( NamedQueryManifest.RESOURCE_NAME ) ) ).isTrue();
+	}
+
+	@Test
+	public void testCheckerFailure(@TempDir Path directory) {
+		final NamedQueryChecker checker = new NamedQueryChecker( getClass().getClassLoader(), settings() );
+		assertThatThrownBy( () -> checker.check( List.of( InvalidBook.class.getName() ), directory.toFile() ) )
+				.isInstanceOf( NamedQueryValidationException.class );
+		assertThat( Files.exists( directory.resolve( NamedQueryManifest.RESOURCE_NAME ) ) ).isFalse();
+	}
+
+	@Test
+	public void testPrevalidatedQueriesSkipped(SessionFactoryScope scope, @TempDir Path directory) throws Exception {
+		writeManifest( scope.getSessionFactory(), directory );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( directory, false, Book.class ) ) {
+			// the named query was not interpreted by the startup check, but it is
+			// still interpreted in the background, eventually
+			final QueryInterpretationCache interpretationCache =
+					sessionFactory.getQueryEngine().getInterpretationCache();
+			final long deadline = System.currentTimeMillis() + 10_000;
+			while ( interpretationCache.getNumberOfCachedHqlInterpretations() == 0
+					&& System.currentTimeMillis() < deadline ) {
+				Thread.sleep( 10 );
+			}
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testFingerprintIncludesQuerySettings(SessionFactoryScope scope, @TempDir Path directory)
+			throws Exception {
+		writeManifest( scope.getSessionFactory(), directory );
+
+		final Map<String, Object> settings = settings();
+		settings.put( JpaComplianceSettings.JPA_QUERY_COMPLIANCE, true );
+		try ( SessionFactoryImplementor sessionFactory =
+					buildSessionFactory( directory, false, settings, Book.class ) ) {
+			final NamedQueryManifest manifest = NamedQueryManifest.read(
+					directory.resolve( NamedQueryManifest.RESOURCE_NAME ).toUri().toURL()
+			);
+			assertThat( manifest.matches( sessionFactory ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void testFingerprintWithoutDatabaseAccess(SessionFactoryScope scope, @TempDir Path directory)
+			throws Exception {
+		writeManifest( scope.getSessionFactory(), directory );
+
+		// as at build time, with the version of the database pinned
+		final Dialect dialect = scope.getSessionFactory().getJdbcServices().getDialect();
+		final Map<String, Object> settings = settings();
+		settings.put( JdbcSettings.ALLOW_METADATA_ON_BOOT, false );
+		settings.put( JdbcSettings.DIALECT, dialect.getClass().getName() );
+		settings.put( JdbcSettings.JAKARTA_HBM2DDL_DB_VERSION, dialect.getVersion().toString() );
+		try ( SessionFactoryImplementor sessionFactory =
+					buildSessionFactory( directory, false, settings, Book.class ) ) {
+			final NamedQueryManifest manifest = NamedQueryManifest.read(
+					directory.resolve( NamedQueryManifest.RESOURCE_NAME ).toUri().toURL()
+			);
+			assertThat( manifest.matches( sessionFactory ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void testPrevalidatedQueriesCheckedAfterModelChange(SessionFactoryScope scope, @TempDir Path directory)
+			throws Exception {
+		writeManifest( scope.getSessionFactory(), directory );
+
+		try ( SessionFactoryImplementor sessionFactory =
+					buildSessionFactory( directory, false, Book.class, Author.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 1 );
+		}
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( directory, true, Book.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 1 );
+		}
+	}
+
+	private static void writeManifest(SessionFactoryImplementor sessionFactory, Path directory) throws Exception {
+		final Path file = directory.resolve( NamedQueryManifest.RESOURCE_NAME );
+		Files.createDirectories( file.getParent() );
+		try ( OutputStream output = Files.newOutputStream( file ) ) {
+			NamedQueryManifest.from( sessionFactory ).write( output );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(
+			Path manifestDirectory,
+			boolean extraFunction,
+			Class<?>... annotatedClasses) throws Exception {
+		return buildSessionFactory( manifestDirectory, extraFunction, settings(), annotatedClasses );
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(
+			Path manifestDirectory,
+			boolean extraFunction,
+			Map<String, Object> settings,
+			Class<?>... annotatedClasses) throws Exception {
+		final URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { manifestDirectory.toUri().toURL() },
+				NamedQueryManifestTest.class.getClassLoader()
+		);
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder(
+				new BootstrapServiceRegistryBuilder().applyClassLoader( classLoader ).build()
+		).applySettings( settings ).build();
+		try {
+			final MetadataBuilder metadataBuilder = new MetadataSources( serviceRegistry )
+					.addAnnotatedClasses( annotatedClasses )
+					.getMetadataBuilder();
+			if ( extraFunction ) {
+				metadataBuilder.applySqlFunction( "my_upper", new StandardSQLFunction( "upper" ) );
+			}
+			return (SessionFactoryImplementor) metadataBuilder.build().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	private static Map<String, Object> settings() {
+		final Map<String, Object> settings = new HashMap<>();
+		Environment.getProperties().forEach( (key, value) -> settings.put( (String) key, value ) );
+		return settings;
+	}
+
+	@Entity( name = "Book" )
+	@NamedQuery( name = "Book.byTitle", query = "from Book where title = :title" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity( name = "InvalidBook" )
+	@NamedQuery( name = "InvalidBook.byAuthor", query = "from InvalidBook where author = :author" )
+	public static class InvalidBook {
+		@Id
+		Long id;
+		String title;
+	}
+}
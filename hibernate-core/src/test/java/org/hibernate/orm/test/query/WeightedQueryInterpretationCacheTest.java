@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.WeightedLfuCache;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.internal.QueryInterpretationCacheWeightedImpl;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QueryInterpretationCacheWeightedImpl}
+ */
+@DomainModel( annotatedClasses = WeightedQueryInterpretationCacheTest.Employee.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.QUERY_PLAN_CACHE_TYPE, value = "weighted" ) )
+public class WeightedQueryInterpretationCacheTest {
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		assertThat( sessionFactory.getQueryEngine().getInterpretationCache() )
+				.isInstanceOf( QueryInterpretationCacheWeightedImpl.class );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> session.createQuery( "select e from Employee e where e.name = :name", Employee.class )
+				.setParameter( "name", "Gavin" )
+				.getResultList() );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		assertThat( misses ).isGreaterThan( 0 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.createQuery( "select e from Employee e where e.name = :name", Employee.class )
+				.setParameter( "name", "Steve" )
+				.getResultList() );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testSnapshot(SessionFactoryScope scope, @TempDir Path directory) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final HqlTranslator translator = sessionFactory.getQueryEngine().getHqlTranslator();
+		final Path snapshot = directory.resolve( "plans.bin" );
+
+		final QueryInterpretationCache cache =
+				new QueryInterpretationCacheWeightedImpl( 16, snapshot, sessionFactory::getStatistics );
+		cache.resolveHqlInterpretation( "from Employee", Employee.class, translator );
+		cache.resolveHqlInterpretation( "select count(*) from Employee", null, translator );
+		cache.close();
+		assertThat( Files.exists( snapshot ) ).isTrue();
+
+		final QueryInterpretationCache warmedUp =
+				new QueryInterpretationCacheWeightedImpl( 16, snapshot, sessionFactory::getStatistics );
+		assertThat( warmedUp.getNumberOfCachedHqlInterpretations() ).isEqualTo( 0 );
+		warmedUp.warmUp( sessionFactory );
+		assertThat( warmedUp.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testBoundedByWeight() {
+		final WeightedLfuCache<String, String> cache = new WeightedLfuCache<>( 100, 50, (key, value) -> value.length() );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( "popular-" + i, "v" );
+		}
+		for ( int i = 0; i < 1_000; i++ ) {
+			final String key = "once-" + i;
+			if ( cache.get( key ) == null ) {
+				cache.put( key, "value" );
+			}
+			cache.get( "popular-" + ( i % 10 ) );
+		}
+
+		assertThat( cache.weightedSize() ).isLessThanOrEqualTo( 100 );
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( cache.get( "popular-" + i ) ).isEqualTo( "v" );
+		}
+		assertThat( cache.getMostFrequentKeys( 10 ) ).allMatch( key -> key.startsWith( "popular-" ) );
+
+		cache.clear();
+		assertThat( cache.size() ).isEqualTo( 0 );
+		assertThat( cache.weightedSize() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testHeavyEntries() {
+		// weighed in bytes, the cache holds about 100 entries of 1000 bytes,
+		// and its frequency sketches are sized for these entries
+		final WeightedLfuCache<String, byte[]> cache =
+				new WeightedLfuCache<>( 100_000, 100, (key, value) -> value.length );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( "popular-" + i, new byte[1000] );
+		}
+		for ( int i = 0; i < 50; i++ ) {
+			cache.get( "popular-" + ( i % 10 ) );
+		}
+		for ( int i = 0; i < 10_000; i++ ) {
+			final String key = "once-" + i;
+			if ( cache.get( key ) == null ) {
+				cache.put( key, new byte[1000] );
+			}
+			cache.get( "popular-" + ( i % 10 ) );
+		}
+
+		assertThat( cache.weightedSize() ).isLessThanOrEqualTo( 100_000 );
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( cache.get( "popular-" + i ) ).isNotNull();
+		}
+	}
+
+	@Entity( name = "Employee" )
+	public static class Employee {
+		@Id
+		Long id;
+		String name;
+	}
+}
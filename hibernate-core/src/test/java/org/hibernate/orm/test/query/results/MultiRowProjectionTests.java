@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scalar and dynamic-instantiation projections over multiple rows, making sure
+ * that the row buffers reused by {@code StandardRowReader} for results without
+ * initializers never leak from one row into the next.
+ */
+@DomainModel( annotatedClasses = { SimpleEntity.class, Dto.class, Dto2.class } )
+@SessionFactory
+public class MultiRowProjectionTests {
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new SimpleEntity( 1, "first", new SimpleComposite( "a", "b" ) ) );
+			session.persist( new SimpleEntity( 2, "second", new SimpleComposite( "c", "d" ) ) );
+			session.persist( new SimpleEntity( 3, "third", new SimpleComposite( "e", "f" ) ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete SimpleEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Dto> dtos = session.createQuery( "select new Dto(id, name) from SimpleEntity order by id", Dto.class )
+					.list();
+			assertThat( dtos ).extracting( Dto::getKey ).containsExactly( 1, 2, 3 );
+			assertThat( dtos ).extracting( Dto::getText ).containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Test
+	public void testImplicitInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Dto> dtos = session.createQuery( "select id, name from SimpleEntity order by id", Dto.class )
+					.list();
+			assertThat( dtos ).extracting( Dto::getKey ).containsExactly( 1, 2, 3 );
+			assertThat( dtos ).extracting( Dto::getText ).containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Test
+	public void testMapAndListResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Map> maps = session.createQuery( "select id as id, name as name from SimpleEntity order by id", Map.class )
+					.list();
+			assertThat( maps ).extracting( map -> map.get( "name" ) ).containsExactly( "first", "second", "third" );
+
+			final List<List> lists = session.createQuery( "select id, name from SimpleEntity order by id", List.class )
+					.list();
+			assertThat( lists ).extracting( list -> list.get( 1 ) ).containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Test
+	public void testArrayResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createQuery( "select id, name from SimpleEntity order by id", Object[].class )
+					.list();
+			assertThat( rows ).hasSize( 3 );
+			assertThat( rows.get( 0 ) ).isNotSameAs( rows.get( 1 ) );
+			assertThat( rows ).extracting( row -> row[1] ).containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Test
+	public void testSingleScalar(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<String> names = session.createQuery( "select name from SimpleEntity order by id", String.class )
+					.list();
+			assertThat( names ).containsExactly( "first", "second", "third" );
+		} );
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ColumnarCachedResults}
+ */
+@DomainModel( annotatedClasses = QueryCacheColumnarResultsTest.Item.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" )
+} )
+@SessionFactory( generateStatistics = true )
+public class QueryCacheColumnarResultsTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Item( id, id % 2 == 0 ? "even" : "odd", id % 3 == 0 ? null : (int) id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String query = "from Item i order by i.id";
+		final List<Item> missed = scope.fromTransaction( session -> session
+				.createSelectionQuery( query, Item.class ).setCacheable( true ).getResultList() );
+		final List<Item> hit = scope.fromTransaction( session -> session
+				.createSelectionQuery( query, Item.class ).setCacheable( true ).getResultList() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( hit ).hasSize( 10 );
+		for ( int i = 0; i < hit.size(); i++ ) {
+			assertThat( hit.get( i ).id ).isEqualTo( missed.get( i ).id );
+			assertThat( hit.get( i ).category ).isEqualTo( missed.get( i ).category );
+			assertThat( hit.get( i ).priority ).isEqualTo( missed.get( i ).priority );
+		}
+	}
+
+	@Test
+	public void testTupleResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String query = "select i.id, i.category, i.priority from Item i order by i.id";
+		final List<Object[]> missed = scope.fromTransaction( session -> session
+				.createSelectionQuery( query, Object[].class ).setCacheable( true ).getResultList() );
+		final List<Object[]> hit = scope.fromTransaction( session -> session
+				.createSelectionQuery( query, Object[].class ).setCacheable( true ).getResultList() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( hit ).hasSize( 10 );
+		for ( int i = 0; i < hit.size(); i++ ) {
+			assertThat( hit.get( i ) ).containsExactly( missed.get( i ) );
+		}
+		assertThat( hit.get( 2 )[2] ).isNull();
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String query = "select i.category from Item i order by i.id";
+		final List<String> missed = scope.fromTransaction( session -> session
+				.createSelectionQuery( query, String.class ).setCacheable( true ).getResultList() );
+		final List<String> hit = scope.fromTransaction( session -> session
+				.createSelectionQuery( query, String.class ).setCacheable( true ).getResultList() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( hit ).isEqualTo( missed );
+	}
+
+	@Test
+	public void testListView() {
+		final List<?> rows = Arrays.asList(
+				new Object[] { 1L, "a", null },
+				new Object[] { 2L, "a", 2.0 },
+				new Object[] { null, "b", 3 },
+				new Object[] { 4L, "a", "4" }
+		);
+		final ColumnarCachedResults results = ColumnarCachedResults.from( null, rows, 4 );
+		assertThat( results ).isNotNull();
+		assertThat( results.getRowCount() ).isEqualTo( 4 );
+		assertThat( results ).hasSize( 5 );
+		for ( int i = 0; i < rows.size(); i++ ) {
+			assertThat( (Object[]) results.get( i ) ).containsExactly( (Object[]) rows.get( i ) );
+		}
+		assertThat( results.get( 4 ) ).isEqualTo( 4 );
+
+		final List<?> singleValues = Arrays.asList( "a", "b", null, "a" );
+		final ColumnarCachedResults singleResults = ColumnarCachedResults.from( null, singleValues, 4 );
+		assertThat( singleResults ).isNotNull();
+		assertThat( singleResults.subList( 0, 4 ) ).isEqualTo( singleValues );
+
+		assertThat( ColumnarCachedResults.from( null, Arrays.asList( new Object[] { 1L }, 2L ), 2 ) ).isNull();
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		Long id;
+		String category;
+		Integer priority;
+
+		public Item() {
+		}
+
+		public Item(Long id, String category, Integer priority) {
+			this.id = id;
+			this.category = category;
+			this.priority = priority;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#QUERY_CACHE_KEY_BASED_INVALIDATION}
+ */
+@DomainModel( annotatedClasses = {
+		QueryCacheKeyBasedInvalidationTest.Book.class,
+		QueryCacheKeyBasedInvalidationTest.Publication.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_KEY_BASED_INVALIDATION, value = "true" )
+} )
+@SessionFactory( generateStatistics = true )
+public class QueryCacheKeyBasedInvalidationTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, 9780L, "The Hobbit" ) );
+			session.persist( new Book( 2, 9781L, "The Silmarillion" ) );
+			session.persist( new Publication( 1, "HOB", "The Hobbit" ) );
+			session.persist( new Publication( 2, "SIL", "The Silmarillion" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Publication" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testChangeOfOtherEntity(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( titleById( scope, 1 ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 2 ).title = "Unfinished Tales" );
+		assertThat( titleById( scope, 1 ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1 ).title = "There and Back Again" );
+		assertThat( titleById( scope, 1 ) ).containsExactly( "There and Back Again" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testInsertAndDeleteOfRestrictedKeys(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( titlesByIds( scope, List.of( 1, 3 ) ) ).containsExactly( "The Hobbit" );
+
+		scope.inTransaction( session -> session.persist( new Book( 4, 9784L, "Beren and Lúthien" ) ) );
+		assertThat( titlesByIds( scope, List.of( 1, 3 ) ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.persist( new Book( 3, 9783L, "The Children of Húrin" ) ) );
+		assertThat( titlesByIds( scope, List.of( 1, 3 ) ) ).containsExactly( "The Hobbit", "The Children of Húrin" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 1 ) ) );
+		assertThat( titlesByIds( scope, List.of( 1, 3 ) ) ).containsExactly( "The Children of Húrin" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testNaturalId(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( titleByIsbn( scope, 9780L ) ).containsExactly( "The Hobbit" );
+
+		scope.inTransaction( session -> session.find( Book.class, 2 ).title = "Unfinished Tales" );
+		assertThat( titleByIsbn( scope, 9780L ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1 ).isbn = 9789L );
+		assertThat( titleByIsbn( scope, 9780L ) ).isEmpty();
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.find( Book.class, 2 ).isbn = 9780L );
+		assertThat( titleByIsbn( scope, 9780L ) ).containsExactly( "Unfinished Tales" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testBulkMutation(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( titleById( scope, 1 ) ).containsExactly( "The Hobbit" );
+
+		scope.inTransaction( session -> session.createMutationQuery( "update Book set title = upper(title)" )
+				.executeUpdate() );
+		assertThat( titleById( scope, 1 ) ).containsExactly( "THE HOBBIT" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testStringNaturalIdNotSupported(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( titleByCode( scope, "HOB" ) ).containsExactly( "The Hobbit" );
+
+		// a string key may match distinct values under some collations
+		scope.inTransaction( session -> session.find( Publication.class, 2 ).title = "Unfinished Tales" );
+		assertThat( titleByCode( scope, "HOB" ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQueryWithoutKeyRestriction(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( allTitles( scope ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+
+		scope.inTransaction( session -> session.find( Book.class, 2 ).title = "Unfinished Tales" );
+		assertThat( allTitles( scope ) ).containsExactly( "The Hobbit", "Unfinished Tales" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static List<String> titleById(SessionFactoryScope scope, Integer id) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select b.title from Book b where b.id = :id", String.class )
+				.setParameter( "id", id )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<String> titlesByIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select b.title from Book b where b.id in :ids order by b.id", String.class )
+				.setParameter( "ids", ids )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<String> titleByIsbn(SessionFactoryScope scope, Long isbn) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select b.title from Book b where b.isbn = :isbn", String.class )
+				.setParameter( "isbn", isbn )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<String> titleByCode(SessionFactoryScope scope, String code) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select p.title from Publication p where p.code = :code", String.class )
+				.setParameter( "code", code )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<String> allTitles(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select b.title from Book b order by b.id", String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Integer id;
+		@NaturalId( mutable = true )
+		Long isbn;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Long isbn, String title) {
+			this.id = id;
+			this.isbn = isbn;
+			this.title = title;
+		}
+	}
+
+	@Entity( name = "Publication" )
+	public static class Publication {
+		@Id
+		Integer id;
+		@NaturalId
+		String code;
+		String title;
+
+		public Publication() {
+		}
+
+		public Publication(Integer id, String code, String title) {
+			this.id = id;
+			this.code = code;
+			this.title = title;
+		}
+	}
+}
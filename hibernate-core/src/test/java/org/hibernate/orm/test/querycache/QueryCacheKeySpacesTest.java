@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.orm.test.querycache.QueryCacheKeyBasedInvalidationTest.Book;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#QUERY_CACHE_KEY_SPACES}
+ */
+@DomainModel( annotatedClasses = Book.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_KEY_BASED_INVALIDATION, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_KEY_SPACES, value = "1" )
+} )
+@SessionFactory( generateStatistics = true )
+public class QueryCacheKeySpacesTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, 9780L, "The Hobbit" ) );
+			session.persist( new Book( 2, 9781L, "The Silmarillion" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testKeysSharingSpace(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( titleById( scope, 1 ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+
+		// all the identifiers fall into the same key space
+		scope.inTransaction( session -> session.find( Book.class, 2 ).title = "Unfinished Tales" );
+		assertThat( titleById( scope, 1 ) ).containsExactly( "The Hobbit" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static List<String> titleById(SessionFactoryScope scope, Integer id) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select b.title from Book b where b.id = :id", String.class )
+				.setParameter( "id", id )
+				.setCacheable( true )
+				.getResultList() );
+	}
+}
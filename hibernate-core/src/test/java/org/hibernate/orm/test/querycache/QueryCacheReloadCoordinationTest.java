@@ -0,0 +1,251 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CacheSettings#QUERY_CACHE_LOAD_TIMEOUT} and
+ * {@link CacheSettings#QUERY_CACHE_STALE_WHILE_REVALIDATE}
+ */
+@DomainModel( annotatedClasses = QueryCacheReloadCoordinationTest.Product.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_LOAD_TIMEOUT, value = "30000" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_STALE_WHILE_REVALIDATE, value = "30000" )
+} )
+@SessionFactory( generateStatistics = true )
+public class QueryCacheReloadCoordinationTest {
+
+	private static final String QUERY = "select p.name from Product p order by p.id";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "apple" ) );
+			session.persist( new Product( 2, "pear" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testConcurrentMissesAreCoalesced(SessionFactoryScope scope) throws Exception {
+		final BlockingStatementInspector loaderInspector = new BlockingStatementInspector();
+		final FutureTask<List<String>> loader = new FutureTask<>( () -> query( scope, loaderInspector ) );
+		new Thread( loader ).start();
+		loaderInspector.awaitExecution();
+
+		final CountingStatementInspector waiterInspector = new CountingStatementInspector();
+		final FutureTask<List<String>> waiter = new FutureTask<>( () -> query( scope, waiterInspector ) );
+		final Thread waiterThread = new Thread( waiter );
+		waiterThread.start();
+		awaitTimedWaiting( waiterThread );
+
+		loaderInspector.proceed();
+		assertThat( loader.get( 30, TimeUnit.SECONDS ) ).containsExactly( "apple", "pear" );
+		assertThat( waiter.get( 30, TimeUnit.SECONDS ) ).containsExactly( "apple", "pear" );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( waiterInspector.count.get() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheCoalescedCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStaleResultsWhileRevalidating(SessionFactoryScope scope) throws Exception {
+		assertThat( query( scope, new CountingStatementInspector() ) ).containsExactly( "apple", "pear" );
+		scope.inTransaction( session -> session.find( Product.class, 2 ).name = "plum" );
+
+		final BlockingStatementInspector loaderInspector = new BlockingStatementInspector();
+		final FutureTask<List<String>> loader = new FutureTask<>( () -> query( scope, loaderInspector ) );
+		new Thread( loader ).start();
+		loaderInspector.awaitExecution();
+
+		final CountingStatementInspector staleInspector = new CountingStatementInspector();
+		assertThat( query( scope, staleInspector ) ).containsExactly( "apple", "pear" );
+		assertThat( staleInspector.count.get() ).isEqualTo( 0 );
+
+		loaderInspector.proceed();
+		assertThat( loader.get( 30, TimeUnit.SECONDS ) ).containsExactly( "apple", "plum" );
+
+		final CountingStatementInspector inspector = new CountingStatementInspector();
+		assertThat( query( scope, inspector ) ).containsExactly( "apple", "plum" );
+		assertThat( inspector.count.get() ).isEqualTo( 0 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryCacheStaleHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheCoalescedCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testNoStaleResultsAfterOwnChanges(SessionFactoryScope scope) throws Exception {
+		assertThat( query( scope, new CountingStatementInspector() ) ).containsExactly( "apple", "pear" );
+		scope.inTransaction( session -> session.find( Product.class, 2 ).name = "plum" );
+
+		final BlockingStatementInspector loaderInspector = new BlockingStatementInspector();
+		final FutureTask<List<String>> loader = new FutureTask<>( () -> query( scope, loaderInspector ) );
+		new Thread( loader ).start();
+		loaderInspector.awaitExecution();
+
+		final FutureTask<List<String>> writer = new FutureTask<>( () -> {
+			try ( Session session = scope.getSessionFactory().openSession() ) {
+				session.beginTransaction();
+				try {
+					session.find( Product.class, 1 ).name = "banana";
+					session.flush();
+					return session.createSelectionQuery( QUERY, String.class ).setCacheable( true ).getResultList();
+				}
+				finally {
+					session.getTransaction().rollback();
+				}
+			}
+		} );
+		final Thread writerThread = new Thread( writer );
+		writerThread.start();
+		awaitTimedWaiting( writerThread );
+
+		loaderInspector.proceed();
+		assertThat( loader.get( 30, TimeUnit.SECONDS ) ).containsExactly( "apple", "plum" );
+		assertThat( writer.get( 30, TimeUnit.SECONDS ) ).containsExactly( "banana", "plum" );
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheStaleHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testNoReloadBySessionNotPuttingResults(SessionFactoryScope scope) throws Exception {
+		try ( Session session = scope.getSessionFactory().openSession() ) {
+			session.setCacheMode( CacheMode.GET );
+			assertThat( session.createSelectionQuery( QUERY, String.class ).setCacheable( true ).getResultList() )
+					.containsExactly( "apple", "pear" );
+		}
+
+		// other sessions don't wait for results which are never going to be put
+		final CountingStatementInspector inspector = new CountingStatementInspector();
+		final FutureTask<List<String>> other = new FutureTask<>( () -> query( scope, inspector ) );
+		new Thread( other ).start();
+		assertThat( other.get( 10, TimeUnit.SECONDS ) ).containsExactly( "apple", "pear" );
+		assertThat( inspector.count.get() ).isEqualTo( 1 );
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheCoalescedCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testReloadAbandonedOnFailure(SessionFactoryScope scope) throws Exception {
+		final StatementInspector failingInspector = sql -> {
+			throw new IllegalStateException( "Query execution failed" );
+		};
+		assertThatThrownBy( () -> query( scope, failingInspector ) )
+				.hasStackTraceContaining( "Query execution failed" );
+
+		// other sessions don't wait for the results of the failed execution
+		final CountingStatementInspector inspector = new CountingStatementInspector();
+		final FutureTask<List<String>> other = new FutureTask<>( () -> query( scope, inspector ) );
+		new Thread( other ).start();
+		assertThat( other.get( 10, TimeUnit.SECONDS ) ).containsExactly( "apple", "pear" );
+		assertThat( inspector.count.get() ).isEqualTo( 1 );
+	}
+
+	private static List<String> query(SessionFactoryScope scope, StatementInspector inspector) {
+		try ( Session session = scope.getSessionFactory().withOptions().statementInspector( inspector ).openSession() ) {
+			return session.createSelectionQuery( QUERY, String.class ).setCacheable( true ).getResultList();
+		}
+	}
+
+	private static void awaitTimedWaiting(Thread thread) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 30_000;
+		while ( thread.getState() != Thread.State.TIMED_WAITING ) {
+			assertThat( System.currentTimeMillis() ).isLessThan( deadline );
+			Thread.sleep( 10 );
+		}
+	}
+
+	private static class CountingStatementInspector implements StatementInspector {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public String inspect(String sql) {
+			count.incrementAndGet();
+			return sql;
+		}
+	}
+
+	/**
+	 * Holds the execution of the query until the test lets it proceed
+	 */
+	private static class BlockingStatementInspector implements StatementInspector {
+		private final CountDownLatch executing = new CountDownLatch( 1 );
+		private final CountDownLatch proceed = new CountDownLatch( 1 );
+
+		@Override
+		public String inspect(String sql) {
+			executing.countDown();
+			try {
+				proceed.await( 30, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return sql;
+		}
+
+		void awaitExecution() throws InterruptedException {
+			assertThat( executing.await( 30, TimeUnit.SECONDS ) ).isTrue();
+		}
+
+		void proceed() {
+			proceed.countDown();
+		}
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		Integer id;
+		String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
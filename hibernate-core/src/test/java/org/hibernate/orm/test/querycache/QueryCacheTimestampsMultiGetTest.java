@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the up-to-date check of a cached query reads the last update
+ * timestamps of all its query spaces with a single multi-get
+ */
+@DomainModel( annotatedClasses = {
+		QueryCacheTimestampsMultiGetTest.Author.class,
+		QueryCacheTimestampsMultiGetTest.Book.class
+} )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" )
+		},
+		settingProviders = @SettingProvider(
+				provider = QueryCacheTimestampsMultiGetTest.RegionFactorySettingProvider.class,
+				settingName = AvailableSettings.CACHE_REGION_FACTORY
+		)
+)
+@SessionFactory
+public class QueryCacheTimestampsMultiGetTest {
+
+	private static final String QUERY = "select b.title from Book b join b.author a order by b.id";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Tolkien" );
+			session.persist( author );
+			session.persist( new Book( 1, "The Hobbit", author ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSingleMultiGetPerUpToDateCheck(SessionFactoryScope scope) {
+		final CountingStorageAccess timestamps = timestampsStorageAccess( scope.getSessionFactory() );
+
+		// the results are put into the cache, without any up-to-date check
+		scope.inTransaction( session -> assertThat( query( session ) ).containsExactly( "The Hobbit" ) );
+		timestamps.reset();
+
+		scope.inTransaction( session -> assertThat( query( session ) ).containsExactly( "The Hobbit" ) );
+		// the timestamps of the Book and Author spaces were read at once
+		assertThat( timestamps.multiGets.get() ).isEqualTo( 1 );
+		assertThat( timestamps.multiGetKeys.get() ).isEqualTo( 2 );
+		assertThat( timestamps.gets.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testSingleSpaceNotReadByMultiGet(SessionFactoryScope scope) {
+		final CountingStorageAccess timestamps = timestampsStorageAccess( scope.getSessionFactory() );
+
+		scope.inTransaction( session -> assertThat( titles( session ) ).containsExactly( "The Hobbit" ) );
+		timestamps.reset();
+
+		scope.inTransaction( session -> assertThat( titles( session ) ).containsExactly( "The Hobbit" ) );
+		assertThat( timestamps.multiGets.get() ).isEqualTo( 0 );
+		assertThat( timestamps.gets.get() ).isEqualTo( 1 );
+	}
+
+	private static List<String> query(Session session) {
+		return session.createQuery( QUERY, String.class ).setCacheable( true ).getResultList();
+	}
+
+	private static List<String> titles(Session session) {
+		return session.createQuery( "select b.title from Book b order by b.id", String.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static CountingStorageAccess timestampsStorageAccess(SessionFactoryImplementor sessionFactory) {
+		return ( (CountingRegionFactory) sessionFactory.getCache().getRegionFactory() ).timestamps;
+	}
+
+	public static class RegionFactorySettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return CountingRegionFactory.class.getName();
+		}
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		private final CountingStorageAccess timestamps = new CountingStorageAccess();
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return timestamps;
+		}
+	}
+
+	private static class CountingStorageAccess extends MapStorageAccessImpl {
+		private final AtomicInteger gets = new AtomicInteger();
+		private final AtomicInteger multiGets = new AtomicInteger();
+		private final AtomicInteger multiGetKeys = new AtomicInteger();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			gets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			multiGets.incrementAndGet();
+			multiGetKeys.addAndGet( keys.size() );
+			final Map<Object, Object> values = new HashMap<>();
+			for ( Object key : keys ) {
+				final Object value = super.getFromCache( key, session );
+				if ( value != null ) {
+					values.put( key, value );
+				}
+			}
+			return values;
+		}
+
+		private void reset() {
+			gets.set( 0 );
+			multiGets.set( 0 );
+			multiGetKeys.set( 0 );
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#QUERY_CACHE_TRANSACTION_TIMESTAMPS}
+ */
+@DomainModel( annotatedClasses = {
+		QueryCacheTransactionTimestampsTest.Author.class,
+		QueryCacheTransactionTimestampsTest.Book.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_TRANSACTION_TIMESTAMPS, value = "true" )
+} )
+@SessionFactory( generateStatistics = true )
+public class QueryCacheTransactionTimestampsTest {
+
+	private static final String QUERY = "select b.title from Book b join b.author a order by b.id";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Tolkien" );
+			session.persist( author );
+			session.persist( new Book( 1, "The Hobbit", author ) );
+			session.persist( new Book( 2, "The Silmarillion", author ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testTimestampsAreReadOncePerTransaction(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+			// the timestamps of both spaces were read by the first up-to-date check only
+			assertThat( timestampsLookups( statistics ) ).isEqualTo( 2 );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+			assertThat( timestampsLookups( statistics ) ).isEqualTo( 4 );
+		} );
+	}
+
+	@Test
+	public void testOwnChangesAreVisible(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "The Silmarillion" );
+
+			session.find( Book.class, 2 ).title = "Unfinished Tales";
+			session.flush();
+
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "Unfinished Tales" );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+			// only the timestamp of the space written to was read again
+			assertThat( timestampsLookups( statistics ) ).isEqualTo( 3 );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( query( session ) ).containsExactly( "The Hobbit", "Unfinished Tales" );
+		} );
+	}
+
+	private static List<String> query(Session session) {
+		return session.createSelectionQuery( QUERY, String.class ).setCacheable( true ).getResultList();
+	}
+
+	private static long timestampsLookups(Statistics statistics) {
+		return statistics.getUpdateTimestampsCacheHitCount() + statistics.getUpdateTimestampsCacheMissCount();
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
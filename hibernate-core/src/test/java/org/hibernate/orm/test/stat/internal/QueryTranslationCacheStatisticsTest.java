@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the SQL translations of a cached query plan are reused when the
+ * executions of the query alternate between different limits, or between
+ * parameter lists of different sizes
+ */
+@DomainModel( annotatedClasses = QueryTranslationCacheStatisticsTest.Employee.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class QueryTranslationCacheStatisticsTest {
+	private static final String QUERY = "select e from Employee e order by e.id";
+
+	@Test
+	public void testAlternatingLimits(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.createSelectionQuery( QUERY, Employee.class ).getResultList();
+				session.createSelectionQuery( QUERY, Employee.class ).setMaxResults( 10 ).getResultList();
+			}
+		} );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getTranslationCacheMissCount() ).isEqualTo( 2 );
+		assertThat( queryStatistics.getTranslationCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testAllLimitShapes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.createSelectionQuery( QUERY, Employee.class ).getResultList();
+				session.createSelectionQuery( QUERY, Employee.class ).setMaxResults( 10 ).getResultList();
+				session.createSelectionQuery( QUERY, Employee.class ).setFirstResult( 5 ).getResultList();
+				session.createSelectionQuery( QUERY, Employee.class )
+						.setFirstResult( 5 )
+						.setMaxResults( 10 )
+						.getResultList();
+			}
+		} );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getTranslationCacheMissCount() ).isEqualTo( 4 );
+		assertThat( queryStatistics.getTranslationCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testMultiValuedParameterVariants(SessionFactoryScope scope) {
+		final String query = "select e from Employee e where e.id in :ids order by e.id";
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				session.persist( new Employee( id, "employee-" + id ) );
+			}
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				assertThat( session.createSelectionQuery( query, Employee.class )
+									.setParameterList( "ids", List.of( 1L, 2L ) )
+									.getResultList() )
+						.extracting( employee -> employee.id )
+						.containsExactly( 1L, 2L );
+				assertThat( session.createSelectionQuery( query, Employee.class )
+									.setParameterList( "ids", List.of( 1L, 2L, 3L ) )
+									.getResultList() )
+						.extracting( employee -> employee.id )
+						.containsExactly( 1L, 2L, 3L );
+				assertThat( session.createSelectionQuery( query, Employee.class )
+									.setParameterList( "ids", List.of( 3L, 1L ) )
+									.getResultList() )
+						.extracting( employee -> employee.id )
+						.containsExactly( 1L, 3L );
+			}
+		} );
+
+		// one translation per number of values of the parameter list
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( query );
+		assertThat( queryStatistics.getTranslationCacheMissCount() ).isEqualTo( 2 );
+		assertThat( queryStatistics.getTranslationCacheHitCount() ).isEqualTo( 4 );
+
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Employee" ).executeUpdate() );
+	}
+
+	@Entity( name = "Employee" )
+	public static class Employee {
+		@Id
+		Long id;
+		String name;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.HibernateException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the list-based operations of {@link org.hibernate.StatelessSession}
+ */
+@DomainModel( annotatedClasses = StatelessSessionMultipleTest.Item.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class StatelessSessionMultipleTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertUpdateDeleteMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Item> items = List.of( new Item( 1L, "one" ), new Item( 2L, "two" ), new Item( 3L, "three" ) );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( items ) );
+		// a single statement, executed as a JDBC batch
+		statementInspector.assertExecutedCount( 1 );
+		statementInspector.assertIsInsert( 0 );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult() )
+					.isEqualTo( 3L );
+		} );
+
+		items.forEach( item -> item.message += "!" );
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( items ) );
+		statementInspector.assertExecutedCount( 1 );
+		statementInspector.assertIsUpdate( 0 );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Item.class, 2L ).message ).isEqualTo( "two!" );
+		} );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( items.subList( 0, 2 ) ) );
+		statementInspector.assertExecutedCount( 1 );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select id from Item", Long.class ).getResultList() )
+					.containsExactly( 3L );
+		} );
+	}
+
+	@Test
+	public void testFailedInsertMultipleAbortsBatch(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			// the id of the second item is missing
+			assertThatThrownBy( () -> session.insertMultiple( List.of( new Item( 1L, "one" ), new Item( null, "two" ) ) ) )
+					.isInstanceOf( HibernateException.class );
+			session.insert( new Item( 5L, "five" ) );
+		} );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select id from Item", Long.class ).getResultList() )
+					.containsExactly( 5L );
+		} );
+	}
+
+	@Test
+	public void testGetMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insertMultiple(
+				List.of( new Item( 1L, "one" ), new Item( 2L, "two" ), new Item( 3L, "three" ) )
+		) );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> {
+			final List<Item> items = session.getMultiple( Item.class, List.of( 3L, 5L, 1L ) );
+			statementInspector.assertExecutedCount( 1 );
+			assertThat( items ).hasSize( 3 );
+			assertThat( items.get( 0 ).message ).isEqualTo( "three" );
+			assertThat( items.get( 1 ) ).isNull();
+			assertThat( items.get( 2 ).message ).isEqualTo( "one" );
+		} );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		Long id;
+		String message;
+
+		Item() {
+		}
+
+		Item(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+}
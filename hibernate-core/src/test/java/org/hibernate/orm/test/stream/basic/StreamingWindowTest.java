@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link HibernateHints#HINT_STREAMING_WINDOW}.
+ */
+@DomainModel(
+		annotatedClasses = StreamingWindowTest.MyEntity.class
+)
+@SessionFactory
+public class StreamingWindowTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new MyEntity( i, "entity " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete MyEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEmittedEntitiesAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<MyEntity> emitted = new ArrayList<>();
+			try ( Stream<MyEntity> stream = session.createSelectionQuery( "from MyEntity order by id", MyEntity.class )
+					.setHint( HibernateHints.HINT_STREAMING_WINDOW, 5 )
+					.getResultStream() ) {
+				stream.forEach( entity -> {
+					assertThat( session.contains( entity ) ).isTrue();
+					emitted.add( entity );
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 5 );
+				} );
+			}
+
+			assertThat( emitted ).hasSize( 20 );
+			assertThat( emitted ).extracting( MyEntity::getId ).doesNotHaveDuplicates();
+			// the final call to hasNext() which exhausts the stream
+			// also makes room for a row, so only 4 results are left
+			for ( int i = 0; i < 16; i++ ) {
+				assertThat( session.contains( emitted.get( i ) ) ).isFalse();
+			}
+			for ( int i = 16; i < 20; i++ ) {
+				assertThat( session.contains( emitted.get( i ) ) ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityInTupleIsDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> emitted = new ArrayList<>();
+			try ( Stream<Object[]> stream = session.createSelectionQuery( "select e, e.name from MyEntity e order by e.id", Object[].class )
+					.setHint( HibernateHints.HINT_STREAMING_WINDOW, 1 )
+					.getResultStream() ) {
+				stream.forEach( emitted::add );
+			}
+			assertThat( emitted ).hasSize( 20 );
+			assertThat( session.contains( emitted.get( 0 )[0] ) ).isFalse();
+			assertThat( session.contains( emitted.get( 19 )[0] ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testEntityInJpaTupleIsDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Tuple> emitted = new ArrayList<>();
+			try ( Stream<Tuple> stream = session.createSelectionQuery( "select e as entity, e.name from MyEntity e order by e.id", Tuple.class )
+					.setHint( HibernateHints.HINT_STREAMING_WINDOW, 1 )
+					.getResultStream() ) {
+				stream.forEach( emitted::add );
+			}
+			assertThat( emitted ).hasSize( 20 );
+			assertThat( session.contains( emitted.get( 0 ).get( "entity" ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testEntityInListOrMapIsDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<List> emitted = new ArrayList<>();
+			try ( Stream<List> stream = session.createSelectionQuery( "select new list(e, e.name) from MyEntity e order by e.id", List.class )
+					.setHint( HibernateHints.HINT_STREAMING_WINDOW, 1 )
+					.getResultStream() ) {
+				stream.forEach( emitted::add );
+			}
+			assertThat( emitted ).hasSize( 20 );
+			assertThat( session.contains( emitted.get( 0 ).get( 0 ) ) ).isFalse();
+		} );
+		scope.inTransaction( session -> {
+			final List<Map> emitted = new ArrayList<>();
+			try ( Stream<Map> stream = session.createSelectionQuery( "select new map(e as entity, e.name as name) from MyEntity e order by e.id", Map.class )
+					.setHint( HibernateHints.HINT_STREAMING_WINDOW, 1 )
+					.getResultStream() ) {
+				stream.forEach( emitted::add );
+			}
+			assertThat( emitted ).hasSize( 20 );
+			assertThat( session.contains( emitted.get( 0 ).get( "entity" ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testStreamingFetchSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SelectionQuery<MyEntity> query = session.createSelectionQuery( "from MyEntity", MyEntity.class );
+			query.setHint( HibernateHints.HINT_STREAMING_WINDOW, 10 );
+			try ( Stream<MyEntity> stream = query.getResultStream() ) {
+				assertThat( stream.count() ).isEqualTo( 20 );
+			}
+			// the streaming fetch size only applies to the execution of the stream
+			assertThat( query.getFetchSize() ).isNull();
+			assertThat( query.getResultList() ).hasSize( 20 );
+			try ( Stream<MyEntity> stream = query.getResultStream() ) {
+				assertThat( stream.count() ).isEqualTo( 20 );
+			}
+			assertThat( query.getFetchSize() ).isNull();
+
+			final SelectionQuery<MyEntity> explicit = session.createSelectionQuery( "from MyEntity", MyEntity.class );
+			explicit.setHint( HibernateHints.HINT_STREAMING_WINDOW, 10 );
+			explicit.setFetchSize( 7 );
+			try ( Stream<MyEntity> stream = explicit.getResultStream() ) {
+				assertThat( stream.count() ).isEqualTo( 20 );
+			}
+			assertThat( explicit.getFetchSize() ).isEqualTo( 7 );
+		} );
+	}
+
+	@Test
+	public void testInvalidWindowSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createSelectionQuery( "from MyEntity", MyEntity.class )
+						.setHint( HibernateHints.HINT_STREAMING_WINDOW, 0 )
+		).isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity(name = "MyEntity")
+	@Table(name = "MyEntity")
+	public static class MyEntity {
+		@Id
+		private Integer id;
+		private String name;
+
+		public MyEntity() {
+		}
+
+		public MyEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
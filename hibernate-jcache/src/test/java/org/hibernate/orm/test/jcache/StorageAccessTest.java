@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.jcache;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
@@ -65,6 +68,34 @@ public class StorageAccessTest {
 		}
 	}
 
+	@Test
+	public void testGetAllFromCache() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+
+			final JCacheAccessImpl access = (JCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key1", "value1", s );
+						access.putIntoCache( "key2", "value2", s );
+
+						// the keys which are not cached are left out
+						final Map<Object, Object> values =
+								access.getAllFromCache( List.of( "key1", "key2", "missing" ), s );
+						assertThat( values.size(), equalTo( 2 ) );
+						assertThat( values.get( "key1" ), equalTo( "value1" ) );
+						assertThat( values.get( "key2" ), equalTo( "value2" ) );
+
+						assertThat( access.getAllFromCache( Set.of( "key1" ), s ), equalTo( Map.of( "key1", "value1" ) ) );
+						assertThat( access.getAllFromCache( List.of( "missing" ), s ).isEmpty(), equalTo( true ) );
+					}
+			);
+		}
+	}
+
 	@Test
 	@SuppressWarnings({"EmptyTryBlock", "unused"})
 	public void testCachesReleasedOnSessionFactoryClose() {
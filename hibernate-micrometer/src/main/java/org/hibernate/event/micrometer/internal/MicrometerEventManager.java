@@ -0,0 +1,362 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.micrometer.internal;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.internal.CompositeEventManager;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * An {@link EventManager} recording the duration of events with the Micrometer
+ * {@link Timer}s of the {@link MicrometerTimers} {@linkplain #bind bound} to the
+ * session factory of the session, one for each meter registry.  It records nothing
+ * for other session factories.
+ * <p>
+ * Since event managers are loaded as Java services, this instance is shared by
+ * all session factories built from the same bootstrap service registry.
+ *
+ * @see org.hibernate.stat.HibernateLatencyMetrics
+ */
+public class MicrometerEventManager implements EventManager {
+
+	private final Map<SessionFactoryImplementor, Collection<MicrometerTimers>> timersBySessionFactory =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Record the events of the given session factory with the given timers from now on.
+	 * The collection is not copied, so that timers may be added to it later on, and
+	 * must therefore be safe for concurrent iteration.
+	 *
+	 * @throws IllegalStateException if timers are already bound to the session factory
+	 */
+	public void bind(SessionFactoryImplementor sessionFactory, Collection<MicrometerTimers> timers) {
+		if ( timersBySessionFactory.putIfAbsent( sessionFactory, timers ) != null ) {
+			throw new IllegalStateException(
+					"Latency metrics are already bound to session factory [" + sessionFactory.getUuid() + "]"
+			);
+		}
+	}
+
+	/**
+	 * Stop recording the events of the given session factory
+	 */
+	public void unbind(SessionFactoryImplementor sessionFactory) {
+		timersBySessionFactory.remove( sessionFactory );
+	}
+
+	/**
+	 * The {@code MicrometerEventManager} among the given event manager, if any
+	 */
+	public static MicrometerEventManager find(EventManager eventManager) {
+		if ( eventManager instanceof MicrometerEventManager ) {
+			return (MicrometerEventManager) eventManager;
+		}
+		else if ( eventManager instanceof CompositeEventManager ) {
+			for ( EventManager manager : ( (CompositeEventManager) eventManager ).getEventManagers() ) {
+				if ( manager instanceof MicrometerEventManager ) {
+					return (MicrometerEventManager) manager;
+				}
+			}
+		}
+		return null;
+	}
+
+	private HibernateMonitoringEvent begin() {
+		// the session factory is only known on completion
+		return timersBySessionFactory.isEmpty() ? null : new MicrometerEvent();
+	}
+
+	private void complete(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Function<MicrometerTimers, Timer> timer) {
+		if ( event != null && session != null ) {
+			final Collection<MicrometerTimers> timers = timersBySessionFactory.get( session.getFactory() );
+			if ( timers != null ) {
+				final long duration = ( (MicrometerEvent) event ).duration();
+				for ( MicrometerTimers registryTimers : timers ) {
+					timer.apply( registryTimers ).record( duration, TimeUnit.NANOSECONDS );
+				}
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent() {
+		return begin();
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+		complete( jdbcConnectionAcquisitionEvent, session, MicrometerTimers::connectionAcquisition );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionReleaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcConnectionReleaseEvent(
+			HibernateMonitoringEvent jdbcConnectionReleaseEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreation,
+			String preparedStatementSql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent,
+			String preparedStatementSql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return begin();
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(HibernateMonitoringEvent jdbcBatchExecutionEvent, String statementSql) {
+		// the session factory is unknown
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			SharedSessionContractImplementor session,
+			String statementSql) {
+		complete( jdbcBatchExecutionEvent, session, MicrometerTimers::jdbcBatchExecution );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return begin();
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		recordCachePut( cachePutEvent, session, region, cacheContentChanged );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		recordCachePut( cachePutEvent, session, cachedDomainDataAccess.getRegion(), cacheContentChanged );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			boolean isNatualId,
+			CacheActionDescription description) {
+		recordCachePut( cachePutEvent, session, cachedDomainDataAccess.getRegion(), cacheContentChanged );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		recordCachePut( cachePutEvent, session, cachedDomainDataAccess.getRegion(), cacheContentChanged );
+	}
+
+	private void recordCachePut(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged) {
+		complete( cachePutEvent, session, timers -> timers.cachePut( region.getName(), cacheContentChanged ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return begin();
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		recordCacheGet( cacheGetEvent, session, region, hit );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			boolean hit) {
+		recordCacheGet( cacheGetEvent, session, region, hit );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			CollectionPersister persister,
+			boolean hit) {
+		recordCacheGet( cacheGetEvent, session, region, hit );
+	}
+
+	private void recordCacheGet(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		complete( cacheGetEvent, session, timers -> timers.cacheGet( region.getName(), hit ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return begin();
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event) {
+		completeFlushEvent( flushEvent, event, false );
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush) {
+		complete( flushEvent, event.getSession(), timers -> timers.flush( autoFlush ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginPartialFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completePartialFlushEvent(HibernateMonitoringEvent flushEvent, AutoFlushEvent event) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginDirtyCalculationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginPrePartialFlush() {
+		return null;
+	}
+
+	@Override
+	public void completePrePartialFlush(
+			HibernateMonitoringEvent prePartialFlush,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryExecutionEvent() {
+		return begin();
+	}
+
+	@Override
+	public void completeQueryExecutionEvent(
+			HibernateMonitoringEvent queryExecutionEvent,
+			SharedSessionContractImplementor session,
+			String queryIdentifier,
+			int resultCount) {
+		complete( queryExecutionEvent, session, timers -> timers.queryExecution( queryIdentifier ) );
+	}
+
+	private static final class MicrometerEvent implements HibernateMonitoringEvent {
+		private final long startTime = System.nanoTime();
+
+		long duration() {
+			return System.nanoTime() - startTime;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.micrometer.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link Timer}s fed by the {@link MicrometerEventManager}.
+ * <p>
+ * The number of distinct queries tagging the query timers is bounded, the
+ * executions of any further query being recorded with the query tag
+ * {@value #OTHER_QUERIES}.
+ */
+@NonNullApi
+@NonNullFields
+public final class MicrometerTimers {
+	public static final String OTHER_QUERIES = "other";
+
+	private final MeterRegistry registry;
+	private final Iterable<Tag> tags;
+	private final double[] percentiles;
+	private final boolean percentileHistogram;
+	private final int maxQueryTags;
+
+	private final Timer connectionAcquisition;
+	private final Timer jdbcBatchExecution;
+	private final Timer flush;
+	private final Timer autoFlush;
+	private final Timer otherQueriesExecution;
+	private final ConcurrentMap<String, Timer> queryExecutions = new ConcurrentHashMap<>();
+	private final AtomicInteger queryTags = new AtomicInteger();
+	private final ConcurrentMap<String, Timer> cacheGetHits = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Timer> cacheGetMisses = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Timer> cachePuts = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Timer> cacheSkippedPuts = new ConcurrentHashMap<>();
+
+	public MicrometerTimers(
+			MeterRegistry registry,
+			Iterable<Tag> tags,
+			double[] percentiles,
+			boolean percentileHistogram,
+			int maxQueryTags) {
+		this.registry = registry;
+		this.tags = tags;
+		this.percentiles = percentiles;
+		this.percentileHistogram = percentileHistogram;
+		this.maxQueryTags = maxQueryTags;
+
+		connectionAcquisition = timer(
+				"hibernate.connections.acquisition.latency",
+				"Time taken to acquire JDBC connections"
+		);
+		jdbcBatchExecution = timer(
+				"hibernate.jdbc.batch.latency",
+				"Time taken to execute JDBC batches"
+		);
+		flush = timer(
+				"hibernate.flush.latency",
+				"Time taken by flushes",
+				"auto", "false"
+		);
+		autoFlush = timer(
+				"hibernate.flush.latency",
+				"Time taken by flushes",
+				"auto", "true"
+		);
+		otherQueriesExecution = queryExecutionTimer( OTHER_QUERIES );
+	}
+
+	/**
+	 * The registry of the timers
+	 */
+	public MeterRegistry getRegistry() {
+		return registry;
+	}
+
+	Timer connectionAcquisition() {
+		return connectionAcquisition;
+	}
+
+	Timer jdbcBatchExecution() {
+		return jdbcBatchExecution;
+	}
+
+	Timer flush(boolean auto) {
+		return auto ? autoFlush : flush;
+	}
+
+	Timer queryExecution(String query) {
+		final Timer timer = queryExecutions.computeIfAbsent(
+				query,
+				// the bound is enforced while the new query is added, so that
+				// concurrent new queries can't exceed it
+				q -> queryTags.get() < maxQueryTags && queryTags.incrementAndGet() <= maxQueryTags
+						? queryExecutionTimer( q )
+						: null
+		);
+		return timer == null ? otherQueriesExecution : timer;
+	}
+
+	Timer cacheGet(String region, boolean hit) {
+		return hit
+				? cacheGetHits.computeIfAbsent( region, r -> cacheTimer( r, "get", "hit" ) )
+				: cacheGetMisses.computeIfAbsent( region, r -> cacheTimer( r, "get", "miss" ) );
+	}
+
+	Timer cachePut(String region, boolean cacheContentChanged) {
+		return cacheContentChanged
+				? cachePuts.computeIfAbsent( region, r -> cacheTimer( r, "put", "stored" ) )
+				: cacheSkippedPuts.computeIfAbsent( region, r -> cacheTimer( r, "put", "skipped" ) );
+	}
+
+	private Timer queryExecutionTimer(String query) {
+		return timer(
+				"hibernate.query.latency",
+				"Time taken to execute select queries against the database",
+				"query", query
+		);
+	}
+
+	private Timer cacheTimer(String region, String operation, String result) {
+		return timer(
+				"hibernate.second.level.cache.latency",
+				"Time taken by second-level cache accesses",
+				"region", region,
+				"operation", operation,
+				"result", result
+		);
+	}
+
+	private Timer timer(String name, String description, String... extraTags) {
+		return Timer.builder( name )
+				.tags( tags )
+				.tags( extraTags )
+				.description( description )
+				.publishPercentiles( percentiles )
+				.publishPercentileHistogram( percentileHistogram )
+				.register( registry );
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.micrometer.internal.MicrometerEventManager;
+import org.hibernate.event.micrometer.internal.MicrometerTimers;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link MeterBinder} implementation that provides {@link Timer}s of Hibernate
+ * operations, with configurable percentiles and percentile histograms:
+ * <ul>
+ * <li>{@code hibernate.query.latency}, tagged by query, for the execution of
+ *     select queries against the database,
+ * <li>{@code hibernate.flush.latency}, tagged by whether the flush is automatic,
+ * <li>{@code hibernate.connections.acquisition.latency},
+ * <li>{@code hibernate.jdbc.batch.latency}, and
+ * <li>{@code hibernate.second.level.cache.latency}, tagged by region, operation,
+ *     and result.
+ * </ul>
+ * Unlike {@link HibernateMetrics} and {@link HibernateQueryMetrics}, these timers are
+ * fed with every operation as it completes, through the
+ * {@link org.hibernate.event.spi.EventManager} SPI, and don't require statistics to
+ * be enabled.
+ * <p>
+ * The number of distinct query tags is bounded by {@link #maxQueryTags(int)}, the
+ * executions of further queries being recorded with the query tag
+ * {@value MicrometerTimers#OTHER_QUERIES}.
+ * <p>
+ * The same latency metrics may be bound to several meter registries, each of them
+ * getting its own timers.  But only one instance of latency metrics may be bound to
+ * each session factory at a time, until it is {@linkplain #close() closed}, or the
+ * session factory is closed.
+ * <p>
+ * The timers are fed by an event manager which is registered as a Java service by
+ * this module.  If it isn't found by the session factory, because of the class
+ * loaders in use for example, binding the latency metrics has no effect.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateLatencyMetrics implements MeterBinder, AutoCloseable {
+
+	private static final Logger LOG = Logger.getLogger( HibernateLatencyMetrics.class );
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	public static final int DEFAULT_MAX_QUERY_TAGS = 100;
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	private double[] percentiles = new double[0];
+	private boolean percentileHistogram;
+	private int maxQueryTags = DEFAULT_MAX_QUERY_TAGS;
+
+	private final List<MicrometerTimers> boundTimers = new CopyOnWriteArrayList<>();
+	private MicrometerEventManager boundEventManager;
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateLatencyMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateLatencyMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateLatencyMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Publish the given percentiles of all timers, computed client-side.
+	 *
+	 * @see Timer.Builder#publishPercentiles(double...)
+	 */
+	public HibernateLatencyMetrics publishPercentiles(double... percentiles) {
+		this.percentiles = percentiles;
+		return this;
+	}
+
+	/**
+	 * Publish percentile histograms of all timers, for aggregable percentiles
+	 * computed by the monitoring system.
+	 *
+	 * @see Timer.Builder#publishPercentileHistogram(Boolean)
+	 */
+	public HibernateLatencyMetrics publishPercentileHistogram(boolean percentileHistogram) {
+		this.percentileHistogram = percentileHistogram;
+		return this;
+	}
+
+	/**
+	 * Bound the number of distinct queries tagging the query timers, by default
+	 * {@value #DEFAULT_MAX_QUERY_TAGS}.
+	 */
+	public HibernateLatencyMetrics maxQueryTags(int maxQueryTags) {
+		this.maxQueryTags = maxQueryTags;
+		return this;
+	}
+
+	/**
+	 * Record the operations of the session factory with timers registered with the
+	 * given meter registry, in addition to the registries it is already bound to.
+	 *
+	 * @throws IllegalStateException if other latency metrics are already bound to the session factory
+	 */
+	@Override
+	public synchronized void bindTo(MeterRegistry registry) {
+		for ( MicrometerTimers timers : boundTimers ) {
+			if ( timers.getRegistry() == registry ) {
+				return;
+			}
+		}
+
+		final SessionFactoryImplementor factory = sessionFactory.unwrap( SessionFactoryImplementor.class );
+		if ( boundEventManager == null ) {
+			final MicrometerEventManager eventManager =
+					MicrometerEventManager.find( factory.getFastSessionServices().getEventManager() );
+			if ( eventManager == null ) {
+				LOG.warnf(
+						"No MicrometerEventManager is registered with session factory [%s], latency metrics won't be recorded",
+						factory.getUuid()
+				);
+				return;
+			}
+			eventManager.bind( factory, boundTimers );
+			boundEventManager = eventManager;
+			factory.addObserver( new SessionFactoryObserver() {
+				@Override
+				public void sessionFactoryClosed(SessionFactory closed) {
+					close();
+				}
+			} );
+		}
+		boundTimers.add( new MicrometerTimers( registry, tags, percentiles, percentileHistogram, maxQueryTags ) );
+	}
+
+	/**
+	 * Stop recording the operations of the session factory
+	 */
+	@Override
+	public synchronized void close() {
+		final MicrometerEventManager eventManager = boundEventManager;
+		if ( eventManager != null ) {
+			boundEventManager = null;
+			eventManager.unbind( sessionFactory.unwrap( SessionFactoryImplementor.class ) );
+			boundTimers.clear();
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.micrometer.internal.MicrometerEventManager;
+import org.hibernate.event.micrometer.internal.MicrometerTimers;
+import org.hibernate.stat.HibernateLatencyMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MicrometerLatencyMetricsTest extends BaseCoreFunctionalTestCase {
+
+	private static final String QUERY = "from Account";
+	private static final String OTHER_QUERY = "from Account where shortCode = 'testAcct'";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private HibernateLatencyMetrics metrics;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "false" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		metrics = new HibernateLatencyMetrics( sessionFactory(), "something", Tags.empty() )
+				.publishPercentiles( 0.5, 0.99 )
+				.maxQueryTags( 1 );
+		metrics.bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		metrics.close();
+		registry.clear();
+	}
+
+	@Test
+	public void testLatencyMetrics() {
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		assertTrue( registry.get( "hibernate.connections.acquisition.latency" ).timer().count() > 0 );
+		assertEquals( 1, registry.get( "hibernate.flush.latency" ).tags( "auto", "false" ).timer().count() );
+
+		session = openSession();
+		session.beginTransaction();
+		session.createQuery( QUERY, Account.class ).getResultList();
+		session.createQuery( QUERY, Account.class ).getResultList();
+		session.createQuery( OTHER_QUERY, Account.class ).getResultList();
+		session.getTransaction().commit();
+		session.close();
+
+		final Timer queryTimer = registry.get( "hibernate.query.latency" ).tags( "query", QUERY ).timer();
+		assertEquals( 2, queryTimer.count() );
+		assertNotNull( queryTimer.takeSnapshot().percentileValues() );
+		assertEquals( 2, queryTimer.takeSnapshot().percentileValues().length );
+		// the number of query tags is bounded
+		assertEquals(
+				1,
+				registry.get( "hibernate.query.latency" )
+						.tags( "query", MicrometerTimers.OTHER_QUERIES )
+						.timer()
+						.count()
+		);
+		assertTrue( registry.find( "hibernate.query.latency" ).tags( "query", OTHER_QUERY ).timers().isEmpty() );
+
+		// clean up
+		session = openSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete from Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testSecondBindRejected() {
+		try {
+			new HibernateLatencyMetrics( sessionFactory(), "something", Tags.empty() )
+					.bindTo( new SimpleMeterRegistry() );
+			fail( "Expected IllegalStateException" );
+		}
+		catch (IllegalStateException expected) {
+			// the metrics already bound are kept
+		}
+	}
+
+	@Test
+	public void testSeveralRegistries() {
+		final SimpleMeterRegistry otherRegistry = new SimpleMeterRegistry();
+		metrics.bindTo( otherRegistry );
+		// binding to the same registry again has no effect
+		metrics.bindTo( registry );
+
+		try ( Session session = openSession() ) {
+			session.createQuery( QUERY, Account.class ).getResultList();
+		}
+
+		assertEquals( 1, registry.get( "hibernate.query.latency" ).tags( "query", QUERY ).timer().count() );
+		assertEquals( 1, otherRegistry.get( "hibernate.query.latency" ).tags( "query", QUERY ).timer().count() );
+	}
+
+	@Test
+	public void testSessionFactoriesRecordedSeparately() {
+		final StandardServiceRegistry otherServiceRegistry =
+				new StandardServiceRegistryBuilder( (BootstrapServiceRegistry) serviceRegistry().getParentServiceRegistry() )
+						.applySetting( AvailableSettings.HBM2DDL_AUTO, "none" )
+						.applySetting( Environment.USE_SECOND_LEVEL_CACHE, "false" )
+						.build();
+		try ( SessionFactoryImplementor otherSessionFactory = (SessionFactoryImplementor) new MetadataSources( otherServiceRegistry )
+				.addAnnotatedClasses( getAnnotatedClasses() )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			// the event manager is shared by the session factories
+			assertSame(
+					MicrometerEventManager.find( sessionFactory().getFastSessionServices().getEventManager() ),
+					MicrometerEventManager.find( otherSessionFactory.getFastSessionServices().getEventManager() )
+			);
+
+			final SimpleMeterRegistry otherRegistry = new SimpleMeterRegistry();
+			new HibernateLatencyMetrics( otherSessionFactory, "other", Tags.empty() ).bindTo( otherRegistry );
+
+			try ( Session session = otherSessionFactory.openSession() ) {
+				session.createQuery( OTHER_QUERY, Account.class ).getResultList();
+			}
+			try ( Session session = openSession() ) {
+				session.createQuery( QUERY, Account.class ).getResultList();
+			}
+
+			assertEquals( 1, otherRegistry.get( "hibernate.query.latency" ).tags( "query", OTHER_QUERY ).timer().count() );
+			assertTrue( otherRegistry.find( "hibernate.query.latency" ).tags( "query", QUERY ).timers().isEmpty() );
+			assertEquals( 1, registry.get( "hibernate.query.latency" ).tags( "query", QUERY ).timer().count() );
+			assertTrue( registry.find( "hibernate.query.latency" ).tags( "query", OTHER_QUERY ).timers().isEmpty() );
+			assertEquals( 0, registry.get( "hibernate.query.latency" )
+					.tags( "query", MicrometerTimers.OTHER_QUERIES )
+					.timer()
+					.count() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( otherServiceRegistry );
+		}
+	}
+}
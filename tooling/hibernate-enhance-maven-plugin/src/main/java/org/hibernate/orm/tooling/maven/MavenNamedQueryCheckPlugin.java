@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.tooling.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.tool.queries.NamedQueryChecker;
+
+/**
+ * This plugin will check the named queries of the Entity objects, and record
+ * the checked queries so that they are not checked again at startup.
+ *
+ * @see NamedQueryChecker
+ */
+@Mojo(name = "check-named-queries", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
+public class MavenNamedQueryCheckPlugin extends AbstractMojo {
+
+	@Parameter(property = "dir", defaultValue = "${project.build.outputDirectory}")
+	private String dir;
+
+	@Parameter(property = "dialect", required = true)
+	private String dialect;
+
+	@Parameter(property = "databaseVersion")
+	private String databaseVersion;
+
+	@Parameter
+	private Map<String, String> settings = new HashMap<>();
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		final Log log = getLog();
+		final File root = new File( dir );
+		if ( !root.exists() ) {
+			log.info( "Skipping Hibernate named query check since there is no classes dir " + dir );
+			return;
+		}
+
+		final List<String> classNames = collectClassNames( root.toPath() );
+		final Map<String, Object> checkerSettings = new HashMap<>( settings );
+		checkerSettings.put( JdbcSettings.DIALECT, dialect );
+		if ( databaseVersion != null ) {
+			checkerSettings.put( JdbcSettings.JAKARTA_HBM2DDL_DB_VERSION, databaseVersion );
+		}
+
+		log.info( "Starting Hibernate named query check for classes on " + dir );
+		final ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try ( URLClassLoader classLoader = toClassLoader( root ) ) {
+			Thread.currentThread().setContextClassLoader( classLoader );
+			final int count = new NamedQueryChecker( classLoader, checkerSettings ).check( classNames, root );
+			log.info( "Checked " + count + " named queries" );
+		}
+		catch (NamedQueryValidationException e) {
+			throw new MojoFailureException( e.getMessage(), e );
+		}
+		catch (IOException e) {
+			throw new MojoExecutionException( "Unable to close class loader", e );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( originalClassLoader );
+		}
+	}
+
+	private static List<String> collectClassNames(Path root) throws MojoExecutionException {
+		try ( Stream<Path> files = Files.walk( root ) ) {
+			return files.filter( file -> file.getFileName().toString().endsWith( ".class" ) )
+					.map( file -> {
+						final String relativePath = root.relativize( file ).toString();
+						return relativePath.substring( 0, relativePath.length() - ".class".length() )
+								.replace( File.separatorChar, '.' );
+					} )
+					.collect( Collectors.toList() );
+		}
+		catch (IOException e) {
+			throw new MojoExecutionException( "Unable to list classes in " + root, e );
+		}
+	}
+
+	private URLClassLoader toClassLoader(File root) throws MojoExecutionException {
+		final List<URL> urls = new ArrayList<>();
+		try {
+			urls.add( root.toURI().toURL() );
+		}
+		catch (MalformedURLException e) {
+			throw new MojoExecutionException( "Unable to resolve classpath entry to URL: " + root.getAbsolutePath(), e );
+		}
+
+		// the dependencies, but the ones used for testing purposes
+		final MavenProject project = (MavenProject) getPluginContext().get( "project" );
+		final Set<Artifact> artifacts = project.getArtifacts();
+		if ( artifacts != null ) {
+			for ( Artifact artifact : artifacts ) {
+				if ( !Artifact.SCOPE_TEST.equals( artifact.getScope() ) ) {
+					try {
+						urls.add( artifact.getFile().toURI().toURL() );
+					}
+					catch (MalformedURLException e) {
+						throw new MojoExecutionException( "Unable to resolve URL for dependency " + artifact.getId(), e );
+					}
+				}
+			}
+		}
+
+		return new URLClassLoader( urls.toArray( new URL[0] ), NamedQueryChecker.class.getClassLoader() );
+	}
+}
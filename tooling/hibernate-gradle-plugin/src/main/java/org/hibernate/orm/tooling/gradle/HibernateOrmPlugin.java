@@ -18,6 +18,7 @@ import org.gradle.api.plugins.JvmEcosystemPlugin;
 import org.gradle.api.tasks.SourceSet;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
+import org.hibernate.orm.tooling.gradle.queries.NamedQueryCheckHelper;
 
 /**
  * Hibernate ORM Gradle plugin
@@ -32,6 +33,7 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 		final HibernateOrmSpec ormDsl = project.getExtensions().create( HibernateOrmSpec.DSL_NAME,  HibernateOrmSpec.class, project );
 
 		prepareEnhancement( ormDsl, project );
+		prepareNamedQueryCheck( ormDsl, project );
 		prepareHbmTransformation( ormDsl, project );
 
 
@@ -83,6 +85,44 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 		} );
 	}
 
+	private void prepareNamedQueryCheck(HibernateOrmSpec ormDsl, Project project) {
+		project.getGradle().getTaskGraph().whenReady( (graph) -> {
+			if ( !ormDsl.isNamedQueryCheckEnabled() ) {
+				return;
+			}
+
+			final SourceSet sourceSet = ormDsl.getSourceSet().get();
+			final Set<String> languages = ormDsl.getLanguages().getOrNull();
+			if ( languages == null ) {
+				return;
+			}
+
+			for ( String language : languages ) {
+				final String languageCompileTaskName = sourceSet.getCompileTaskName( language );
+				final Task languageCompileTask = project.getTasks().findByName( languageCompileTaskName );
+				if ( languageCompileTask == null ) {
+					continue;
+				}
+
+				//noinspection Convert2Lambda
+				languageCompileTask.doLast(new Action<>() {
+					@Override
+					public void execute(Task t) {
+						try {
+							final Method getDestinationDirectory = languageCompileTask.getClass().getMethod("getDestinationDirectory");
+							final DirectoryProperty classesDirectory = (DirectoryProperty) getDestinationDirectory.invoke(languageCompileTask);
+							final ClassLoader classLoader = Helper.toClassLoader(sourceSet, project);
+							NamedQueryCheckHelper.check(classesDirectory, classLoader, ormDsl, project);
+						}
+						catch (Exception e) {
+							throw new RuntimeException(e);
+						}
+					}
+				});
+			}
+		} );
+	}
+
 	private void prepareHbmTransformation(HibernateOrmSpec ormDsl, Project project) {
 
 	}
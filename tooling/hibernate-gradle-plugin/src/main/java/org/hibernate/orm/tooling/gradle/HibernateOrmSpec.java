@@ -20,6 +20,7 @@ import org.gradle.api.provider.SetProperty;
 import org.gradle.api.tasks.SourceSet;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementSpec;
+import org.hibernate.orm.tooling.gradle.queries.NamedQueriesSpec;
 
 /**
  * Main DSL extension for Hibernate ORM.  Available as `project.hibernate`
@@ -32,6 +33,7 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 	private final Project project;
 
 	private EnhancementSpec enhancementDsl;
+	private NamedQueriesSpec namedQueriesDsl;
 
 	private final Property<Boolean> useSameVersion;
 	private final Property<SourceSet> sourceSet;
@@ -123,6 +125,31 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 	}
 
 
+	/**
+	 * DSL extension for configuring the build-time checking of named queries.  Also acts
+	 * as the trigger for opting into this check
+	 */
+	public NamedQueriesSpec getNamedQueries() {
+		if ( namedQueriesDsl == null ) {
+			namedQueriesDsl = getExtensions().create( NamedQueriesSpec.DSL_NAME, NamedQueriesSpec.class, this, project );
+		}
+
+		return namedQueriesDsl;
+	}
+
+	/**
+	 * @see #getNamedQueries()
+	 */
+	public void namedQueries(Action<NamedQueriesSpec> action) {
+		action.execute( getNamedQueries() );
+	}
+
+
+	public boolean isNamedQueryCheckEnabled() {
+		return namedQueriesDsl != null;
+	}
+
+
 	/**
 	 * @see #getUseSameVersion()
 	 *
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.queries;
+
+import javax.inject.Inject;
+
+import org.gradle.api.Project;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+
+import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+
+/**
+ * DSL extension for configuring the build-time checking of named queries -
+ * available as `project.hibernateOrm.namedQueries`
+ *
+ * @see org.hibernate.tool.queries.NamedQueryChecker
+ */
+@SuppressWarnings( { "unused", "RedundantSuppression" } )
+public class NamedQueriesSpec {
+	public static final String NAMED_QUERIES = "namedQueries";
+
+	public static final String DSL_NAME = NAMED_QUERIES;
+
+	private final Property<String> dialect;
+	private final Property<String> databaseVersion;
+	private final MapProperty<String, String> settings;
+
+	@Inject
+	public NamedQueriesSpec(HibernateOrmSpec ormDsl, Project project) {
+		dialect = project.getObjects().property( String.class );
+		databaseVersion = project.getObjects().property( String.class );
+		settings = project.getObjects().mapProperty( String.class, String.class );
+	}
+
+	/**
+	 * The name of the Dialect class used at runtime.  The queries checked at build time
+	 * are only trusted at runtime if the same Dialect is used
+	 */
+	public Property<String> getDialect() {
+		return dialect;
+	}
+
+	/**
+	 * The version of the database used at runtime, for example {@code 16.2}.  The functions
+	 * available to the queries depend on it, so the queries checked at build time are only
+	 * trusted at runtime if the Dialect registers the same functions for that database
+	 */
+	public Property<String> getDatabaseVersion() {
+		return databaseVersion;
+	}
+
+	/**
+	 * Additional configuration settings used to boot the domain model
+	 */
+	public MapProperty<String, String> getSettings() {
+		return settings;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.queries;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.file.DirectoryProperty;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.tool.queries.NamedQueryChecker;
+
+import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
+
+/**
+ * Checks the named queries of the compiled classes
+ *
+ * @see NamedQueryChecker
+ */
+public class NamedQueryCheckHelper {
+	public static void check(
+			DirectoryProperty classesDirectoryProperty,
+			ClassLoader classLoader,
+			HibernateOrmSpec ormDsl,
+			Project project) {
+		final File classesDir = classesDirectoryProperty.get().getAsFile();
+		if ( !classesDir.exists() ) {
+			return;
+		}
+
+		final NamedQueriesSpec namedQueriesDsl = ormDsl.getNamedQueries();
+		final String dialect = namedQueriesDsl.getDialect().getOrNull();
+		if ( dialect == null ) {
+			throw new GradleException( "The 'dialect' must be specified for checking named queries" );
+		}
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.putAll( namedQueriesDsl.getSettings().get() );
+		settings.put( JdbcSettings.DIALECT, dialect );
+		final String databaseVersion = namedQueriesDsl.getDatabaseVersion().getOrNull();
+		if ( databaseVersion != null ) {
+			settings.put( JdbcSettings.JAKARTA_HBM2DDL_DB_VERSION, databaseVersion );
+		}
+
+		final List<String> classNames = new ArrayList<>();
+		collectClassNames( classesDir, classesDir, classNames );
+
+		try {
+			final int count = new NamedQueryChecker( classLoader, settings ).check( classNames, classesDir );
+			project.getLogger().info( "Successfully checked {} named HQL queries", count );
+		}
+		catch (NamedQueryValidationException e) {
+			throw new GradleException( e.getMessage(), e );
+		}
+	}
+
+	private static void collectClassNames(File classesDir, File dir, List<String> classNames) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				collectClassNames( classesDir, subLocation, classNames );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				classNames.add( determineClassName( classesDir, subLocation ) );
+			}
+		}
+	}
+}